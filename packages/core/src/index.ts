@@ -1,8 +1,11 @@
 export * from "./getSmithyContext";
 export * from "./middleware-http-auth-scheme";
 export * from "./middleware-http-signing";
+export * from "./middleware-request-coalescing";
 export * from "./normalizeProvider";
 export { createPaginator } from "./pagination/createPaginator";
+export type { MapPaginatedItemsOptions } from "./pagination/mapPaginatedItems";
+export { mapPaginatedItems, prefetchPages } from "./pagination/mapPaginatedItems";
 export * from "./request-builder/requestBuilder";
 export * from "./setFeature";
 export * from "./util-identity-and-auth";
@@ -0,0 +1,66 @@
+import type { HttpAuthOption, HttpAuthScheme } from "@smithy/types";
+import { describe, expect, test as it, vi } from "vitest";
+
+import { httpAuthSchemeMiddleware } from "./httpAuthSchemeMiddleware";
+
+describe(httpAuthSchemeMiddleware.name, () => {
+  const schemeId = "smithy.api#httpApiKeyAuth";
+
+  const setup = (option: HttpAuthOption) => {
+    const identityProvider = vi.fn().mockResolvedValue({ apiKey: "key" });
+    const scheme = {
+      schemeId,
+      identityProvider: () => identityProvider,
+      signer: { sign: vi.fn() },
+    } as unknown as HttpAuthScheme;
+    const config = {
+      httpAuthSchemes: [scheme],
+      httpAuthSchemeProvider: () => [option],
+    };
+    const middleware = httpAuthSchemeMiddleware<any, any, any, any, any>(config, {
+      httpAuthSchemeParametersProvider: async () => ({ operation: "GetFoo" }),
+      identityProviderConfigProvider: async () => ({}) as any,
+    });
+    const handle = async () => {
+      const context: any = {};
+      await middleware(vi.fn(), context)({ input: {} });
+      return context.__smithy_context.selectedHttpAuthScheme;
+    };
+    return { identityProvider, handle };
+  };
+
+  const createOption = (): HttpAuthOption => ({
+    schemeId,
+    identityProperties: { a: 1 },
+    signingProperties: { b: 2 },
+    propertiesExtractor: () => ({ identityProperties: { c: 3 }, signingProperties: { d: 4 } }),
+  });
+
+  it("merges extracted properties into the option of the auth scheme provider", async () => {
+    const option = createOption();
+    const { identityProvider, handle } = setup(option);
+
+    const selected = await handle();
+
+    expect(selected.httpAuthOption).toBe(option);
+    expect(option.identityProperties).toEqual({ a: 1, c: 3 });
+    expect(option.signingProperties).toEqual({ b: 2, d: 4 });
+    expect(identityProvider).toHaveBeenCalledWith({ a: 1, c: 3 });
+  });
+
+  it("copies frozen options shared between requests instead of mutating them", async () => {
+    const option = Object.freeze(createOption());
+    const { identityProvider, handle } = setup(option);
+
+    const first = await handle();
+    const second = await handle();
+
+    expect(first.httpAuthOption).not.toBe(option);
+    expect(first.httpAuthOption).not.toBe(second.httpAuthOption);
+    expect(first.httpAuthOption.identityProperties).toEqual({ a: 1, c: 3 });
+    expect(first.httpAuthOption.signingProperties).toEqual({ b: 2, d: 4 });
+    expect(option.identityProperties).toEqual({ a: 1 });
+    expect(option.signingProperties).toEqual({ b: 2 });
+    expect(identityProvider).toHaveBeenCalledWith({ a: 1, c: 3 });
+  });
+});
@@ -1,6 +1,7 @@
 import { getSmithyContext } from "@smithy/core/client";
 import type {
   HandlerExecutionContext,
+  HttpAuthOption,
   HttpAuthScheme,
   HttpAuthSchemeId,
   HttpAuthSchemeParameters,
@@ -107,11 +108,21 @@ export const httpAuthSchemeMiddleware =
         continue;
       }
       const { identityProperties = {}, signingProperties = {} } = option.propertiesExtractor?.(config, context) || {};
-      option.identityProperties = Object.assign(option.identityProperties || {}, identityProperties);
-      option.signingProperties = Object.assign(option.signingProperties || {}, signingProperties);
+      let httpAuthOption: HttpAuthOption = option;
+      if (Object.isFrozen(option)) {
+        // memoized auth scheme providers share frozen options between requests, so these are copied.
+        httpAuthOption = {
+          ...option,
+          identityProperties: Object.assign({}, option.identityProperties, identityProperties),
+          signingProperties: Object.assign({}, option.signingProperties, signingProperties),
+        };
+      } else {
+        option.identityProperties = Object.assign(option.identityProperties || {}, identityProperties);
+        option.signingProperties = Object.assign(option.signingProperties || {}, signingProperties);
+      }
       smithyContext.selectedHttpAuthScheme = {
-        httpAuthOption: option,
-        identity: await identityProvider(option.identityProperties),
+        httpAuthOption,
+        identity: await identityProvider(httpAuthOption.identityProperties),
         signer: scheme.signer,
       };
       break;
@@ -0,0 +1,81 @@
+import type { AbortSignal as DeprecatedAbortSignal } from "@smithy/types";
+
+/**
+ * @public
+ *
+ * Computes the key under which concurrent requests of a read-only operation are coalesced,
+ * or undefined if the request must not be coalesced.
+ */
+export type RequestCoalescingKeyFunction = (commandName: string, input: object) => string | undefined;
+
+/**
+ * @public
+ */
+export interface RequestCoalescingInputConfig {
+  /**
+   * Whether concurrent identical requests of read-only operations share a single request.
+   * Defaults to true.
+   */
+  requestCoalescing?: boolean;
+
+  /**
+   * Computes the key under which concurrent requests are coalesced.
+   * Defaults to the command name and a canonical serialization of the command input.
+   */
+  requestCoalescingKey?: RequestCoalescingKeyFunction;
+}
+
+/**
+ * @public
+ *
+ * Counters of the requests of a client that were subject to coalescing.
+ */
+export interface RequestCoalescingMetrics {
+  /**
+   * Number of requests that were sent.
+   */
+  sent: number;
+
+  /**
+   * Number of requests that were not sent because they waited for the result of an identical request.
+   */
+  coalesced: number;
+}
+
+/**
+ * @internal
+ */
+export interface RequestCoalescingResolvedConfig {
+  /**
+   * Resolved value for input config {@link RequestCoalescingInputConfig.requestCoalescing}
+   */
+  requestCoalescing: boolean;
+
+  /**
+   * Resolved value for input config {@link RequestCoalescingInputConfig.requestCoalescingKey}
+   */
+  requestCoalescingKey: RequestCoalescingKeyFunction;
+
+  /**
+   * Counters of the requests of the client that were subject to coalescing.
+   */
+  requestCoalescingMetrics: RequestCoalescingMetrics;
+}
+
+/**
+ * @internal
+ *
+ * The command and the handler options of a request, which determine whether it can be coalesced.
+ */
+export interface RequestCoalescingPluginOptions {
+  /**
+   * The command being sent. Requests of commands with their own middleware are not coalesced.
+   */
+  command?: { middlewareStack: { identify(): string[] } };
+
+  /**
+   * The handler options the command is sent with. Each request that waits for another
+   * request still observes its own abortSignal. Requests with other options are not coalesced.
+   */
+  options?: { abortSignal?: AbortSignal | DeprecatedAbortSignal; [option: string]: unknown };
+}
@@ -0,0 +1,3 @@
+export * from "./configurations";
+export * from "./requestCoalescingMiddleware";
+export * from "./resolveRequestCoalescingConfig";
@@ -0,0 +1,193 @@
+import type { HandlerExecutionContext } from "@smithy/types";
+import { describe, expect, test as it, vi } from "vitest";
+
+import { getRequestCoalescingPlugin, requestCoalescingMiddleware } from "./requestCoalescingMiddleware";
+import { canonicalSerialize, resolveRequestCoalescingConfig } from "./resolveRequestCoalescingConfig";
+
+describe(requestCoalescingMiddleware.name, () => {
+  const context: HandlerExecutionContext = { commandName: "GetFooCommand" };
+
+  const setup = (configInput: object = {}) => {
+    const config = resolveRequestCoalescingConfig(configInput);
+    let resolve!: (value: any) => void;
+    let reject!: (error: unknown) => void;
+    const next = vi.fn().mockImplementation(
+      () =>
+        new Promise((res, rej) => {
+          resolve = res;
+          reject = rej;
+        })
+    );
+    // each request applies the plugin with its own handler options.
+    const handler = (args: any, options: { abortSignal?: AbortSignal } = {}) =>
+      requestCoalescingMiddleware<any>(config, options)(next, context)(args);
+    return { config, next, handler, resolve: (value: any) => resolve(value), reject: (e: unknown) => reject(e) };
+  };
+
+  it("sends one request for concurrent identical requests and gives each its result", async () => {
+    const { config, next, handler, resolve } = setup();
+
+    const first = handler({ input: { Id: "a", Options: { x: 1, y: 2 } } });
+    const second = handler({ input: { Options: { y: 2, x: 1 }, Id: "a" } });
+    resolve({ output: { $metadata: {}, Value: 1 }, response: {} });
+
+    const [a, b] = await Promise.all([first, second]);
+    expect(next).toHaveBeenCalledTimes(1);
+    expect(a.output).toEqual({ $metadata: {}, Value: 1 });
+    expect(b.output).toEqual(a.output);
+    expect(b.output).not.toBe(a.output);
+    expect(config.requestCoalescingMetrics).toEqual({ sent: 1, coalesced: 1 });
+  });
+
+  it("gives each waiting request a deep copy of the output", async () => {
+    const { handler, resolve } = setup();
+
+    const first = handler({ input: { Id: "a" } });
+    const second = handler({ input: { Id: "a" } });
+    resolve({
+      output: {
+        $metadata: { httpStatusCode: 200 },
+        Items: [{ Name: "x", Tags: ["t"] }],
+        Created: new Date(0),
+        Blob: new Uint8Array([1]),
+      },
+      response: {},
+    });
+
+    const [a, b] = await Promise.all([first, second]);
+    expect(b.output).toEqual(a.output);
+    b.output.$metadata.httpStatusCode = 500;
+    b.output.Items[0].Tags.push("u");
+    b.output.Created.setTime(1);
+    b.output.Blob[0] = 2;
+    expect(a.output).toEqual({
+      $metadata: { httpStatusCode: 200 },
+      Items: [{ Name: "x", Tags: ["t"] }],
+      Created: new Date(0),
+      Blob: new Uint8Array([1]),
+    });
+  });
+
+  it("rejects a waiting request when its own abortSignal is aborted, without affecting the sent request", async () => {
+    const { next, handler, resolve } = setup();
+    const abortController = new AbortController();
+
+    const first = handler({ input: { Id: "a" } });
+    const second = handler({ input: { Id: "a" } }, { abortSignal: abortController.signal });
+    abortController.abort();
+
+    await expect(second).rejects.toThrow("Request aborted");
+    resolve({ output: { $metadata: {} }, response: {} });
+    await expect(first).resolves.toEqual({ output: { $metadata: {} }, response: {} });
+    expect(next).toHaveBeenCalledTimes(1);
+  });
+
+  it("retries the waiting requests when the sent request is aborted by its sender", async () => {
+    const { config, next, handler, resolve, reject } = setup();
+    const abortController = new AbortController();
+
+    const first = handler({ input: { Id: "a" } }, { abortSignal: abortController.signal });
+    const second = handler({ input: { Id: "a" } });
+    const third = handler({ input: { Id: "a" } });
+    abortController.abort();
+    reject(Object.assign(new Error("Request aborted"), { name: "AbortError" }));
+
+    await expect(first).rejects.toThrow("Request aborted");
+    await vi.waitFor(() => expect(next).toHaveBeenCalledTimes(2));
+    resolve({ output: { $metadata: {}, Value: 2 }, response: {} });
+
+    expect((await second).output).toEqual({ $metadata: {}, Value: 2 });
+    expect((await third).output).toEqual({ $metadata: {}, Value: 2 });
+    expect(config.requestCoalescingMetrics).toEqual({ sent: 2, coalesced: 2 });
+  });
+
+  it("sends requests with different inputs separately", async () => {
+    const { config, next, handler } = setup();
+
+    handler({ input: { Id: "a" } });
+    handler({ input: { Id: "b" } });
+
+    expect(next).toHaveBeenCalledTimes(2);
+    expect(config.requestCoalescingMetrics).toEqual({ sent: 2, coalesced: 0 });
+  });
+
+  it("sends a new request once the previous identical request has settled", async () => {
+    const { next, handler, resolve } = setup();
+
+    const first = handler({ input: { Id: "a" } });
+    resolve({ output: { $metadata: {} }, response: {} });
+    await first;
+    handler({ input: { Id: "a" } });
+
+    expect(next).toHaveBeenCalledTimes(2);
+  });
+
+  it("fails the waiting requests when the request fails", async () => {
+    const { handler, reject } = setup();
+
+    const first = handler({ input: { Id: "a" } });
+    const second = handler({ input: { Id: "a" } });
+    reject(new Error("failed"));
+
+    await expect(first).rejects.toThrow("failed");
+    await expect(second).rejects.toThrow("failed");
+  });
+
+  it("uses the configured key function and does not coalesce requests without a key", async () => {
+    const requestCoalescingKey = vi.fn().mockReturnValue(undefined);
+    const { config, next, handler } = setup({ requestCoalescingKey });
+
+    handler({ input: { Id: "a" } });
+    handler({ input: { Id: "a" } });
+
+    expect(requestCoalescingKey).toHaveBeenCalledWith("GetFooCommand", { Id: "a" });
+    expect(next).toHaveBeenCalledTimes(2);
+    expect(config.requestCoalescingMetrics).toEqual({ sent: 0, coalesced: 0 });
+  });
+
+  describe(getRequestCoalescingPlugin.name, () => {
+    const addedMiddleware = (pluginOptions: Parameters<typeof getRequestCoalescingPlugin>[1]) => {
+      const add = vi.fn();
+      getRequestCoalescingPlugin(resolveRequestCoalescingConfig({}), pluginOptions).applyToStack({ add } as any);
+      return add.mock.calls.length;
+    };
+    const command = (middleware: string[]) => ({ middlewareStack: { identify: () => middleware } });
+
+    it("coalesces requests of commands without middleware or handler options other than an abortSignal", () => {
+      expect(addedMiddleware(undefined)).toBe(1);
+      expect(addedMiddleware({ command: command([]), options: undefined })).toBe(1);
+      expect(addedMiddleware({ command: command([]), options: { abortSignal: new AbortController().signal } })).toBe(1);
+    });
+
+    it("does not coalesce requests of commands with their own middleware", () => {
+      expect(addedMiddleware({ command: command(["custom - initialize"]) })).toBe(0);
+    });
+
+    it("does not coalesce requests with other handler options", () => {
+      expect(addedMiddleware({ command: command([]), options: { requestTimeout: 1_000 } })).toBe(0);
+    });
+  });
+
+  it("can be disabled", async () => {
+    const { next, handler } = setup({ requestCoalescing: false });
+
+    handler({ input: { Id: "a" } });
+    handler({ input: { Id: "a" } });
+
+    expect(next).toHaveBeenCalledTimes(2);
+  });
+});
+
+describe(canonicalSerialize.name, () => {
+  it("does not depend on the order of object keys", () => {
+    expect(canonicalSerialize({ a: 1, b: { c: [1, { d: 2, e: 3 }] } })).toEqual(
+      canonicalSerialize({ b: { c: [1, { e: 3, d: 2 }] }, a: 1 })
+    );
+  });
+
+  it("serializes byte arrays and bigints", () => {
+    expect(canonicalSerialize({ blob: new Uint8Array([1, 2]), big: BigInt(3) })).toEqual(
+      `{"big":"3n","blob":[1,2]}`
+    );
+  });
+});
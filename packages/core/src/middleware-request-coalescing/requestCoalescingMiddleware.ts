@@ -0,0 +1,195 @@
+import type {
+  AbsoluteLocation,
+  AbortSignal as DeprecatedAbortSignal,
+  HandlerExecutionContext,
+  InitializeHandler,
+  InitializeHandlerArguments,
+  InitializeHandlerOptions,
+  InitializeHandlerOutput,
+  InitializeMiddleware,
+  MetadataBearer,
+  Pluggable,
+} from "@smithy/types";
+
+import type { RequestCoalescingPluginOptions, RequestCoalescingResolvedConfig } from "./configurations";
+
+/**
+ * @internal
+ */
+interface InFlightRequest {
+  result: Promise<InitializeHandlerOutput<any>>;
+  abortSignal?: AbortSignal | DeprecatedAbortSignal;
+}
+
+/**
+ * @internal
+ *
+ * Requests in flight, by client config and coalescing key.
+ */
+const inFlight = new WeakMap<object, Map<string, InFlightRequest>>();
+
+/**
+ * @internal
+ *
+ * Sends one request for concurrent requests of the same client that have the same coalescing key,
+ * and gives its result to all of them.
+ *
+ * - Each waiting request gets its own deep copy of the output.
+ * - A waiting request rejects when its own abortSignal is aborted, without affecting the sent request.
+ * - When the sent request is aborted by its own abortSignal, the waiting requests are retried.
+ *   Any other failure fails all of the waiting requests.
+ */
+export const requestCoalescingMiddleware =
+  <Output extends MetadataBearer>(
+    config: RequestCoalescingResolvedConfig,
+    options: RequestCoalescingPluginOptions["options"] = {}
+  ): InitializeMiddleware<any, Output> =>
+  (next: InitializeHandler<any, Output>, context: HandlerExecutionContext): InitializeHandler<any, Output> =>
+  async (args: InitializeHandlerArguments<any>): Promise<InitializeHandlerOutput<Output>> => {
+    const { abortSignal } = options;
+    if (!config.requestCoalescing || !context.commandName || abortSignal?.aborted) {
+      return next(args);
+    }
+    const key = config.requestCoalescingKey(context.commandName, args.input);
+    if (key === undefined) {
+      return next(args);
+    }
+
+    let requests = inFlight.get(config);
+    if (!requests) {
+      inFlight.set(config, (requests = new Map()));
+    }
+
+    let pending = requests.get(key);
+    if (pending) {
+      config.requestCoalescingMetrics.coalesced += 1;
+    }
+    while (pending) {
+      try {
+        const result = await raceAbort(pending.result, abortSignal);
+        return { ...result, output: copyOutput(result.output) };
+      } catch (e) {
+        if (!pending.abortSignal?.aborted || abortSignal?.aborted) {
+          throw e;
+        }
+        // the sent request was aborted by its sender, so this request joins the next one or is sent.
+        pending = requests.get(key);
+      }
+    }
+
+    const request: InFlightRequest = { result: next(args), abortSignal };
+    requests.set(key, request);
+    config.requestCoalescingMetrics.sent += 1;
+    try {
+      return await request.result;
+    } finally {
+      if (requests.get(key) === request) {
+        requests.delete(key);
+      }
+    }
+  };
+
+/**
+ * @internal
+ *
+ * @returns whether the command has no middleware of its own, and there are no handler options other than
+ * an abortSignal. Commands add their plugins to their own middleware stack, so this is called before that.
+ */
+const isCoalescible = (
+  command: RequestCoalescingPluginOptions["command"],
+  options: NonNullable<RequestCoalescingPluginOptions["options"]>
+): boolean => {
+  if (command && command.middlewareStack.identify().length > 0) {
+    return false;
+  }
+  return Object.keys(options).every((option) => option === "abortSignal" || options[option] === undefined);
+};
+
+/**
+ * @internal
+ *
+ * @returns the result, or a rejection with an AbortError once the abortSignal is aborted.
+ */
+const raceAbort = <T>(result: Promise<T>, abortSignal?: AbortSignal | DeprecatedAbortSignal): Promise<T> => {
+  if (!abortSignal) {
+    return result;
+  }
+  return new Promise<T>((resolve, reject) => {
+    const onAbort = () => {
+      const abortError = new Error("Request aborted");
+      abortError.name = "AbortError";
+      reject(abortError);
+    };
+    if (typeof (abortSignal as AbortSignal).addEventListener === "function") {
+      (abortSignal as AbortSignal).addEventListener("abort", onAbort, { once: true });
+    } else {
+      abortSignal.onabort = onAbort;
+    }
+    result.then(resolve, reject).finally(() => {
+      if (typeof (abortSignal as AbortSignal).removeEventListener === "function") {
+        (abortSignal as AbortSignal).removeEventListener("abort", onAbort);
+      }
+    });
+  });
+};
+
+/**
+ * @internal
+ *
+ * Copies arrays, plain objects, dates and byte arrays, so that a waiting request can modify its output
+ * without affecting the outputs of other requests. Other objects, such as numeric values, are immutable
+ * and shared.
+ */
+const copyOutput = <T>(value: T): T => {
+  if (value === null || typeof value !== "object") {
+    return value;
+  }
+  if (Array.isArray(value)) {
+    return value.map(copyOutput) as T;
+  }
+  if (value instanceof Date) {
+    return new Date(value.getTime()) as T;
+  }
+  if (value instanceof Uint8Array) {
+    return value.slice() as T;
+  }
+  const prototype = Object.getPrototypeOf(value);
+  if (prototype !== Object.prototype && prototype !== null) {
+    return value;
+  }
+  const copy = {} as Record<string, unknown>;
+  for (const key of Object.keys(value)) {
+    copy[key] = copyOutput((value as Record<string, unknown>)[key]);
+  }
+  return copy as T;
+};
+
+/**
+ * @internal
+ */
+export const requestCoalescingMiddlewareOptions: InitializeHandlerOptions & AbsoluteLocation = {
+  step: "initialize",
+  tags: ["REQUEST_COALESCING"],
+  name: "requestCoalescingMiddleware",
+  // runs after other initialize middleware, which may modify the input.
+  priority: "low",
+  override: true,
+};
+
+/**
+ * @internal
+ */
+export const getRequestCoalescingPlugin = <Output extends MetadataBearer>(
+  config: RequestCoalescingResolvedConfig,
+  { command, options = {} }: RequestCoalescingPluginOptions = {}
+): Pluggable<any, Output> => {
+  // the result of a request with command middleware or handler options may differ from that of an identical input.
+  const coalescible = isCoalescible(command, options);
+  return {
+    applyToStack: (clientStack) => {
+      if (coalescible) {
+        clientStack.add(requestCoalescingMiddleware<Output>(config, options), requestCoalescingMiddlewareOptions);
+      }
+    },
+  };
+};
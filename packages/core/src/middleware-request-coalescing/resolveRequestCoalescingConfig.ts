@@ -0,0 +1,54 @@
+import type {
+  RequestCoalescingInputConfig,
+  RequestCoalescingKeyFunction,
+  RequestCoalescingResolvedConfig,
+} from "./configurations";
+
+/**
+ * @internal
+ *
+ * Serializes a value to a string that is equal for equal values, regardless of the order of object keys.
+ */
+export const canonicalSerialize = (value: unknown): string =>
+  JSON.stringify(value, (_, v) => {
+    if (typeof v === "bigint") {
+      return `${v}n`;
+    }
+    if (ArrayBuffer.isView(v)) {
+      return Array.from(new Uint8Array(v.buffer, v.byteOffset, v.byteLength));
+    }
+    if (v && typeof v === "object" && !Array.isArray(v)) {
+      const sorted = {} as Record<string, unknown>;
+      for (const k of Object.keys(v).sort()) {
+        sorted[k] = v[k];
+      }
+      return sorted;
+    }
+    return v;
+  });
+
+/**
+ * @internal
+ */
+export const defaultRequestCoalescingKey: RequestCoalescingKeyFunction = (commandName, input) => {
+  try {
+    return `${commandName}\n${canonicalSerialize(input)}`;
+  } catch (e) {
+    // inputs that cannot be serialized, e.g. with circular references, are not coalesced.
+    return undefined;
+  }
+};
+
+/**
+ * @internal
+ */
+export const resolveRequestCoalescingConfig = <T>(
+  input: T & RequestCoalescingInputConfig
+): T & RequestCoalescingResolvedConfig => {
+  const { requestCoalescing, requestCoalescingKey } = input;
+  return Object.assign(input, {
+    requestCoalescing: requestCoalescing ?? true,
+    requestCoalescingKey: requestCoalescingKey ?? defaultRequestCoalescingKey,
+    requestCoalescingMetrics: { sent: 0, coalesced: 0 },
+  });
+};
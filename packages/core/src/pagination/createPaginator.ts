@@ -70,7 +70,7 @@ export function createPaginator<
 /**
  * @internal
  */
-const get = (fromObject: any, path: string): any => {
+export const get = (fromObject: any, path: string): any => {
   let cursor = fromObject;
   const pathComponents = path.split(".");
   for (const step of pathComponents) {
@@ -0,0 +1,96 @@
+import type { Paginator } from "@smithy/types";
+import { describe, expect, test as it } from "vitest";
+
+import { mapPaginatedItems, prefetchPages } from "./mapPaginatedItems";
+
+describe("paginated items", () => {
+  const pages = [{ Items: [1, 2] }, { Items: [3] }, {}, { Items: [4, 5, 6] }];
+
+  const paginator = (log: string[] = []): Paginator<{ Items?: number[] }> =>
+    (async function* () {
+      for (let i = 0; i < pages.length; ++i) {
+        log.push(`request ${i}`);
+        await new Promise((r) => setTimeout(r, 1));
+        yield pages[i];
+      }
+      return undefined;
+    })();
+
+  describe(prefetchPages.name, () => {
+    it("yields every page in order", async () => {
+      const received = [];
+      for await (const page of prefetchPages(paginator(), 2)) {
+        received.push(page);
+      }
+      expect(received).toEqual(pages);
+    });
+
+    it("requests the next page before the consumer asks for it", async () => {
+      const log: string[] = [];
+      for await (const page of prefetchPages(paginator(log), 1)) {
+        await new Promise((r) => setTimeout(r, 5));
+        log.push(`consumed ${pages.indexOf(page)}`);
+      }
+      expect(log.indexOf("request 1")).toBeLessThan(log.indexOf("consumed 0"));
+      expect(log.indexOf("request 2")).toBeLessThan(log.indexOf("consumed 1"));
+    });
+
+    it("surfaces page request errors when the page is reached", async () => {
+      const failing = (async function* () {
+        yield { Items: [1] };
+        throw new Error("page 1");
+      })();
+      const received = [];
+      await expect(async () => {
+        for await (const page of prefetchPages(failing, 3)) {
+          received.push(page);
+        }
+      }).rejects.toThrow("page 1");
+      expect(received).toEqual([{ Items: [1] }]);
+    });
+  });
+
+  describe(mapPaginatedItems.name, () => {
+    it("maps the items of every page in order", async () => {
+      const mapped = [];
+      for await (const value of mapPaginatedItems(paginator(), "Items", async (item: number) => item * 10)) {
+        mapped.push(value);
+      }
+      expect(mapped).toEqual([10, 20, 30, 40, 50, 60]);
+    });
+
+    it("maps at most the given number of items at once, preserving order", async () => {
+      let active = 0;
+      let maxActive = 0;
+      const mapped = [];
+      for await (const value of mapPaginatedItems(
+        paginator(),
+        "Items",
+        async (item: number) => {
+          maxActive = Math.max(maxActive, ++active);
+          await new Promise((r) => setTimeout(r, 7 - item));
+          --active;
+          return item;
+        },
+        { concurrency: 3, prefetch: 2 }
+      )) {
+        mapped.push(value);
+      }
+      expect(mapped).toEqual([1, 2, 3, 4, 5, 6]);
+      expect(maxActive).toBeGreaterThan(1);
+      expect(maxActive).toBeLessThanOrEqual(3);
+    });
+
+    it("reads items at a nested path", async () => {
+      const nested = (async function* () {
+        yield { Result: { Items: ["a", "b"] } };
+        return undefined;
+      })();
+      const mapped = [];
+      for await (const value of mapPaginatedItems(nested, "Result.Items", (item: string) => item.toUpperCase())) {
+        mapped.push(value);
+      }
+      expect(mapped).toEqual(["A", "B"]);
+    });
+  });
+});
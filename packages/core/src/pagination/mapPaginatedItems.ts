@@ -0,0 +1,102 @@
+import type { Paginator } from "@smithy/types";
+
+import { get } from "./createPaginator";
+
+/**
+ * @public
+ *
+ * Options for mapping the items of a paginated operation.
+ */
+export interface MapPaginatedItemsOptions {
+  /**
+   * Number of pages that are requested ahead of the page whose items are being mapped.
+   * Defaults to 1.
+   */
+  prefetch?: number;
+  /**
+   * Number of items that are mapped at the same time.
+   * Defaults to 1.
+   */
+  concurrency?: number;
+}
+
+/**
+ * @internal
+ */
+const noop = () => {};
+
+/**
+ * @internal
+ *
+ * Requests up to `prefetch` pages of the paginator ahead of its consumer.
+ * Pages are still requested one at a time, since each request needs the token of the
+ * previous page, but the next request no longer waits for the consumer to finish with
+ * the current page.
+ */
+export async function* prefetchPages<OutputType>(
+  paginator: Paginator<OutputType>,
+  prefetch = 1
+): Paginator<OutputType> {
+  if (!(prefetch >= 1)) {
+    return yield* paginator;
+  }
+  // async generators queue calls to next(), so the buffered results settle in page order.
+  const buffer: Promise<IteratorResult<OutputType, undefined>>[] = [];
+  const request = () => {
+    const next = paginator.next();
+    // rejections are surfaced when the page is reached.
+    next.catch(noop);
+    buffer.push(next);
+  };
+  try {
+    request();
+    while (buffer.length) {
+      const result = await buffer.shift()!;
+      if (result.done) {
+        return undefined;
+      }
+      while (buffer.length < prefetch) {
+        request();
+      }
+      yield result.value;
+    }
+  } finally {
+    // stops the paginator when the consumer stops early.
+    paginator.return(undefined).catch(noop);
+  }
+  return undefined;
+}
+
+/**
+ * @internal
+ *
+ * Maps the items of each page of a paginator, found at the paginated items path of its
+ * operation, while the following pages are requested.
+ *
+ * Mapped values are yielded in the order of the items.
+ */
+export async function* mapPaginatedItems<OutputType, ItemType, ResultType>(
+  paginator: Paginator<OutputType>,
+  itemsPath: string,
+  mapper: (item: ItemType) => ResultType | Promise<ResultType>,
+  options: MapPaginatedItemsOptions = {}
+): AsyncGenerator<ResultType, undefined, undefined> {
+  const concurrency = Math.max(1, options.concurrency ?? 1);
+  const mapping: Promise<ResultType>[] = [];
+  for await (const page of prefetchPages(paginator, options.prefetch ?? 1)) {
+    const items: ItemType[] = get(page, itemsPath) ?? [];
+    for (const item of items) {
+      if (mapping.length >= concurrency) {
+        yield await mapping.shift()!;
+      }
+      const result = Promise.resolve(item).then(mapper);
+      // rejections are surfaced when the item is reached.
+      result.catch(noop);
+      mapping.push(result);
+    }
+  }
+  while (mapping.length) {
+    yield await mapping.shift()!;
+  }
+  return undefined;
+}
@@ -92,6 +92,13 @@ export class SmithyRpcV2CborProtocol extends RpcProtocol {
     return super.deserializeResponse<Output>(operationSchema, context, response);
   }
 
+  /**
+   * @override
+   */
+  protected getErrorCode(response: IHttpResponse, dataObject: any): string | undefined {
+    return loadSmithyRpcV2CborErrorCode(response, dataObject);
+  }
+
   protected async handleError(
     operationSchema: OperationSchema,
     context: HandlerExecutionContext & SerdeFunctions,
@@ -132,14 +139,14 @@ export class SmithyRpcV2CborProtocol extends RpcProtocol {
 
       const baseExceptionSchema = registry.getBaseException();
       if (baseExceptionSchema) {
-        const ErrorCtor = registry.getErrorCtor(baseExceptionSchema);
+        const ErrorCtor = await registry.loadErrorCtor(baseExceptionSchema);
         throw Object.assign(new ErrorCtor({ name: errorName }), errorMetadata, dataObject);
       }
       throw Object.assign(new Error(errorName), errorMetadata, dataObject);
     }
 
     const ns = NormalizedSchema.of(errorSchema);
-    const ErrorCtor = registry.getErrorCtor(errorSchema);
+    const ErrorCtor = await registry.loadErrorCtor(errorSchema);
     const message = dataObject.message ?? dataObject.Message ?? "Unknown";
     const exception = new ErrorCtor(message);
 
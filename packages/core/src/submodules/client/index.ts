@@ -24,7 +24,7 @@ export {
 export { Client, type SmithyConfiguration, type SmithyResolvedConfiguration } from "./smithy-client/client";
 export { Command, type CommandImpl } from "./smithy-client/command";
 export { SENSITIVE_STRING } from "./smithy-client/constants";
-export { createAggregatedClient } from "./smithy-client/create-aggregated-client";
+export { createAggregatedClient, createLazyAggregatedClient } from "./smithy-client/create-aggregated-client";
 export { throwDefaultError, withBaseException } from "./smithy-client/default-error-handler";
 export {
   loadConfigsForDefaultMode,
@@ -85,3 +85,4 @@ export {
 export { schemaLogFilter } from "./smithy-client/schemaLogFilter";
 export { serializeFloat, serializeDateTime } from "./smithy-client/ser-utils";
 export { _json } from "./smithy-client/serde-json";
+export { warmupClient, type WarmupCommandCtor } from "./smithy-client/warmup-client";
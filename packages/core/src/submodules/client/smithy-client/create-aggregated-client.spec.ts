@@ -1,6 +1,6 @@
 import { describe, expect, test as it, vi } from "vitest";
 
-import { createAggregatedClient } from "./create-aggregated-client";
+import { createAggregatedClient, createLazyAggregatedClient } from "./create-aggregated-client";
 
 class BaseClient {
   send = vi.fn() as any;
@@ -61,3 +61,74 @@ describe(createAggregatedClient.name, () => {
     expect(aggregatedClient.send).toHaveBeenCalled();
   });
 });
+
+describe(createLazyAggregatedClient.name, () => {
+  const createClient = (commands: Record<string, any>, options?: Record<string, any>) => {
+    class LazyAggregatedClient extends BaseClient {}
+    createLazyAggregatedClient(commands, LazyAggregatedClient as any, options);
+    return new LazyAggregatedClient() as any;
+  };
+
+  it("loads the command on first use only", async () => {
+    const ActionCommand = vi.fn();
+    const loader = vi.fn().mockResolvedValue(ActionCommand);
+    const aggregatedClient = createClient({ ActionCommand: loader });
+
+    expect(loader).not.toHaveBeenCalled();
+
+    await aggregatedClient.action({ a: "a" });
+    await aggregatedClient.action({ b: "b" });
+
+    expect(loader).toHaveBeenCalledTimes(1);
+    expect(ActionCommand).toHaveBeenCalledWith({ a: "a" });
+    expect(ActionCommand).toHaveBeenCalledWith({ b: "b" });
+    expect(aggregatedClient.send).toHaveBeenCalledTimes(2);
+  });
+
+  it("loads prefetched commands immediately", async () => {
+    const actionLoader = vi.fn().mockResolvedValue(vi.fn());
+    const otherLoader = vi.fn().mockResolvedValue(vi.fn());
+    createClient({ ActionCommand: actionLoader, OtherCommand: otherLoader }, { prefetch: ["ActionCommand"] });
+
+    expect(actionLoader).toHaveBeenCalledTimes(1);
+    expect(otherLoader).not.toHaveBeenCalled();
+  });
+
+  it("retries a failed load and passes the error to the callback", async () => {
+    const ActionCommand = vi.fn();
+    const loader = vi.fn().mockRejectedValueOnce(new Error("load failed")).mockResolvedValue(ActionCommand);
+    const aggregatedClient = createClient({ ActionCommand: loader });
+    const cb = vi.fn();
+
+    await aggregatedClient.action({}, cb);
+    expect(cb).toHaveBeenCalledWith(new Error("load failed"));
+
+    await aggregatedClient.action({});
+    expect(loader).toHaveBeenCalledTimes(2);
+    expect(aggregatedClient.send).toHaveBeenCalledTimes(1);
+  });
+
+  it("loads paginators and waiters on first use", async () => {
+    const paginatorFn = vi.fn(async function* () {
+      yield { page: 1 };
+    });
+    const waiterFn = vi.fn().mockResolvedValue({ state: "SUCCESS" });
+    const aggregatedClient = createClient(
+      {},
+      {
+        paginators: { paginateAction: async () => paginatorFn },
+        waiters: { waitUntilReady: async () => waiterFn },
+      }
+    );
+
+    const pages = [];
+    for await (const page of aggregatedClient.paginateAction({ a: "a" }, { pageSize: 1 })) {
+      pages.push(page);
+    }
+    expect(pages).toEqual([{ page: 1 }]);
+    expect(paginatorFn).toHaveBeenCalledWith({ pageSize: 1, client: aggregatedClient }, { a: "a" });
+
+    expect(await aggregatedClient.waitUntilReady({ b: "b" }, 10)).toEqual({ state: "SUCCESS" });
+    expect(waiterFn).toHaveBeenCalledWith({ maxWaitTime: 10, client: aggregatedClient }, { b: "b" });
+  });
+});
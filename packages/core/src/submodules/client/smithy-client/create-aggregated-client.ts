@@ -12,6 +12,16 @@ type AggregatedClientPaginationConfiguration = Omit<PaginationConfiguration, "cl
  */
 type AggregatedClientWaiterConfiguration<C> = Omit<WaiterConfiguration<C>, "client">;
 
+/**
+ * @internal
+ */
+type AggregatedClientCtor = { new (...args: any): Client<any, any, any, any> };
+
+/**
+ * @internal
+ */
+type Loader<T = any> = () => Promise<T>;
+
 /**
  * @internal
  *
@@ -23,7 +33,7 @@ type AggregatedClientWaiterConfiguration<C> = Omit<WaiterConfiguration<C>, "clie
  */
 export const createAggregatedClient = (
   commands: Record<string, any>,
-  Client: { new (...args: any): Client<any, any, any, any> },
+  Client: AggregatedClientCtor,
   options?: {
     paginators?: Record<string, any>;
     waiters?: Record<string, any>;
@@ -37,20 +47,133 @@ export const createAggregatedClient = (
       optionsOrCb: any,
       cb: any
     ) {
-      const command: any = new CommandCtor(args);
-      if (typeof optionsOrCb === "function") {
-        this.send(command, optionsOrCb);
-      } else if (typeof cb === "function") {
-        if (typeof optionsOrCb !== "object") throw new Error(`Expected http options but got ${typeof optionsOrCb}`);
-        this.send(command, optionsOrCb || {}, cb);
-      } else {
-        return this.send(command, optionsOrCb);
-      }
+      return dispatch(this, CommandCtor, args, optionsOrCb, cb);
     };
-    const methodName = (command[0].toLowerCase() + command.slice(1)).replace(/Command$/, "");
-    Client.prototype[methodName] = methodImpl;
+    Client.prototype[getMethodName(command)] = methodImpl;
   }
   const { paginators = {}, waiters = {} } = options ?? {};
+  addPaginators(Client, paginators);
+  addWaiters(Client, waiters);
+};
+
+/**
+ * @internal
+ *
+ * Same as {@link createAggregatedClient}, except that commands, paginators, and waiters
+ * are given as loaders, e.g. `() => import("./commands/GetFooCommand").then((m) => m.GetFooCommand)`.
+ * Each loader is called once, on first use of the corresponding method, so that only the
+ * modules of methods actually called are loaded.
+ *
+ * @param commands - command loader lookup container.
+ * @param Client - client instance on which to add aggregated methods.
+ * @param options - paginator and waiter loaders, and names of commands to load immediately.
+ */
+export const createLazyAggregatedClient = (
+  commands: Record<string, Loader>,
+  Client: AggregatedClientCtor,
+  options?: {
+    paginators?: Record<string, Loader>;
+    waiters?: Record<string, Loader>;
+    prefetch?: string[];
+  }
+): void => {
+  type CommandInput = any;
+  const loaders: Record<string, Loader> = {};
+  for (const [command, loadCommand] of Object.entries(commands)) {
+    const load = (loaders[command] = memoize(loadCommand));
+    const methodImpl = async function (
+      this: InstanceType<typeof Client>,
+      args: CommandInput,
+      optionsOrCb: any,
+      cb: any
+    ) {
+      let CommandCtor: any;
+      try {
+        CommandCtor = await load();
+      } catch (e) {
+        const callback = typeof optionsOrCb === "function" ? optionsOrCb : cb;
+        if (typeof callback === "function") {
+          return void callback(e);
+        }
+        throw e;
+      }
+      return dispatch(this, CommandCtor, args, optionsOrCb, cb);
+    };
+    Client.prototype[getMethodName(command)] = methodImpl;
+  }
+  const { paginators = {}, waiters = {}, prefetch = [] } = options ?? {};
+  const lazyPaginators: Record<string, any> = {};
+  for (const [paginatorName, loadPaginator] of Object.entries(paginators)) {
+    const load = memoize(loadPaginator);
+    lazyPaginators[paginatorName] = async function* (...args: any[]) {
+      const paginatorFn = await load();
+      yield* paginatorFn(...args);
+    };
+  }
+  const lazyWaiters: Record<string, any> = {};
+  for (const [waiterName, loadWaiter] of Object.entries(waiters)) {
+    const load = memoize(loadWaiter);
+    lazyWaiters[waiterName] = async (...args: any[]) => (await load())(...args);
+  }
+  addPaginators(Client, lazyPaginators);
+  addWaiters(Client, lazyWaiters);
+  for (const command of prefetch) {
+    // errors are surfaced when the method is called, since failed loads are retried.
+    loaders[command]?.().catch(() => {});
+  }
+};
+
+/**
+ * @internal
+ *
+ * @returns the aggregated method name of a command, e.g. getFoo for GetFooCommand.
+ */
+const getMethodName = (command: string): string =>
+  (command[0].toLowerCase() + command.slice(1)).replace(/Command$/, "");
+
+/**
+ * @internal
+ *
+ * @returns a loader that calls the given loader at most once at a time and caches its result.
+ * A rejected load is not cached, so that it may be retried.
+ */
+const memoize = <T>(load: Loader<T>): Loader<T> => {
+  let loaded: Promise<T> | undefined;
+  return () =>
+    (loaded ??= load().catch((e) => {
+      loaded = undefined;
+      throw e;
+    }));
+};
+
+/**
+ * @internal
+ *
+ * Sends a command in the promise or callback style, according to the aggregated method's arguments.
+ */
+const dispatch = (
+  client: Client<any, any, any, any>,
+  CommandCtor: any,
+  args: any,
+  optionsOrCb: any,
+  cb: any
+): Promise<any> | void => {
+  const command: any = new CommandCtor(args);
+  if (typeof optionsOrCb === "function") {
+    client.send(command, optionsOrCb);
+  } else if (typeof cb === "function") {
+    if (typeof optionsOrCb !== "object") throw new Error(`Expected http options but got ${typeof optionsOrCb}`);
+    client.send(command, optionsOrCb || {}, cb);
+  } else {
+    return client.send(command, optionsOrCb);
+  }
+};
+
+/**
+ * @internal
+ */
+const addPaginators = (Client: AggregatedClientCtor, paginators: Record<string, any>): void => {
+  type CommandInput = any;
   for (const [paginatorName, paginatorFn] of Object.entries(paginators)) {
     if (Client.prototype[paginatorName] === void 0) {
       Client.prototype[paginatorName] = function (
@@ -70,6 +193,13 @@ export const createAggregatedClient = (
       };
     }
   }
+};
+
+/**
+ * @internal
+ */
+const addWaiters = (Client: AggregatedClientCtor, waiters: Record<string, any>): void => {
+  type CommandInput = any;
   for (const [waiterName, waiterFn] of Object.entries(waiters)) {
     if (Client.prototype[waiterName] === void 0) {
       Client.prototype[waiterName] = async function (
@@ -51,4 +51,15 @@ describe(_json.name, () => {
       a: { b: 5, c: [{ a: 5, b: 6 }, 6] },
     });
   });
+
+  it("passes through byte arrays", () => {
+    const bytes = new Uint8Array([0, 1, 2]);
+    const output = _json({
+      a: bytes,
+      b: [bytes, null],
+    });
+    expect(output.a).toBe(bytes);
+    expect(output.b).toEqual([bytes]);
+    expect(output.b[0]).toBe(bytes);
+  });
 });
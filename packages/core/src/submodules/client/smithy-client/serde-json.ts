@@ -4,7 +4,8 @@
  * Maps an object through the default JSON serde behavior.
  * This means removing nullish fields and un-sparsifying lists.
  *
- * This is also used by Smithy RPCv2 CBOR as the default serde behavior.
+ * This is also used by Smithy RPCv2 CBOR as the default serde behavior,
+ * where byte strings (Uint8Array) are passed through unchanged.
  *
  * @param obj - to be checked.
  * @returns same object with default serde behavior applied.
@@ -16,6 +17,9 @@ export const _json = (obj: any): any => {
   if (Array.isArray(obj)) {
     return obj.filter((_: any) => _ != null).map(_json);
   }
+  if (ArrayBuffer.isView(obj)) {
+    return obj;
+  }
   if (typeof obj === "object") {
     const target: any = {};
     for (const key of Object.keys(obj)) {
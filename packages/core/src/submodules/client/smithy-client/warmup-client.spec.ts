@@ -0,0 +1,43 @@
+import type { StaticOperationSchema, StaticStructureSchema } from "@smithy/types";
+import { describe, expect, test as it, vi } from "vitest";
+
+import { warmupClient } from "./warmup-client";
+
+describe(warmupClient.name, () => {
+  const createClient = (config: Record<string, unknown>) => ({ config, middlewareStack: {} }) as any;
+
+  it("resolves configuration providers", async () => {
+    const endpoint = vi.fn().mockResolvedValue({ hostname: "localhost" });
+    const retryStrategy = vi.fn().mockResolvedValue({});
+
+    await warmupClient(createClient({ endpoint, retryStrategy, region: "us-west-2" }));
+
+    expect(endpoint).toHaveBeenCalledTimes(1);
+    expect(retryStrategy).toHaveBeenCalledTimes(1);
+  });
+
+  it("builds the middleware stack of each command without sending it", async () => {
+    const client = createClient({});
+    const resolveMiddleware = vi.fn();
+    class ExampleCommand {
+      public constructor(public readonly input: any) {}
+      public resolveMiddleware = resolveMiddleware;
+    }
+
+    await warmupClient(client, [ExampleCommand]);
+
+    expect(resolveMiddleware).toHaveBeenCalledWith(client.middlewareStack, client.config, undefined);
+  });
+
+  it("walks recursive operation schemas once", async () => {
+    const Node: StaticStructureSchema = [3, "ns", "Node", 0, ["next", "value"], [() => Node, 0]];
+    const operation: StaticOperationSchema = [9, "ns", "Walk", 0, Node, "unit"];
+    class WalkCommand {
+      public readonly schema = operation;
+      public constructor(public readonly input: any) {}
+      public resolveMiddleware = vi.fn();
+    }
+
+    await expect(warmupClient(createClient({}), [WalkCommand])).resolves.toBeUndefined();
+  });
+});
@@ -0,0 +1,89 @@
+import { NormalizedSchema } from "@smithy/core/schema";
+import type { $SchemaRef, OperationSchema, SchemaRef, StaticOperationSchema } from "@smithy/types";
+
+import type { Client } from "./client";
+
+/**
+ * @internal
+ *
+ * Resolved configuration providers that are memoized, or whose first call
+ * loads code or files that later calls reuse.
+ */
+const WARMUP_CONFIG_PROVIDERS = [
+  "endpoint",
+  "serviceConfiguredEndpoint",
+  "useDualstackEndpoint",
+  "useFipsEndpoint",
+  "maxAttempts",
+  "retryStrategy",
+];
+
+/**
+ * @internal
+ */
+export type WarmupCommandCtor = {
+  new (input: any): {
+    readonly schema?: OperationSchema | StaticOperationSchema;
+    resolveMiddleware(stack: any, configuration: any, options: any): unknown;
+  };
+};
+
+/**
+ * @internal
+ *
+ * Does the work of a client's first request that does not depend on the input,
+ * so that it can run ahead of time, e.g. during the initialization phase of a function.
+ * No request is sent.
+ *
+ * @param client - client to warm up.
+ * @param commands - command classes whose schemas and middleware stacks are built.
+ */
+export const warmupClient = async (
+  client: Client<any, any, any, any>,
+  commands: WarmupCommandCtor[] = []
+): Promise<void> => {
+  const visited = new Set<unknown>();
+  for (const CommandCtor of commands) {
+    const command = new CommandCtor({});
+    const op = command.schema;
+    if (op) {
+      warmupSchema((op as StaticOperationSchema)[4] ?? (op as OperationSchema).input, visited);
+      warmupSchema((op as StaticOperationSchema)[5] ?? (op as OperationSchema).output, visited);
+    }
+    command.resolveMiddleware(client.middlewareStack, client.config, undefined);
+  }
+
+  const config = client.config as Record<string, unknown>;
+  const providers = [] as unknown[];
+  for (const key of WARMUP_CONFIG_PROVIDERS) {
+    const provider = config[key];
+    if (typeof provider === "function") {
+      providers.push(provider());
+    }
+  }
+  await Promise.all(providers);
+};
+
+/**
+ * Normalizes a schema and the schemas reachable from it, which caches
+ * their normalized forms and merged traits.
+ */
+const warmupSchema = (ref: SchemaRef | $SchemaRef, visited: Set<unknown>): void => {
+  const ns = NormalizedSchema.of(ref);
+  const schema = ns.getSchema();
+  ns.getMergedTraits();
+  if (typeof schema !== "object" || visited.has(schema)) {
+    return;
+  }
+  visited.add(schema);
+  if (ns.isStructSchema()) {
+    for (const [, member] of ns.structIterator()) {
+      member.getMergedTraits();
+      warmupSchema(member.getSchema() as $SchemaRef, visited);
+    }
+  } else if (ns.isListSchema()) {
+    warmupSchema(ns.getValueSchema().getSchema() as $SchemaRef, visited);
+  } else if (ns.isMapSchema()) {
+    warmupSchema(ns.getValueSchema().getSchema() as $SchemaRef, visited);
+  }
+};
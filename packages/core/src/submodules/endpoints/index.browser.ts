@@ -9,6 +9,7 @@ export * from "./toEndpointV1";
 // @smithy/util-endpoints
 export { BinaryDecisionDiagram } from "./util-endpoints/bdd/BinaryDecisionDiagram";
 export { EndpointCache } from "./util-endpoints/cache/EndpointCache";
+export type { EndpointCacheStats } from "./util-endpoints/cache/EndpointCache";
 export { decideEndpoint } from "./util-endpoints/decideEndpoint";
 export { isIpAddress } from "./util-endpoints/lib/isIpAddress";
 export { isValidHostLabel } from "./util-endpoints/lib/isValidHostLabel";
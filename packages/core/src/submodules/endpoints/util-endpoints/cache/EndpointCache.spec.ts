@@ -82,4 +82,32 @@ describe(EndpointCache.name, () => {
     expect(cache.get({ A: "b", B: "b1" }, () => endpoint2)).toBe(endpoint2);
     expect(cache.size()).toEqual(size + 1);
   });
+
+  it("should keep recently read entries when evicting", () => {
+    const cache = new EndpointCache({
+      size: 5,
+      params: ["A"],
+    });
+
+    cache.get({ A: "first" }, () => endpoint1);
+    for (let i = 0; i < 50; ++i) {
+      cache.get({ A: "a" + i }, () => endpoint2);
+      expect(cache.get({ A: "first" }, () => endpoint2)).toBe(endpoint1);
+    }
+  });
+
+  it("should count hits and misses", () => {
+    const cache = new EndpointCache({
+      size: 50,
+      params: ["A"],
+    });
+
+    cache.get({ A: "a" }, () => endpoint1);
+    cache.get({ A: "a" }, () => endpoint1);
+    cache.get({ A: "a" }, () => endpoint1);
+    cache.get({ A: "b" }, () => endpoint2);
+    cache.get({ A: "|;" }, () => endpoint2);
+
+    expect(cache.stats()).toEqual({ hits: 2, misses: 3, size: 2 });
+  });
 });
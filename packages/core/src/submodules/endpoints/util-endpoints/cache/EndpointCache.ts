@@ -1,14 +1,36 @@
 import type { EndpointParams, EndpointV2 } from "@smithy/types";
 
+/**
+ * @public
+ *
+ * Counters of an {@link EndpointCache}.
+ */
+export interface EndpointCacheStats {
+  /**
+   * Lookups answered from the cache.
+   */
+  hits: number;
+  /**
+   * Lookups that called the resolver, including those bypassing the cache.
+   */
+  misses: number;
+  /**
+   * Number of cached endpoints.
+   */
+  size: number;
+}
+
 /**
  * @internal
  *
- * Cache for endpoint ruleSet resolution.
+ * Least recently used cache for endpoint ruleSet resolution.
  */
 export class EndpointCache {
   private capacity: number;
   private data = new Map<string, EndpointV2>();
   private parameters: string[] = [];
+  private hits = 0;
+  private misses = 0;
 
   /**
    * @param [size] - desired average maximum capacity. A buffer of 10 additional keys will be allowed
@@ -33,30 +55,51 @@ export class EndpointCache {
   public get(endpointParams: EndpointParams, resolver: () => EndpointV2): EndpointV2 {
     const key = this.hash(endpointParams);
     if (key === false) {
+      ++this.misses;
       return resolver();
     }
 
-    if (!this.data.has(key)) {
-      if (this.data.size > this.capacity + 10) {
-        const keys = this.data.keys();
-        let i = 0;
-        while (true) {
-          const { value, done } = keys.next();
-          this.data.delete(value as string);
-          if (done || ++i > 10) {
-            break;
-          }
+    const cached = this.data.get(key);
+    if (cached !== undefined) {
+      ++this.hits;
+      // re-inserting the key makes it the most recently used.
+      this.data.delete(key);
+      this.data.set(key, cached);
+      return cached;
+    }
+
+    ++this.misses;
+    if (this.data.size > this.capacity + 10) {
+      const keys = this.data.keys();
+      let i = 0;
+      while (true) {
+        const { value, done } = keys.next();
+        this.data.delete(value as string);
+        if (done || ++i > 10) {
+          break;
         }
       }
-      this.data.set(key, resolver());
     }
-    return this.data.get(key)!;
+    const endpoint = resolver();
+    this.data.set(key, endpoint);
+    return endpoint;
   }
 
   public size() {
     return this.data.size;
   }
 
+  /**
+   * @returns hit and miss counts since the cache was created.
+   */
+  public stats(): EndpointCacheStats {
+    return {
+      hits: this.hits,
+      misses: this.misses,
+      size: this.data.size,
+    };
+  }
+
   /**
    * @returns cache key or false if not cachable.
    */
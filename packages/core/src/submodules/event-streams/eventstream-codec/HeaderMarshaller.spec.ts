@@ -225,6 +225,50 @@ describe("HeaderMarshaller", () => {
         })
       ).toThrowError("Invalid UUID received");
     });
+
+    it("should reuse the encoding of frozen headers", () => {
+      const headers: MessageHeaders = Object.freeze({
+        ":event-type": Object.freeze({ type: "string", value: "alpha" }),
+        ":message-type": Object.freeze({ type: "string", value: "event" }),
+      }) as MessageHeaders;
+      const formatted = marshaller.format(headers);
+
+      expect(marshaller.format(headers)).toBe(formatted);
+      expect(marshaller.parse(new DataView(formatted.buffer))).toEqual(headers);
+    });
+
+    it("should not reuse the encoding of frozen headers with object values", () => {
+      const date = new Date(1_000_000);
+      const headers: MessageHeaders = Object.freeze({
+        ":event-type": Object.freeze({ type: "string", value: "alpha" }),
+        sent: Object.freeze({ type: "timestamp", value: date }),
+      }) as MessageHeaders;
+      marshaller.format(headers);
+      date.setTime(2_000_000);
+
+      expect(marshaller.parse(new DataView(marshaller.format(headers).buffer))).toEqual({
+        ":event-type": { type: "string", value: "alpha" },
+        sent: { type: "timestamp", value: new Date(2_000_000) },
+      });
+    });
+
+    it("should combine frozen and mutable header values", () => {
+      const eventType = Object.freeze({ type: "string", value: "alpha" }) as MessageHeaders[string];
+      const first = marshaller.format({ ":event-type": eventType, count: { type: "integer", value: 1 } });
+      const second = marshaller.format({ ":event-type": eventType, count: { type: "integer", value: 2 } });
+
+      expect(marshaller.parse(new DataView(first.buffer))).toEqual({
+        ":event-type": { type: "string", value: "alpha" },
+        count: { type: "integer", value: 1 },
+      });
+      expect(marshaller.parse(new DataView(second.buffer))).toEqual({
+        ":event-type": { type: "string", value: "alpha" },
+        count: { type: "integer", value: 2 },
+      });
+      expect(marshaller.format({ renamed: eventType })).toEqual(
+        marshaller.format({ renamed: { type: "string", value: "alpha" } })
+      );
+    });
   });
 
   describe("#parse", () => {
@@ -7,26 +7,70 @@ import { Int64 } from "./Int64";
  * @internal
  */
 export class HeaderMarshaller {
+  /**
+   * Encoded bytes of immutable header maps and header values. Generated event marshallers
+   * freeze the headers that are fixed by the event type, so those are only encoded once.
+   *
+   * Object.freeze is shallow, so a header value is only treated as immutable when it is
+   * frozen and its value is a primitive. A Date, Int64 or byte array value can still
+   * change in place and is encoded on every call. A header map is only cached when it is
+   * frozen and all of its header values are immutable.
+   */
+  private readonly frozenHeaders = new WeakMap<MessageHeaders, Uint8Array>();
+  private readonly frozenHeaderValues = new WeakMap<MessageHeaderValue, { name: string; bytes: Uint8Array }>();
+
   constructor(
     private readonly toUtf8: Encoder,
     private readonly fromUtf8: Decoder
   ) {}
 
   format(headers: MessageHeaders): Uint8Array {
+    const cached = this.frozenHeaders.get(headers);
+    if (cached) {
+      return cached;
+    }
+
     const chunks: Array<Uint8Array> = [];
+    let isImmutable = Object.isFrozen(headers);
 
     for (const headerName of Object.keys(headers)) {
+      const header = headers[headerName];
+      if (isImmutableHeader(header)) {
+        chunks.push(this.formatFrozenHeader(headerName, header));
+        continue;
+      }
+      isImmutable = false;
       const bytes = this.fromUtf8(headerName);
-      chunks.push(Uint8Array.from([bytes.byteLength]), bytes, this.formatHeaderValue(headers[headerName]));
+      chunks.push(Uint8Array.from([bytes.byteLength]), bytes, this.formatHeaderValue(header));
+    }
+
+    const out = this.concat(chunks);
+    if (isImmutable) {
+      this.frozenHeaders.set(headers, out);
+    }
+    return out;
+  }
+
+  private formatFrozenHeader(headerName: string, header: MessageHeaderValue): Uint8Array {
+    const cached = this.frozenHeaderValues.get(header);
+    if (cached && cached.name === headerName) {
+      return cached.bytes;
     }
+    const nameBytes = this.fromUtf8(headerName);
+    const bytes = this.concat([Uint8Array.from([nameBytes.byteLength]), nameBytes, this.formatHeaderValue(header)]);
+    if (!cached) {
+      this.frozenHeaderValues.set(header, { name: headerName, bytes });
+    }
+    return bytes;
+  }
 
+  private concat(chunks: Array<Uint8Array>): Uint8Array {
     const out = new Uint8Array(chunks.reduce((carry, bytes) => carry + bytes.byteLength, 0));
     let position = 0;
     for (const chunk of chunks) {
       out.set(chunk, position);
       position += chunk.byteLength;
     }
-
     return out;
   }
 
@@ -200,3 +244,10 @@ const TIMESTAMP_TAG = "timestamp";
 const UUID_TAG = "uuid";
 
 const UUID_PATTERN = /^[a-f0-9]{8}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{12}$/;
+
+/**
+ * @returns whether the encoding of the header value cannot change, because the header
+ * is frozen and its value is not an object that can be modified in place.
+ */
+const isImmutableHeader = (header: MessageHeaderValue): boolean =>
+  Object.isFrozen(header) && (typeof header.value !== "object" || header.value === null);
@@ -1,4 +1,4 @@
-import { map, struct } from "@smithy/core/schema";
+import { map, struct, TypeRegistry } from "@smithy/core/schema";
 import { HttpRequest } from "@smithy/protocol-http";
 import type {
   EndpointV2,
@@ -7,9 +7,10 @@ import type {
   HttpResponse as IHttpResponse,
   Schema,
   SerdeFunctions,
+  StaticErrorSchema,
   TimestampEpochSecondsSchema,
 } from "@smithy/types";
-import { describe, expect, test as it } from "vitest";
+import { describe, expect, test as it, vi } from "vitest";
 
 import { HttpProtocol } from "./HttpProtocol";
 import { FromStringShapeDeserializer } from "./serde/FromStringShapeDeserializer";
@@ -47,6 +48,47 @@ describe(HttpProtocol.name, () => {
     });
   });
 
+  describe("loadErrorCtors", () => {
+    const NotFound = [-3, "lazy.protocol", "NotFound", { error: "client" }, [], []] satisfies StaticErrorSchema;
+    const Conflict = [-3, "lazy.protocol", "Conflict", { error: "client" }, [], []] satisfies StaticErrorSchema;
+    const response: IHttpResponse = { statusCode: 404, headers: {} };
+
+    const setup = (getErrorCode: (response: IHttpResponse, dataObject: any) => string | undefined) => {
+      const registry = TypeRegistry.for("lazy.protocol");
+      const loadNotFound = vi.fn().mockResolvedValue(class NotFoundException extends Error {});
+      const loadConflict = vi.fn().mockResolvedValue(class ConflictException extends Error {});
+      registry.registerErrorLoader(NotFound, loadNotFound);
+      registry.registerErrorLoader(Conflict, loadConflict);
+      const loadErrorCtors = (HttpProtocol.prototype as any).loadErrorCtors.bind({
+        compositeErrorRegistry: registry,
+        getErrorCode,
+      }) as (response: IHttpResponse, dataObject: any) => Promise<void>;
+      return { registry, loadNotFound, loadConflict, loadErrorCtors };
+    };
+
+    it("loads only the constructor of the response's error code", async () => {
+      const { registry, loadNotFound, loadConflict, loadErrorCtors } = setup((_, dataObject) => dataObject.__type);
+
+      await loadErrorCtors(response, { __type: "lazy.protocol#NotFound" });
+
+      expect(loadNotFound).toHaveBeenCalledTimes(1);
+      expect(loadConflict).not.toHaveBeenCalled();
+      registry.clear();
+    });
+
+    it("loads every pending constructor if the protocol does not read the error code", async () => {
+      const { registry, loadNotFound, loadConflict, loadErrorCtors } = setup(
+        (HttpProtocol.prototype as any).getErrorCode
+      );
+
+      await loadErrorCtors(response, {});
+
+      expect(loadNotFound).toHaveBeenCalledTimes(1);
+      expect(loadConflict).toHaveBeenCalledTimes(1);
+      registry.clear();
+    });
+  });
+
   it("ignores http bindings (only HttpBindingProtocol uses them)", async () => {
     type TestSignature = (
       schema: Schema,
@@ -162,6 +162,33 @@ export abstract class HttpProtocol extends SerdeContext implements ClientProtoco
     }
   }
 
+  /**
+   * Protocols that can read the error code of an error response before {@link HttpProtocol.handleError}
+   * should implement this, so that only the constructor of that error is loaded when error
+   * constructors are registered lazily.
+   *
+   * @returns the error code of the response, or undefined if it is only known in handleError.
+   */
+  protected getErrorCode(response: IHttpResponse, dataObject: any): string | undefined {
+    void [response, dataObject];
+    return undefined;
+  }
+
+  /**
+   * Called before {@link HttpProtocol.handleError} to load error constructors that were
+   * registered lazily, since handleError implementations look them up synchronously.
+   *
+   * Only the constructor of the response's error code is loaded. If the protocol does not
+   * implement {@link HttpProtocol.getErrorCode}, every pending constructor is loaded.
+   */
+  protected async loadErrorCtors(response: IHttpResponse, dataObject: any): Promise<void> {
+    const errorCode = this.getErrorCode(response, dataObject);
+    if (errorCode === undefined) {
+      return this.compositeErrorRegistry.loadErrorCtors();
+    }
+    return this.compositeErrorRegistry.loadErrorCtorById(errorCode);
+  }
+
   protected abstract handleError(
     operationSchema: OperationSchema,
     context: HandlerExecutionContext & SerdeFunctions,
@@ -106,6 +106,7 @@ export abstract class RpcProtocol extends HttpProtocol {
       if (bytes.byteLength > 0) {
         Object.assign(dataObject, await deserializer.read(15 satisfies DocumentSchema, bytes));
       }
+      await this.loadErrorCtors(response, dataObject);
       await this.handleError(operationSchema, context, response, dataObject, this.deserializeMetadata(response));
       throw new Error("@smithy/core/protocols - RPC Protocol error handler failed to throw.");
     }
@@ -1,5 +1,5 @@
 import type { StaticErrorSchema, StaticListSchema, StaticMapSchema, StaticStructureSchema } from "@smithy/types";
-import { describe, expect, test as it } from "vitest";
+import { describe, expect, test as it, vi } from "vitest";
 
 import { TypeRegistry } from "./TypeRegistry";
 
@@ -46,6 +46,57 @@ describe(TypeRegistry.name, () => {
     expect(tr.getBaseException()).toBe(err);
   });
 
+  describe("lazy errors", () => {
+    const NotFound = [-3, "lazy", "NotFound", { error: "client" }, [], []] satisfies StaticErrorSchema;
+    class NotFoundException extends Error {}
+
+    it("registers the schema immediately and loads the constructor on first lookup", async () => {
+      const tr = TypeRegistry.for("lazy");
+      const load = vi.fn().mockResolvedValue(NotFoundException);
+      tr.registerErrorLoader(NotFound, load);
+
+      expect(tr.getSchema("NotFound")).toBe(NotFound);
+      expect(tr.getErrorCtor(NotFound)).toBeUndefined();
+      expect(load).not.toHaveBeenCalled();
+
+      expect(await tr.loadErrorCtor(NotFound)).toBe(NotFoundException);
+      expect(await tr.loadErrorCtor(NotFound)).toBe(NotFoundException);
+      expect(tr.getErrorCtor(NotFound)).toBe(NotFoundException);
+      expect(load).toHaveBeenCalledTimes(1);
+      tr.clear();
+    });
+
+    it("loads only the constructor of the given error id", async () => {
+      const tr = TypeRegistry.for("lazy");
+      const Conflict = [-3, "lazy", "Conflict", { error: "client" }, [], []] satisfies StaticErrorSchema;
+      const loadNotFound = vi.fn().mockResolvedValue(NotFoundException);
+      const loadConflict = vi.fn().mockResolvedValue(class ConflictException extends Error {});
+      tr.registerErrorLoader(NotFound, loadNotFound);
+      tr.registerErrorLoader(Conflict, loadConflict);
+
+      await tr.loadErrorCtorById("NotFound");
+      await tr.loadErrorCtorById("lazy#NotFound");
+      await tr.loadErrorCtorById("lazy#Unmodeled");
+
+      expect(tr.getErrorCtor(NotFound)).toBe(NotFoundException);
+      expect(loadNotFound).toHaveBeenCalledTimes(1);
+      expect(loadConflict).not.toHaveBeenCalled();
+      tr.clear();
+    });
+
+    it("loads pending constructors of composed registries", async () => {
+      const tr = TypeRegistry.for("lazy");
+      const composite = TypeRegistry.for("lazy-composite");
+      tr.registerErrorLoader(NotFound, async () => NotFoundException);
+      composite.copyFrom(tr);
+
+      await composite.loadErrorCtors();
+      expect(composite.getErrorCtor(NotFound)).toBe(NotFoundException);
+      tr.clear();
+      composite.clear();
+    });
+  });
+
   describe("composition", () => {
     it("can be composed", () => {
       const tr1 = TypeRegistry.for("namespace");
@@ -13,7 +13,8 @@ export class TypeRegistry {
   private constructor(
     public readonly namespace: string,
     private schemas: Map<string, ISchema> = new Map(),
-    private exceptions: Map<StaticErrorSchema, any> = new Map()
+    private exceptions: Map<StaticErrorSchema, any> = new Map(),
+    private errorLoaders: Map<string, () => Promise<any>> = new Map()
   ) {}
 
   /**
@@ -34,7 +35,7 @@ export class TypeRegistry {
    * @param other - another TypeRegistry.
    */
   public copyFrom(other: TypeRegistry) {
-    const { schemas, exceptions } = this;
+    const { schemas, exceptions, errorLoaders } = this;
     for (const [k, v] of other.schemas) {
       if (!schemas.has(k)) {
         schemas.set(k, v);
@@ -45,6 +46,11 @@ export class TypeRegistry {
         exceptions.set(k, v);
       }
     }
+    for (const [k, v] of other.errorLoaders) {
+      if (!errorLoaders.has(k)) {
+        errorLoaders.set(k, v);
+      }
+    }
   }
 
   /**
@@ -84,6 +90,72 @@ export class TypeRegistry {
     }
   }
 
+  /**
+   * Associates an error schema with a function loading its constructor, so that the module
+   * defining the constructor is only loaded when the error is deserialized.
+   * The schema itself is registered immediately.
+   *
+   * @param es - error schema.
+   * @param load - resolves the error constructor, e.g. `() => import("../models/errors").then((m) => m.MyError)`.
+   */
+  public registerErrorLoader(es: ErrorSchema | StaticErrorSchema, load: () => Promise<any>) {
+    const $error = es as StaticErrorSchema;
+    const ns = $error[1];
+    for (const r of [this, TypeRegistry.for(ns)]) {
+      r.schemas.set(ns + "#" + $error[2], $error);
+      r.errorLoaders.set(ns + "#" + $error[2], load);
+    }
+  }
+
+  /**
+   * Same as {@link TypeRegistry.getErrorCtor}, but loads the constructor first
+   * if it was registered with {@link TypeRegistry.registerErrorLoader}.
+   *
+   * @param es - query.
+   * @returns Error constructor that extends the service's base exception.
+   */
+  public async loadErrorCtor(es: ErrorSchema | StaticErrorSchema): Promise<any> {
+    const $error = es as StaticErrorSchema;
+    const id = $error[1] + "#" + $error[2];
+    let ctor = this.getErrorCtor($error);
+    if (ctor === undefined) {
+      const load = this.errorLoaders.get(id) ?? TypeRegistry.for($error[1]).errorLoaders.get(id);
+      if (load) {
+        ctor = await load();
+        this.registerError($error, ctor);
+      }
+    }
+    this.errorLoaders.delete(id);
+    return ctor;
+  }
+
+  /**
+   * Loads the constructor of a single error if it was registered with
+   * {@link TypeRegistry.registerErrorLoader} and is not yet loaded.
+   * Other pending constructors are left unloaded.
+   *
+   * @param shapeId - qualified id of the error, or its name in this registry's namespace.
+   */
+  public async loadErrorCtorById(shapeId: string): Promise<void> {
+    const id = this.normalizeShapeId(shapeId);
+    const nsRegistry = TypeRegistry.for(id.split("#")[0]);
+    if (this.errorLoaders.has(id) || nsRegistry.errorLoaders.has(id)) {
+      await this.loadErrorCtor((this.schemas.get(id) ?? nsRegistry.schemas.get(id)) as StaticErrorSchema);
+    }
+  }
+
+  /**
+   * Loads every error constructor registered with {@link TypeRegistry.registerErrorLoader}
+   * and not yet loaded, so that {@link TypeRegistry.getErrorCtor} may be used for any error.
+   */
+  public async loadErrorCtors(): Promise<void> {
+    const pending: Promise<any>[] = [];
+    for (const id of this.errorLoaders.keys()) {
+      pending.push(this.loadErrorCtor(this.schemas.get(id) as StaticErrorSchema));
+    }
+    await Promise.all(pending);
+  }
+
   /**
    * @param es - query.
    * @returns Error constructor that extends the service's base exception.
@@ -142,6 +214,7 @@ export class TypeRegistry {
   public clear() {
     this.schemas.clear();
     this.exceptions.clear();
+    this.errorLoaders.clear();
   }
 
   private normalizeShapeId(shapeId: string) {
@@ -230,6 +230,34 @@ describe(NormalizedSchema.name, () => {
         expect(member.getMemberSchema("c").isMapSchema()).toBe(true);
       });
     });
+
+    describe("member index table", () => {
+      const wide = [
+        3,
+        "ack",
+        "WideStructure",
+        0,
+        ["a", "b", "c"],
+        [0, [1, { httpHeader: "x-b" }], List],
+        0,
+        { a: 0, b: 1, c: 2 },
+      ] satisfies StaticStructureSchema;
+
+      it("looks up members by the generated index table", () => {
+        const ns = NormalizedSchema.of(wide);
+        expect(ns.getMemberSchema("a").isStringSchema()).toBe(true);
+        expect(ns.getMemberSchema("b").isNumericSchema()).toBe(true);
+        expect(ns.getMemberSchema("b").getMergedTraits().httpHeader).toEqual("x-b");
+        expect(ns.getMemberSchema("c").isListSchema()).toBe(true);
+      });
+
+      it("throws for names that are not members, including inherited object keys", () => {
+        const ns = NormalizedSchema.of(wide);
+        expect(() => ns.getMemberSchema("d")).toThrow();
+        expect(() => ns.getMemberSchema("toString")).toThrow();
+        expect(() => ns.getMemberSchema("constructor")).toThrow();
+      });
+    });
   });
 
   describe("iteration", () => {
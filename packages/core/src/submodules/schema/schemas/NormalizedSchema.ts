@@ -419,10 +419,12 @@ export class NormalizedSchema implements INormalizedSchema {
    */
   public getMemberSchema(memberName: string): NormalizedSchema {
     const struct = this.getSchema() as StaticStructureSchema;
-    if (this.isStructSchema() && struct[4].includes(memberName)) {
-      const i = struct[4].indexOf(memberName);
-      const memberSchema = struct[5][i];
-      return member(isMemberSchema(memberSchema) ? memberSchema : [memberSchema, 0], memberName);
+    if (this.isStructSchema()) {
+      const i = memberIndex(struct, memberName);
+      if (i !== -1) {
+        const memberSchema = struct[5][i];
+        return member(isMemberSchema(memberSchema) ? memberSchema : [memberSchema, 0], memberName);
+      }
     }
     if (this.isDocumentSchema()) {
       return member([15 satisfies DocumentSchema, 0], memberName);
@@ -506,6 +508,23 @@ export class NormalizedSchema implements INormalizedSchema {
   }
 }
 
+/**
+ * @returns the index of the member in the structure's member lists, or -1 if there is no such member.
+ * Uses the generated member index table of wide structures when present.
+ *
+ * @internal
+ */
+function memberIndex(struct: StaticStructureSchema, memberName: string): number {
+  const table = struct[7];
+  if (table) {
+    const i = table[memberName];
+    // the table is a plain object, so the name is checked against
+    // the member list to rule out inherited keys.
+    return struct[4][i] === memberName ? i : -1;
+  }
+  return struct[4].indexOf(memberName);
+}
+
 /**
  * Creates a normalized member schema from the given schema and member name.
  *
@@ -88,6 +88,7 @@ export type StaticStructureSchema = [
   string[], // member name list.
   $SchemaRef[], // member schema list.
   number?, // required member count, front-loaded in the lists.
+  Record<string, number>?, // member name to index table, optionally generated for wide structures.
 ];
 
 /**
@@ -113,6 +114,7 @@ export type StaticErrorSchema = [
   string[], // member name list.
   $SchemaRef[], // member schema list.
   number?, // required member count, front-loaded in the lists.
+  Record<string, number>?, // member name to index table, optionally generated for wide structures.
 ];
 
 /**
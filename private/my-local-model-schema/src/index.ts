@@ -8,6 +8,8 @@
 export * from "./XYZServiceClient";
 export * from "./XYZService";
 export type { ClientInputEndpointParameters } from "./endpoint/EndpointParameters";
+export { getEndpointCacheStats } from "./endpoint/endpointResolver";
+export { getEndpointCacheStats } from "./endpoint/endpointResolver";
 export type { RuntimeExtension } from "./runtimeExtensions";
 export type { XYZServiceExtensionConfiguration } from "./extensionConfiguration";
 export * from "./commands";
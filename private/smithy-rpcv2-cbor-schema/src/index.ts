@@ -3,6 +3,8 @@
 export * from "./RpcV2ProtocolClient";
 export * from "./RpcV2Protocol";
 export type { ClientInputEndpointParameters } from "./endpoint/EndpointParameters";
+export { getEndpointCacheStats } from "./endpoint/endpointResolver";
+export { getEndpointCacheStats } from "./endpoint/endpointResolver";
 export type { RuntimeExtension } from "./runtimeExtensions";
 export type { RpcV2ProtocolExtensionConfiguration } from "./extensionConfiguration";
 export * from "./commands";
@@ -1,5 +1,5 @@
 // smithy-typescript generated code
-import { type EndpointParams, decideEndpoint, EndpointCache } from "@smithy/core/endpoints";
+import { type EndpointCacheStats, type EndpointParams, decideEndpoint, EndpointCache } from "@smithy/core/endpoints";
 import type { EndpointV2, Logger } from "@smithy/types";
 
 import { bdd } from "./bdd";
@@ -24,3 +24,10 @@ export const defaultEndpointResolver = (
     })
   );
 };
+
+/**
+ * Hit and miss counts of the endpoint cache shared by clients using the default endpoint resolver.
+ *
+ * @public
+ */
+export const getEndpointCacheStats = (): EndpointCacheStats => cache.stats();
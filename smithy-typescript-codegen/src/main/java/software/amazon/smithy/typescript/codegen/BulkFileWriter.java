@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.codegen.core.CodegenException;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Writes the files of many writers at once, as an alternative to writing each file
+ * through {@link FileManifest#writeFile(String, String)}.
+ *
+ * <p>The directories of all files are created up front, once each. Files are then rendered
+ * and written by a fixed number of threads. A file whose contents on disk are already
+ * identical to the rendered contents is not written again, so that its modification time
+ * is kept for incremental builds of the generated package.
+ *
+ * <p>Files are written to the file system directly, so only manifests that write to the
+ * file system as {@link FileManifest#create(Path)} does are supported. Other manifests,
+ * such as in-memory or wrapping manifests, are written to through the manifest instead.
+ */
+@SmithyInternalApi
+final class BulkFileWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(BulkFileWriter.class.getName());
+    private static final Class<?> FILE_SYSTEM_MANIFEST = FileManifest.create(Paths.get("")).getClass();
+
+    private final FileManifest fileManifest;
+    private final int threads;
+
+    /**
+     * @param fileManifest Manifest the files are written to and registered in.
+     * @param threads Number of threads writing files.
+     */
+    BulkFileWriter(FileManifest fileManifest, int threads) {
+        this.fileManifest = fileManifest;
+        this.threads = threads;
+    }
+
+    /**
+     * @param fileManifest Manifest to write files to.
+     * @return whether files can be written to the manifest by a bulk file writer.
+     */
+    static boolean supports(FileManifest fileManifest) {
+        return fileManifest.getClass() == FILE_SYSTEM_MANIFEST;
+    }
+
+    /**
+     * Renders and writes the files of the given writers.
+     *
+     * @param writers Writers by the name of their file, relative to the manifest.
+     * @return the number of files that were unchanged and therefore not written.
+     */
+    int write(Map<String, TypeScriptWriter> writers) {
+        Map<Path, TypeScriptWriter> files = new TreeMap<>();
+        Set<Path> directories = new TreeSet<>();
+        writers.forEach((filename, writer) -> {
+            Path path = fileManifest.resolvePath(Paths.get(filename));
+            files.put(path, writer);
+            directories.add(path.getParent());
+        });
+
+        try {
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+        } catch (IOException e) {
+            throw new CodegenException("Failed to create directories of generated files", e);
+        }
+
+        AtomicInteger unchanged = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "smithy-typescript-file-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> writes = new ArrayList<>(files.size());
+            files.forEach((path, writer) -> {
+                Runnable write = () -> {
+                    if (!writeIfChanged(path, writer.toString())) {
+                        unchanged.incrementAndGet();
+                    }
+                };
+                writes.add(CompletableFuture.runAsync(write, executor));
+            });
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new CodegenException("Failed to write generated files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        files.keySet().forEach(fileManifest::addFile);
+        LOGGER.fine(() -> "Wrote %d files, %d unchanged".formatted(files.size() - unchanged.get(), unchanged.get()));
+        return unchanged.get();
+    }
+
+    /**
+     * @return whether the file was written, i.e. it did not exist or had other contents.
+     */
+    private static boolean writeIfChanged(Path path, String contents) {
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        try {
+            try {
+                if (Files.size(path) == bytes.length && Arrays.equals(Files.readAllBytes(path), bytes)) {
+                    return false;
+                }
+            } catch (NoSuchFileException e) {
+                // the file is new.
+            }
+            Files.write(path, bytes);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + path, e);
+        }
+    }
+}
@@ -23,14 +23,12 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.OperationIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
-import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
@@ -40,14 +38,12 @@ import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.traits.DeprecatedTrait;
 import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.traits.ErrorTrait;
-import software.amazon.smithy.model.traits.ExamplesTrait;
 import software.amazon.smithy.model.traits.InternalTrait;
-import software.amazon.smithy.model.traits.StreamingTrait;
-import software.amazon.smithy.typescript.codegen.documentation.DocumentationExampleGenerator;
-import software.amazon.smithy.typescript.codegen.documentation.StructureExampleGenerator;
+import software.amazon.smithy.typescript.codegen.documentation.CommandExampleGenerator;
 import software.amazon.smithy.typescript.codegen.endpointsV2.RuleSetParameterFinder;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
 import software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin;
+import software.amazon.smithy.typescript.codegen.integration.SerdeModuleScope;
 import software.amazon.smithy.typescript.codegen.knowledge.ServiceClosure;
 import software.amazon.smithy.typescript.codegen.schema.SchemaGenerationAllowlist;
 import software.amazon.smithy.typescript.codegen.sections.CommandBodyExtraCodeSection;
@@ -56,7 +52,6 @@ import software.amazon.smithy.typescript.codegen.sections.CommandPropertiesCodeS
 import software.amazon.smithy.typescript.codegen.sections.PreCommandClassCodeSection;
 import software.amazon.smithy.typescript.codegen.sections.SmithyContextCodeSection;
 import software.amazon.smithy.typescript.codegen.util.CommandWriterConsumer;
-import software.amazon.smithy.typescript.codegen.util.PropertyAccessor;
 import software.amazon.smithy.typescript.codegen.validation.SensitiveDataFinder;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
@@ -101,10 +96,7 @@ final class CommandGenerator implements Runnable {
         this.operation = operation;
         this.symbolProvider = symbolProvider;
         this.writer = writer;
-        this.runtimePlugins = runtimePlugins
-            .stream()
-            .filter(plugin -> plugin.matchesOperation(model, service, operation))
-            .collect(Collectors.toList());
+        this.runtimePlugins = runtimePlugins;
         this.protocolGenerator = protocolGenerator;
         this.applicationProtocol = applicationProtocol;
         this.closure = ServiceClosure.of(model, service);
@@ -135,22 +127,35 @@ final class CommandGenerator implements Runnable {
 
         String name = symbol.getName();
 
-        StringBuilder additionalDocs = new StringBuilder()
-            .append("\n")
-            .append(
-                getCommandExample(
-                    serviceSymbol
-                        .getName(),
-                    configType,
-                    name,
-                    inputType.getName(),
-                    outputType.getName()
+        CommandExampleGenerator exampleGenerator = new CommandExampleGenerator(settings, model, operation);
+        String serviceName = serviceSymbol.getName();
+        String references = exampleGenerator.getCommandReferences(
+            serviceName,
+            configType,
+            inputType.getName(),
+            outputType.getName()
+        );
+        StringBuilder additionalDocs = new StringBuilder().append("\n");
+        if (settings.separateCommandExamples()) {
+            // Examples are generated in the background, see DirectedTypeScriptCodegen.
+            additionalDocs
+                .append(references)
+                .append(
+                    "@see `%s` in the package for examples.%n".formatted(
+                        CommandExampleGenerator.getExamplesFilename(name).replace('\\', '/')
+                    )
                 )
-            )
-            .append("\n")
-            .append(getThrownExceptions())
-            .append("\n")
-            .append(getCuratedExamples(name));
+                .append("\n")
+                .append(getThrownExceptions());
+        } else {
+            additionalDocs
+                .append(exampleGenerator.getCommandExample(serviceName, name))
+                .append(references)
+                .append("\n")
+                .append(getThrownExceptions())
+                .append("\n")
+                .append(exampleGenerator.getCuratedExamples(name));
+        }
 
         boolean operationHasDocumentation = operation.hasTrait(DocumentationTrait.class);
 
@@ -284,147 +289,6 @@ final class CommandGenerator implements Runnable {
         writer.write("}"); // class close bracket.
     }
 
-    private String getCommandExample(
-        String serviceName,
-        String configName,
-        String commandName,
-        String commandInput,
-        String commandOutput
-    ) {
-        String packageName = settings.getPackageName();
-        String exampleDoc =
-            "@example\n" +
-                "Use a bare-bones client and the command you need to make an API call.\n" +
-                "```javascript\n" +
-                String.format(
-                    "import { %s, %s } from \"%s\"; // ES Modules import%n",
-                    serviceName,
-                    commandName,
-                    packageName
-                )
-                +
-                String.format(
-                    "// const { %s, %s } = require(\"%s\"); // CommonJS import%n",
-                    serviceName,
-                    commandName,
-                    packageName
-                )
-                +
-                String.format("// import type { %sConfig } from \"%s\";%n", serviceName, packageName) +
-                String.format("const config = {}; // type is %sConfig%n", serviceName) +
-                String.format("const client = new %s(config);%n", serviceName) +
-                String.format(
-                    "const input = %s%n",
-                    StructureExampleGenerator.generateStructuralHintDocumentation(
-                        model.getShape(operation.getInputShape()).get(),
-                        model,
-                        false,
-                        true
-                    )
-                )
-                +
-                String.format("const command = new %s(input);%n", commandName) +
-                "const response = await client.send(command);" +
-                getStreamingBlobOutputAddendum() +
-                "\n" +
-                String.format(
-                    "%s%n",
-                    StructureExampleGenerator.generateStructuralHintDocumentation(
-                        model.getShape(operation.getOutputShape()).get(),
-                        model,
-                        true,
-                        false
-                    )
-                )
-                +
-                "\n```\n" +
-                "\n" +
-                String.format("@param %s - {@link %s}%n", commandInput, commandInput) +
-                String.format("@returns {@link %s}%n", commandOutput) +
-                String.format("@see {@link %s} for command's `input` shape.%n", commandInput) +
-                String.format("@see {@link %s} for command's `response` shape.%n", commandOutput) +
-                String.format("@see {@link %s | config} for %s's `config` shape.%n", configName, serviceName);
-
-        return exampleDoc;
-    }
-
-    /**
-     * Handwritten examples from the operation ExamplesTrait.
-     */
-    private String getCuratedExamples(String commandName) {
-        String exampleDoc = "";
-        if (operation.getTrait(ExamplesTrait.class).isPresent()) {
-            List<ExamplesTrait.Example> examples = operation.getTrait(ExamplesTrait.class).get().getExamples();
-            StringBuilder buffer = new StringBuilder();
-
-            for (ExamplesTrait.Example example : examples) {
-                ObjectNode input = example.getInput();
-                Optional<ObjectNode> output = example.getOutput();
-                buffer
-                    .append("\n")
-                    .append(String.format("@example %s%n", example.getTitle()))
-                    .append("```javascript\n")
-                    .append(String.format("// %s%n", example.getDocumentation().orElse("")))
-                    .append(
-                        """
-                        const input = %s;
-                        const command = new %s(input);
-                        const response = await client.send(command);%s
-                        /* response is
-                        %s
-                        */
-                        """.formatted(
-                            DocumentationExampleGenerator.inputToJavaScriptObject(input),
-                            commandName,
-                            getStreamingBlobOutputAddendum(),
-                            DocumentationExampleGenerator.outputToJavaScriptObject(output.orElse(null))
-                        )
-                    )
-                    .append("```")
-                    .append("\n");
-            }
-
-            exampleDoc += buffer.toString();
-        }
-        return exampleDoc;
-    }
-
-    /**
-     * @param operation - to query.
-     * @return member name of the streaming blob http payload, or empty string.
-     */
-    private String getStreamingBlobOutputMember(OperationShape operation) {
-        return (model.expectShape(operation.getOutputShape())).getAllMembers()
-            .values()
-            .stream()
-            .filter(memberShape -> {
-                Shape target = model.expectShape(memberShape.getTarget());
-                return (target.isBlobShape() &&
-                    (target.hasTrait(StreamingTrait.class) || memberShape.hasTrait(StreamingTrait.class)));
-            })
-            .map(MemberShape::getMemberName)
-            .findFirst()
-            .orElse("");
-    }
-
-    /**
-     * @return e.g. appendable "const bytes = await response.Body.transformToByteArray();".
-     */
-    private String getStreamingBlobOutputAddendum() {
-        String streamingBlobAddendum = "";
-        String streamingBlobMemberName = getStreamingBlobOutputMember(operation);
-        if (!streamingBlobMemberName.isEmpty()) {
-            String propAccess = PropertyAccessor.getFrom("response", streamingBlobMemberName);
-            streamingBlobAddendum = """
-                                    \n// consume or destroy the stream to free the socket.
-                                    const bytes = await %s.transformToByteArray();
-                                    // const str = await %s.transformToString();
-                                    // %s.destroy(); // only applicable to Node.js Readable streams.
-                                    """.formatted(propAccess, propAccess, propAccess);
-        }
-        return streamingBlobAddendum;
-    }
-
     private String getThrownExceptions() {
         List<ShapeId> errors = operation.getErrors();
         StringBuilder buffer = new StringBuilder();
@@ -798,6 +662,14 @@ final class CommandGenerator implements Runnable {
             String serdeFunctionName = isInput
                 ? ProtocolGenerator.getSerFunctionShortName(symbol)
                 : ProtocolGenerator.getDeserFunctionShortName(symbol);
+            if (settings.splitProtocolSerde() && protocolGenerator.supportsSerdeModules()) {
+                writer.addImport(
+                    serdeFunctionName,
+                    null,
+                    SerdeModuleScope.getModulePath(protocolGenerator.getName(), symbol.getName())
+                );
+                return serdeFunctionName;
+            }
             writer.addRelativeImport(
                 serdeFunctionName,
                 null,
@@ -11,6 +11,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -34,18 +38,23 @@ import software.amazon.smithy.codegen.core.directed.GenerateUnionDirective;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.OperationIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.PaginatedTrait;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.typescript.codegen.auth.http.HttpAuthSchemeProviderGenerator;
+import software.amazon.smithy.typescript.codegen.documentation.CommandExampleGenerator;
 import software.amazon.smithy.typescript.codegen.endpointsV2.EndpointsV2Generator;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
 import software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin;
+import software.amazon.smithy.typescript.codegen.integration.SerdeModuleScope;
 import software.amazon.smithy.typescript.codegen.integration.TypeScriptIntegration;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeModuleIndex;
 import software.amazon.smithy.typescript.codegen.schema.SchemaGenerationAllowlist;
 import software.amazon.smithy.typescript.codegen.schema.SchemaGenerator;
+import software.amazon.smithy.typescript.codegen.validation.JitFriendlinessLinter;
 import software.amazon.smithy.typescript.codegen.validation.LongValidator;
 import software.amazon.smithy.typescript.codegen.validation.ReplaceLast;
 import software.amazon.smithy.utils.MapUtils;
@@ -85,6 +94,12 @@ final class DirectedTypeScriptCodegen
         "ValidationException"
     );
 
+    /**
+     * Separate command example files by filename, generated in the background
+     * and written once the rest of the client has been generated.
+     */
+    private final Map<String, CompletableFuture<String>> commandExampleFiles = new TreeMap<>();
+
     @Override
     public SymbolProvider createSymbolProvider(CreateSymbolProviderDirective<TypeScriptSettings> directive) {
         return directive.settings().getArtifactType().createSymbolProvider(directive.model(), directive.settings());
@@ -94,6 +109,10 @@ final class DirectedTypeScriptCodegen
     public TypeScriptCodegenContext createContext(
         CreateContextDirective<TypeScriptSettings, TypeScriptIntegration> directive
     ) {
+        // Integrations have been loaded at this point, so the service's allowlist is fixed here
+        // and no longer affected by changes to the default allowlist.
+        directive.settings().setSchemaGenerationAllowlist(directive.settings().getSchemaGenerationAllowlist());
+
         List<RuntimeClientPlugin> runtimePlugins = new ArrayList<>();
         directive
             .integrations()
@@ -151,7 +170,13 @@ final class DirectedTypeScriptCodegen
             .runtimePlugins(runtimePlugins)
             .protocolGenerator(protocolGenerator)
             .applicationProtocol(applicationProtocol)
-            .writerDelegator(new TypeScriptDelegator(directive.fileManifest(), directive.symbolProvider()))
+            .writerDelegator(
+                new TypeScriptDelegator(
+                    directive.fileManifest(),
+                    directive.symbolProvider(),
+                    directive.settings().getBulkFlushThreads()
+                )
+            )
             .build();
     }
 
@@ -221,6 +246,16 @@ final class DirectedTypeScriptCodegen
                 return;
             }
             LOGGER.info("Generating serde for protocol " + protocolGenerator.getName() + " on " + service.getId());
+            if (settings.generateClient() && settings.splitProtocolSerde()) {
+                if (protocolGenerator.supportsSerdeModules()) {
+                    generateSerdeModules(directive, protocolGenerator);
+                    return;
+                }
+                LOGGER.warning(
+                    "Protocol " + protocolGenerator.getName() + " does not support split serde modules. " +
+                        "Writing a single protocol module instead."
+                );
+            }
             String fileName = Paths.get(
                 CodegenUtils.SOURCE_FOLDER,
                 ProtocolGenerator.PROTOCOLS_FOLDER,
@@ -264,6 +299,83 @@ final class DirectedTypeScriptCodegen
         }
     }
 
+    /**
+     * Writes client serde as one module per operation, a shared module for the
+     * serde functions of shapes reachable from more than one operation, and
+     * the usual protocol module re-exporting the operation modules.
+     */
+    private void generateSerdeModules(
+        GenerateServiceDirective<TypeScriptCodegenContext, TypeScriptSettings> directive,
+        ProtocolGenerator protocolGenerator
+    ) {
+        Model model = directive.model();
+        ServiceShape service = directive.shape();
+        SymbolProvider symbolProvider = directive.symbolProvider();
+        TypeScriptDelegator delegator = directive.context().writerDelegator();
+
+        SerdeModuleScope sharedScope = new SerdeModuleScope(
+            SerdeModuleIndex.of(model, service),
+            protocolGenerator.getName()
+        );
+        Set<OperationShape> operations = new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service));
+
+        for (OperationShape operation : operations) {
+            SerdeModuleScope scope = sharedScope.forOperation(operation);
+            delegator.useFileWriter(getSerdeModuleFileName(scope, symbolProvider), writer -> {
+                ProtocolGenerator.GenerationContext context = createProtocolGenerationContext(
+                    directive,
+                    protocolGenerator,
+                    writer
+                );
+                context.setSerdeModuleScope(scope);
+                protocolGenerator.generateRequestSerializers(context);
+                protocolGenerator.generateResponseDeserializers(context);
+                protocolGenerator.generateSharedComponents(context);
+            });
+        }
+
+        delegator.useFileWriter(getSerdeModuleFileName(sharedScope, symbolProvider), writer -> {
+            ProtocolGenerator.GenerationContext context = createProtocolGenerationContext(
+                directive,
+                protocolGenerator,
+                writer
+            );
+            context.setSerdeModuleScope(sharedScope);
+            protocolGenerator.generateSharedSerdeModule(context);
+        });
+
+        String protocolName = ProtocolGenerator.getSanitizedName(protocolGenerator.getName());
+        String fileName = Paths.get(
+            CodegenUtils.SOURCE_FOLDER,
+            ProtocolGenerator.PROTOCOLS_FOLDER,
+            protocolName + ".ts"
+        ).toString();
+        delegator.useFileWriter(fileName, writer -> {
+            for (OperationShape operation : operations) {
+                writer.write("export * from \"./$L/$L\";", protocolName, symbolProvider.toSymbol(operation).getName());
+            }
+        });
+    }
+
+    private static String getSerdeModuleFileName(SerdeModuleScope scope, SymbolProvider symbolProvider) {
+        return Paths.get(scope.getModulePath(symbolProvider) + ".ts").normalize().toString();
+    }
+
+    private static ProtocolGenerator.GenerationContext createProtocolGenerationContext(
+        GenerateServiceDirective<TypeScriptCodegenContext, TypeScriptSettings> directive,
+        ProtocolGenerator protocolGenerator,
+        TypeScriptWriter writer
+    ) {
+        ProtocolGenerator.GenerationContext context = new ProtocolGenerator.GenerationContext();
+        context.setProtocolName(protocolGenerator.getName());
+        context.setModel(directive.model());
+        context.setService(directive.shape());
+        context.setSettings(directive.settings());
+        context.setSymbolProvider(directive.symbolProvider());
+        context.setWriter(writer);
+        return context;
+    }
+
     @Override
     public void generateStructure(GenerateStructureDirective<TypeScriptCodegenContext, TypeScriptSettings> directive) {
         directive
@@ -458,6 +570,20 @@ final class DirectedTypeScriptCodegen
             });
         }
 
+        if (directive.settings().generateClient() && directive.settings().generateStartupBenchmark()) {
+            writerFactory.accept(
+                Paths.get(CodegenUtils.TEST_FOLDER, StartupBenchmarkGenerator.STARTUP_BENCHMARK_FILENAME).toString(),
+                writer -> {
+                    new StartupBenchmarkGenerator(
+                        writer,
+                        directive.settings(),
+                        directive.model(),
+                        directive.symbolProvider()
+                    ).writeStartupBenchmark();
+                }
+            );
+        }
+
         if (directive.settings().generateServerSdk()) {
             // Generate index for server
             IndexGenerator.writeServerIndex(
@@ -490,6 +616,50 @@ final class DirectedTypeScriptCodegen
             directive.fileManifest(),
             SymbolDependency.gatherDependencies(directive.context().writerDelegator().getDependencies().stream())
         );
+
+        if (directive.settings().generateJitLintReport()) {
+            writeJitLintReport(directive);
+        }
+
+        writeCommandExampleFiles(directive.fileManifest());
+    }
+
+    private void writeCommandExampleFiles(FileManifest fileManifest) {
+        try {
+            commandExampleFiles.forEach((filename, contents) -> fileManifest.writeFile(filename, contents.join()));
+        } catch (CompletionException e) {
+            commandExampleFiles.values().forEach(contents -> contents.cancel(true));
+            throw new CodegenException("Failed to generate command examples", e.getCause());
+        }
+    }
+
+    /**
+     * Lints the files of the writer delegator, which are flushed after this directive,
+     * and writes the occurrences of each pattern to the report file.
+     */
+    private void writeJitLintReport(CustomizeDirective<TypeScriptCodegenContext, TypeScriptSettings> directive) {
+        JitFriendlinessLinter linter = new JitFriendlinessLinter();
+        directive
+            .context()
+            .writerDelegator()
+            .getWriters()
+            .forEach((filename, writer) -> {
+                if (filename.endsWith(".ts")) {
+                    linter.lint(filename, writer.toString());
+                }
+            });
+        LOGGER.info(
+            () -> "Found %d JIT-unfriendly patterns in generated code, see %s".formatted(
+                linter.getTotalOccurrences(),
+                JitFriendlinessLinter.REPORT_FILENAME
+            )
+        );
+        directive
+            .fileManifest()
+            .writeFile(
+                JitFriendlinessLinter.REPORT_FILENAME,
+                Node.prettyPrintJson(linter.toReport(directive.service().getId())) + "\n"
+            );
     }
 
     private void checkValidationSettings(TypeScriptSettings settings, Model model, ServiceShape service) {
@@ -535,7 +705,7 @@ final class DirectedTypeScriptCodegen
         SymbolProvider symbolProvider = directive.symbolProvider();
         FileManifest fileManifest = directive.fileManifest();
         List<TypeScriptIntegration> integrations = directive.context().integrations();
-        List<RuntimeClientPlugin> runtimePlugins = directive.context().runtimePlugins();
+        List<RuntimeClientPlugin> runtimePlugins = directive.context().runtimePluginIndex().getServicePlugins();
         ApplicationProtocol applicationProtocol = directive.context().applicationProtocol();
 
         // Generate the bare-bones service client.
@@ -591,7 +761,8 @@ final class DirectedTypeScriptCodegen
                         operation,
                         symbolProvider,
                         paginationWriter,
-                        aggregatedClientName
+                        aggregatedClientName,
+                        settings.generatePaginatedItemMappers()
                     ).run()
                 );
             }
@@ -644,7 +815,7 @@ final class DirectedTypeScriptCodegen
         Model model = directive.model();
         SymbolProvider symbolProvider = directive.symbolProvider();
         FileManifest fileManifest = directive.fileManifest();
-        List<RuntimeClientPlugin> runtimePlugins = directive.context().runtimePlugins();
+        RuntimeClientPluginIndex runtimePluginIndex = directive.context().runtimePluginIndex();
         ProtocolGenerator protocolGenerator = directive.context().protocolGenerator();
         ApplicationProtocol applicationProtocol = directive.context().applicationProtocol();
 
@@ -668,11 +839,24 @@ final class DirectedTypeScriptCodegen
                         operation,
                         symbolProvider,
                         commandWriter,
-                        runtimePlugins,
+                        runtimePluginIndex.getOperationPlugins(operation),
                         protocolGenerator,
                         applicationProtocol
                     ).run()
                 );
+                if (settings.separateCommandExamples()) {
+                    String serviceName = symbolProvider.toSymbol(service).getName();
+                    String commandName = symbolProvider.toSymbol(operation).getName();
+                    commandExampleFiles.put(
+                        CommandExampleGenerator.getExamplesFilename(commandName),
+                        CompletableFuture.supplyAsync(
+                            () -> new CommandExampleGenerator(settings, model, operation).getExamplesFile(
+                                serviceName,
+                                commandName
+                            )
+                        )
+                    );
+                }
             }
 
             if (settings.generateServerSdk()) {
@@ -10,6 +10,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -59,7 +60,6 @@ import software.amazon.smithy.protocoltests.traits.HttpResponseTestCase;
 import software.amazon.smithy.protocoltests.traits.HttpResponseTestsTrait;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator.GenerationContext;
-import software.amazon.smithy.typescript.codegen.knowledge.ServiceClosure;
 import software.amazon.smithy.typescript.codegen.util.PropertyAccessor;
 import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.MapUtils;
@@ -100,7 +100,7 @@ public final class HttpProtocolTestGenerator implements Runnable {
     private final TestFilter testFilter;
     private final MalformedRequestTestFilter malformedRequestTestFilter;
     private final GenerationContext context;
-    private final ServiceClosure closure;
+    private final String testCaseFilename;
 
     private TypeScriptWriter writer;
 
@@ -120,15 +120,59 @@ public final class HttpProtocolTestGenerator implements Runnable {
         this.testFilter = testFilter;
         this.malformedRequestTestFilter = malformedRequestTestFilter;
         this.context = context;
-        this.closure = ServiceClosure.of(model, settings.getService(model));
+        this.testCaseFilename = createTestCaseFilename("");
+    }
+
+    /**
+     * Creates a generator writing the tests of some of the operations to a separate file.
+     */
+    private HttpProtocolTestGenerator(HttpProtocolTestGenerator parent, int shard) {
+        this.settings = parent.settings;
+        this.model = parent.model;
+        this.protocol = parent.protocol;
+        this.service = parent.service;
+        this.symbolProvider = parent.symbolProvider;
+        this.protocolGenerator = parent.protocolGenerator;
+        this.serviceSymbol = parent.serviceSymbol;
+        this.testFilter = parent.testFilter;
+        this.malformedRequestTestFilter = parent.malformedRequestTestFilter;
+        this.context = parent.context;
+        this.testCaseFilename = createTestCaseFilename("." + shard);
     }
 
     @Override
     public void run() {
+        // Use a TreeSet to have a fixed ordering of tests.
+        List<OperationShape> operations = new ArrayList<>(
+            new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service))
+        );
+        int shards = Math.min(settings.getProtocolTestShards(), operations.size());
+        if (shards <= 1) {
+            generateOperationTests(operations);
+            return;
+        }
+
+        // Each shard has its own writer and covers a fixed range of operations. Shards are
+        // generated one after another, since the model indices and the symbol provider used
+        // by protocol generators are not thread safe.
+        int shardSize = (operations.size() + shards - 1) / shards;
+        List<Pair<HttpProtocolTestGenerator, List<OperationShape>>> shardGenerators = new ArrayList<>();
+        for (int start = 0; start < operations.size(); start += shardSize) {
+            shardGenerators.add(
+                Pair.of(
+                    new HttpProtocolTestGenerator(this, shardGenerators.size() + 1),
+                    operations.subList(start, Math.min(start + shardSize, operations.size()))
+                )
+            );
+        }
+        LOGGER.fine(() -> format("Generating %s protocol tests in %d files", protocol, shardGenerators.size()));
+        shardGenerators.forEach(shard -> shard.getLeft().generateOperationTests(shard.getRight()));
+    }
+
+    private void generateOperationTests(List<OperationShape> operations) {
         OperationIndex operationIndex = OperationIndex.of(model);
-        TopDownIndex topDownIndex = TopDownIndex.of(model);
 
-        boolean hasSerdeBenchmarks = closure.getOperationShapes()
+        boolean hasSerdeBenchmarks = operations
             .stream()
             .anyMatch(o -> {
                 if (o.hasTag("server-only")) {
@@ -226,8 +270,7 @@ public final class HttpProtocolTestGenerator implements Runnable {
             );
         }
 
-        // Use a TreeSet to have a fixed ordering of tests.
-        for (OperationShape operation : new TreeSet<>(topDownIndex.getContainedOperations(service))) {
+        for (OperationShape operation : operations) {
             if (settings.generateClient()) {
                 generateClientOperationTests(operation, operationIndex);
             }
@@ -369,7 +412,7 @@ public final class HttpProtocolTestGenerator implements Runnable {
 
     private void initializeWriterIfNeeded() {
         if (writer == null) {
-            context.getWriterDelegator().useFileWriter(createTestCaseFilename(), writer -> this.writer = writer);
+            context.getWriterDelegator().useFileWriter(testCaseFilename, writer -> this.writer = writer);
             writer.addDependency(TypeScriptDependency.SMITHY_TYPES);
             writer.addDependency(TypeScriptDependency.SMITHY_CORE);
             // Add the template to each generated test.
@@ -379,9 +422,9 @@ public final class HttpProtocolTestGenerator implements Runnable {
         }
     }
 
-    private String createTestCaseFilename() {
+    private String createTestCaseFilename(String suffix) {
         String baseName = protocol.getName().toLowerCase(Locale.US).replace("-", "_").replace(".", "_");
-        return TEST_CASE_FILE_TEMPLATE.replace("%s", baseName);
+        return TEST_CASE_FILE_TEMPLATE.replace("%s", baseName + suffix);
     }
 
     private void generateClientRequestTest(OperationShape operation, HttpRequestTestCase testCase) {
@@ -7,8 +7,10 @@ package software.amazon.smithy.typescript.codegen;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -61,13 +63,53 @@ final class ImportDeclarations implements ImportContainer {
         return normalA.compareTo(normalB);
     };
 
-    private final String moduleNameString;
-    private final String relativize;
+    /**
+     * Largest number of cleared per-module import maps kept for reuse by {@link #reset(String)}.
+     */
+    static final int MAX_RETAINED_MODULE_MAPS = 64;
+
+    private String moduleNameString;
+    private String relativize;
     private final Map<String, Pair<String, Ignore>> defaultImports = new TreeMap<>();
     private final Map<String, Map<String, String>> namedImports = new TreeMap<>();
     private final Map<String, Map<String, String>> namedTypeImports = new TreeMap<>();
+    private final Deque<Map<String, String>> retainedModuleMaps = new ArrayDeque<>();
 
     ImportDeclarations(String relativize) {
+        setModuleName(relativize);
+    }
+
+    /**
+     * Removes all imports so that the declarations can be reused for another file.
+     *
+     * <p>The cleared per-module import maps are kept for the modules imported by the
+     * next file, up to {@link #MAX_RETAINED_MODULE_MAPS} of them.
+     *
+     * @param relativize Module name of the next file.
+     */
+    void reset(String relativize) {
+        retainModuleMaps(namedImports);
+        retainModuleMaps(namedTypeImports);
+        defaultImports.clear();
+        setModuleName(relativize);
+    }
+
+    private void retainModuleMaps(Map<String, Map<String, String>> imports) {
+        for (Map<String, String> moduleImports : imports.values()) {
+            if (retainedModuleMaps.size() < MAX_RETAINED_MODULE_MAPS) {
+                moduleImports.clear();
+                retainedModuleMaps.push(moduleImports);
+            }
+        }
+        imports.clear();
+    }
+
+    private Map<String, String> createModuleMap(String module) {
+        Map<String, String> moduleImports = retainedModuleMaps.poll();
+        return moduleImports == null ? new TreeMap<>() : moduleImports;
+    }
+
+    private void setModuleName(String relativize) {
         relativize = relativize.replace(File.separatorChar, '/');
         if (!relativize.startsWith("./")) {
             relativize = "./" + relativize;
@@ -107,7 +149,7 @@ final class ImportDeclarations implements ImportContainer {
         }
         module = getRelativizedModule(relativize, module);
         if (!module.isEmpty() && (relativize == null || !module.equals(relativize.toString()))) {
-            namedImports.computeIfAbsent(module, m -> new TreeMap<>()).put(alias, name);
+            namedImports.computeIfAbsent(module, this::createModuleMap).put(alias, name);
         }
         return this;
     }
@@ -118,11 +160,19 @@ final class ImportDeclarations implements ImportContainer {
         }
         module = getRelativizedModule(relativize, module);
         if (!module.isEmpty() && (relativize == null || !module.equals(relativize.toString()))) {
-            namedTypeImports.computeIfAbsent(module, m -> new TreeMap<>()).put(alias, name);
+            namedTypeImports.computeIfAbsent(module, this::createModuleMap).put(alias, name);
         }
         return this;
     }
 
+    /**
+     * @param module Module to resolve against the current file, if it starts with ".".
+     * @return the module as it would be written in an import declaration of the current file.
+     */
+    String relativize(String module) {
+        return getRelativizedModule(relativize, module);
+    }
+
     @Override
     public void importSymbol(Symbol symbol, String alias) {
         if (!symbol.getNamespace().isEmpty() && !symbol.getNamespace().equals(moduleNameString)) {
@@ -226,9 +276,6 @@ final class ImportDeclarations implements ImportContainer {
             }
 
             if (!imports.isEmpty()) {
-                String inline;
-                String multiline;
-
                 String head;
                 String symbols;
                 String tail = "\";\n";
@@ -241,9 +288,14 @@ final class ImportDeclarations implements ImportContainer {
                         head = head.replace("import ", "import type ");
                         symbols = symbols.replaceAll("type ", "");
                     }
-                    inline = head + symbols + source + tail;
+                    String inline = head + symbols + source + tail;
+                    if (inline.trim().length() <= TypeScriptWriter.LINE_WIDTH) {
+                        buffer.append(inline);
+                        continue;
+                    }
                 }
                 {
+                    // The multiline form is only built when the inline form is too long.
                     head = "import {\n  ";
                     symbols = String.join(",\n  ", imports);
                     String source = ",\n} from \"" + module;
@@ -251,12 +303,7 @@ final class ImportDeclarations implements ImportContainer {
                         head = head.replace("import ", "import type ");
                         symbols = symbols.replaceAll("type ", "");
                     }
-                    multiline = head + symbols + source + tail;
-                }
-                if (inline.trim().length() <= TypeScriptWriter.LINE_WIDTH) {
-                    buffer.append(inline);
-                } else {
-                    buffer.append(multiline);
+                    buffer.append(head).append(symbols).append(source).append(tail);
                 }
             }
         }
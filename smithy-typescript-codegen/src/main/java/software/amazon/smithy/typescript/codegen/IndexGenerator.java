@@ -104,6 +104,7 @@ final class IndexGenerator {
 
         // export endpoints config interface
         writer.write("export type { ClientInputEndpointParameters } from \"./endpoint/EndpointParameters\";");
+        writer.write("export { getEndpointCacheStats } from \"./endpoint/endpointResolver\";");
 
         // Export Runtime Extension and Client ExtensionConfiguration interfaces
         writer.write("export type { RuntimeExtension } from \"./runtimeExtensions\";");
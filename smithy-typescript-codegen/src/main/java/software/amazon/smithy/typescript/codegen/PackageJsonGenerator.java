@@ -69,6 +69,9 @@ final class PackageJsonGenerator {
                     "test:integration:watch",
                     "%s vitest watch --passWithNoTests -c vitest.config.integ.mts".formatted(pkgManagerExec)
                 );
+            if (settings.generateSerdeBenchmarks()) {
+                scripts = scripts.withMember("bench:serde", "%s vitest bench --run".formatted(pkgManagerExec));
+            }
             node = node.withMember("scripts", scripts);
 
             manifest.writeFile(
@@ -138,6 +141,18 @@ final class PackageJsonGenerator {
             node = node.withMember("scripts", node.getObjectMember("scripts").get().withoutMember("test:index"));
         }
 
+        if (settings.generateClient() && settings.generateStartupBenchmark()) {
+            node = node.withMember(
+                "scripts",
+                node.getObjectMember("scripts")
+                    .get()
+                    .withMember(
+                        "bench:startup",
+                        "node ./test/" + StartupBenchmarkGenerator.STARTUP_BENCHMARK_FILENAME
+                    )
+            );
+        }
+
         // Expand template parameters.
         String template = Node.prettyPrintJson(node);
         template = template.replace("${package}", settings.getPackageName());
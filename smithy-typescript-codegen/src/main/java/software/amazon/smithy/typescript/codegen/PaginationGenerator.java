@@ -5,6 +5,7 @@
 package software.amazon.smithy.typescript.codegen;
 
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -32,9 +33,11 @@ final class PaginationGenerator implements Runnable {
         "Interfaces.ts"
     ).toString();
 
+    private final Model model;
     private final TypeScriptWriter writer;
     private final String aggregatedClientName;
     private final PaginationInfo paginatedInfo;
+    private final boolean writeItemsMapper;
 
     private final Symbol serviceSymbol;
     private final Symbol operationSymbol;
@@ -50,10 +53,13 @@ final class PaginationGenerator implements Runnable {
         OperationShape operation,
         SymbolProvider symbolProvider,
         TypeScriptWriter writer,
-        String aggregatedClientName
+        String aggregatedClientName,
+        boolean writeItemsMapper
     ) {
+        this.model = model;
         this.writer = writer;
         this.aggregatedClientName = aggregatedClientName;
+        this.writeItemsMapper = writeItemsMapper;
 
         this.serviceSymbol = symbolProvider.toSymbol(service);
         this.operationSymbol = symbolProvider.toSymbol(operation);
@@ -104,6 +110,9 @@ final class PaginationGenerator implements Runnable {
         );
 
         writePager();
+        if (writeItemsMapper) {
+            writeItemsMapper();
+        }
     }
 
     static String getOutputFileLocation(OperationShape operation) {
@@ -199,4 +208,56 @@ final class PaginationGenerator implements Runnable {
             )
             .popState();
     }
+
+    /**
+     * Writes a function mapping the paginated items of each page, if the items are a list.
+     */
+    private void writeItemsMapper() {
+        List<MemberShape> itemsPath = paginatedInfo.getItemsMemberPath();
+        if (itemsPath.isEmpty()) {
+            return;
+        }
+        MemberShape itemsMember = itemsPath.get(itemsPath.size() - 1);
+        if (!model.expectShape(itemsMember.getTarget()).isListShape()) {
+            return;
+        }
+
+        // the item type is indexed from the output type along the items path.
+        StringBuilder itemType = new StringBuilder(outputSymbol.getName());
+        for (MemberShape member : itemsPath) {
+            itemType.insert(0, "NonNullable<").append(">[\"").append(member.getMemberName()).append("\"]");
+        }
+        itemType.insert(0, "NonNullable<").append(">[number]");
+
+        writer.addImport("mapPaginatedItems", null, TypeScriptDependency.SMITHY_CORE);
+        writer.addTypeImport("MapPaginatedItemsOptions", null, TypeScriptDependency.SMITHY_CORE);
+
+        writer.writeDocs(
+            "Maps the items of each page of " +
+                operationName +
+                ", requesting up to `options.prefetch` pages ahead and mapping up to " +
+                "`options.concurrency` items at once.\n" +
+                "Mapped values are yielded in the order of the items.\n\n" +
+                "@public"
+        );
+        writer
+            .pushState()
+            .putContext("operation", operationName)
+            .putContext("paginationType", paginationType)
+            .putContext("inputType", inputSymbol.getName())
+            .putContext("itemType", itemType.toString())
+            .putContext("itemsPath", paginatedInfo.getPaginatedTrait().getItems().get())
+            .write(
+                """
+                export const map${operation:L}Items = <T>(
+                  config: ${paginationType:L},
+                  input: ${inputType:L},
+                  mapper: (item: ${itemType:L}) => T | Promise<T>,
+                  options?: MapPaginatedItemsOptions
+                ): AsyncGenerator<T, undefined, undefined> =>
+                  mapPaginatedItems(paginate${operation:L}(config, input), ${itemsPath:S}, mapper, options);
+                """
+            )
+            .popState();
+    }
 }
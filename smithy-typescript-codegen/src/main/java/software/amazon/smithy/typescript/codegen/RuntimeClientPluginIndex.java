@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+import software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Index of the runtime client plugins that apply to a service and to each of
+ * its operations.
+ *
+ * <p>Plugin predicates may be expensive, e.g. when a service predicate scans every
+ * operation of the service, so they are evaluated once per code generation run
+ * instead of once per generated command. Operations are evaluated in parallel,
+ * so predicates must not rely on shared mutable state.
+ */
+@SmithyInternalApi
+public final class RuntimeClientPluginIndex {
+
+    private final List<RuntimeClientPlugin> servicePlugins;
+    private final Map<ShapeId, List<RuntimeClientPlugin>> operationPlugins;
+
+    private RuntimeClientPluginIndex(
+        List<RuntimeClientPlugin> servicePlugins,
+        Map<ShapeId, List<RuntimeClientPlugin>> operationPlugins
+    ) {
+        this.servicePlugins = servicePlugins;
+        this.operationPlugins = operationPlugins;
+    }
+
+    /**
+     * Evaluates the predicates of the given plugins against the service and
+     * each of its contained operations.
+     *
+     * @param model Model the service belongs to.
+     * @param service Service to index.
+     * @param runtimePlugins Plugins to evaluate, in the order in which they are applied.
+     * @return Returns the created index.
+     */
+    public static RuntimeClientPluginIndex of(
+        Model model,
+        ServiceShape service,
+        List<RuntimeClientPlugin> runtimePlugins
+    ) {
+        List<RuntimeClientPlugin> servicePlugins = runtimePlugins
+            .stream()
+            .filter(plugin -> plugin.matchesService(model, service))
+            .collect(Collectors.toUnmodifiableList());
+        Map<ShapeId, List<RuntimeClientPlugin>> operationPlugins = TopDownIndex.of(model)
+            .getContainedOperations(service)
+            .parallelStream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Shape::getId,
+                    operation -> filterOperationPlugins(model, service, operation, runtimePlugins)
+                )
+            );
+        return new RuntimeClientPluginIndex(servicePlugins, operationPlugins);
+    }
+
+    /**
+     * @return Returns the plugins that apply to the entire client, in order.
+     */
+    public List<RuntimeClientPlugin> getServicePlugins() {
+        return servicePlugins;
+    }
+
+    /**
+     * @param operation Operation of the indexed service.
+     * @return Returns the plugins that apply to the operation, in order, or an empty
+     * list if the operation is not contained in the indexed service.
+     */
+    public List<RuntimeClientPlugin> getOperationPlugins(ToShapeId operation) {
+        return operationPlugins.getOrDefault(operation.toShapeId(), Collections.emptyList());
+    }
+
+    private static List<RuntimeClientPlugin> filterOperationPlugins(
+        Model model,
+        ServiceShape service,
+        OperationShape operation,
+        List<RuntimeClientPlugin> runtimePlugins
+    ) {
+        return runtimePlugins
+            .stream()
+            .filter(plugin -> plugin.matchesOperation(model, service, operation))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -15,12 +15,19 @@ import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.HttpBinding;
+import software.amazon.smithy.model.knowledge.HttpBindingIndex;
 import software.amazon.smithy.model.knowledge.OperationIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.StreamingTrait;
+import software.amazon.smithy.typescript.codegen.integration.HttpBindingProtocolGenerator;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.knowledge.ServiceClosure;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 /**
@@ -86,7 +93,10 @@ final class ServerCommandGenerator implements Runnable {
     }
 
     private void writeInputType(String typeName, Optional<StructureShape> inputShape) {
-        if (inputShape.isPresent()) {
+        Optional<MemberShape> streamedPayload = getStreamedBlobPayload();
+        if (inputShape.isPresent() && streamedPayload.isPresent()) {
+            writeStreamedPayloadInputType(typeName, inputShape.get(), streamedPayload.get());
+        } else if (inputShape.isPresent()) {
             StructureShape input = inputShape.get();
             writer.write("export interface $L extends $T {}", typeName, symbolProvider.toSymbol(inputShape.get()));
             renderNamespace(typeName, input);
@@ -101,6 +111,55 @@ final class ServerCommandGenerator implements Runnable {
         }
     }
 
+    /**
+     * When request body streaming is enabled, a non-streaming blob payload is handed to the
+     * operation as the request body stream rather than a collected Uint8Array.
+     */
+    private Optional<MemberShape> getStreamedBlobPayload() {
+        if (!settings.isRequestBodyStreamingEnabled() || !(protocolGenerator instanceof HttpBindingProtocolGenerator)) {
+            return Optional.empty();
+        }
+        return HttpBindingIndex.of(model)
+            .getRequestBindings(operation, HttpBinding.Location.PAYLOAD)
+            .stream()
+            .map(HttpBinding::getMember)
+            .filter(member -> {
+                Shape target = model.expectShape(member.getTarget());
+                return target.isBlobShape() && !target.hasTrait(StreamingTrait.class);
+            })
+            .findFirst();
+    }
+
+    private void writeStreamedPayloadInputType(String typeName, StructureShape input, MemberShape payload) {
+        Symbol symbol = symbolProvider.toSymbol(input);
+        String memberName = symbolProvider.toMemberName(payload);
+        ServiceClosure closure = ServiceClosure.of(model, model.expectShape(settings.getService(), ServiceShape.class));
+        writer.addTypeImport("StreamingBlobTypes", "__StreamingBlobTypes", TypeScriptDependency.SMITHY_TYPES);
+        writer.openBlock("export interface $L extends Omit<$T, $S> {", "}", typeName, symbol, memberName, () -> {
+            writer.write(
+                "$L$L: __StreamingBlobTypes | undefined;",
+                memberName,
+                closure.isMemberRequiredInClient(payload) ? "" : "?"
+            );
+        });
+        writer.openBlock("export namespace $L {", "}", typeName, () -> {
+            writer.addImport("ValidationFailure", "__ValidationFailure", TypeScriptDependency.SERVER_COMMON);
+            writer.writeDocs("@internal");
+            // The streamed payload cannot be inspected without consuming it, so constraints
+            // on it are skipped the same way they are for a modeled streaming blob.
+            writer.openBlock(
+                "export const validate = (obj: $L): __ValidationFailure[] => $T.validate(",
+                ").filter((failure) => failure.path !== $S);",
+                typeName,
+                symbol,
+                "/" + payload.getMemberName(),
+                () -> {
+                    writer.write("{ ...obj, $L: undefined } as Parameters<typeof $T.validate>[0]", memberName, symbol);
+                }
+            );
+        });
+    }
+
     private void renderNamespace(String typeName, StructureShape input) {
         Symbol symbol = symbolProvider.toSymbol(input);
         writer.openBlock("export namespace $L {", "}", typeName, () -> {
@@ -210,15 +269,15 @@ final class ServerCommandGenerator implements Runnable {
             if (errors.isEmpty()) {
                 writer.write("return false;");
             } else {
-                writer.writeInline("const names: $T['name'][] = [", errorsType);
-                for (Iterator<StructureShape> iter = errors.iterator(); iter.hasNext();) {
-                    writer.writeInline("$S", iter.next().getId().getName());
-                    if (iter.hasNext()) {
-                        writer.writeInline(", ");
+                // A switch avoids allocating a list of names on each call.
+                writer.openBlock("switch (error.name) {", "}", () -> {
+                    for (StructureShape error : errors) {
+                        writer.write("case $S:", error.getId().getName());
                     }
-                }
-                writer.write("];");
-                writer.write("return names.includes(error.name);");
+                    writer.indent().write("return true;").dedent();
+                    writer.write("default:");
+                    writer.indent().write("return false;").dedent();
+                });
             }
         });
         writer.write("");
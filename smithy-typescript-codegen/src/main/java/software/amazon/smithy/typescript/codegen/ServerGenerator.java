@@ -52,7 +52,7 @@ final class ServerGenerator {
         Symbol handlerSymbol = serviceSymbol.expectProperty("handler", Symbol.class);
         Symbol operationsType = serviceSymbol.expectProperty("operations", Symbol.class);
 
-        writeSerdeContextBase(writer);
+        writeSerdeContext(writer);
         writeHandleFunction(writer);
 
         String classDeclaration = "export class $L<Context> implements __ServiceHandler<Context> {";
@@ -120,7 +120,7 @@ final class ServerGenerator {
                 writer.openBlock("if (target === undefined) {", "}", () -> {
                     writer.write(
                         "return this.serializeFrameworkException(new __UnknownOperationException(), " +
-                            "serdeContextBase);"
+                            "serdeContext);"
                     );
                 });
                 writer.openBlock("switch (target.operation) {", "}", () -> {
@@ -150,7 +150,7 @@ final class ServerGenerator {
     ) {
         addCommonHandlerImports(writer);
 
-        writeSerdeContextBase(writer);
+        writeSerdeContext(writer);
         writeHandleFunction(writer);
 
         Symbol serviceSymbol = symbolProvider.toSymbol(serviceShape);
@@ -235,7 +235,7 @@ final class ServerGenerator {
                         );
                         writer.write(
                             "return this.serializeFrameworkException(new __InternalFailureException(), " +
-                                "serdeContextBase);"
+                                "serdeContext);"
                         );
                     });
                     writer.write(
@@ -301,15 +301,13 @@ final class ServerGenerator {
         writer.indent();
         writer.write("let input;");
         writer.openBlock("try {", "} catch (error: unknown) {", () -> {
-            writer.openBlock("input = await serializer.deserialize(request, {", "});", () -> {
-                writer.write("endpoint: () => Promise.resolve(request), ...serdeContextBase");
-            });
+            writer.write("input = await serializer.deserialize(request, serdeContext);");
         });
         writer.indent();
         writer.openBlock("if (__isFrameworkException(error)) {", "};", () -> {
-            writer.write("return serializeFrameworkException(error, serdeContextBase);");
+            writer.write("return serializeFrameworkException(error, serdeContext);");
         });
-        writer.write("return serializeFrameworkException(new __SerializationException(), " + "serdeContextBase);");
+        writer.write("return serializeFrameworkException(new __SerializationException(), " + "serdeContext);");
         writer.closeBlock("}");
         writer.openBlock("try {", "} catch(error: unknown) {", () -> {
             writer.write("let validationFailures = validationFn(input);");
@@ -319,24 +317,25 @@ final class ServerGenerator {
                         "validationFailures);"
                 );
                 writer.openBlock("if (validationException) {", "}", () -> {
-                    writer.write("return serializer.serializeError(validationException, serdeContextBase);");
+                    writer.write("return serializer.serializeError(validationException, serdeContext);");
                 });
             });
             writer.write("let output = await operation(input, context);");
-            writer.write("return serializer.serialize(output, serdeContextBase);");
+            writer.write("return serializer.serialize(output, serdeContext);");
         });
         writer.indent();
         writer.openBlock("if (serializer.isOperationError(error)) {", "}", () -> {
-            writer.write("return serializer.serializeError(error, serdeContextBase);");
+            writer.write("return serializer.serializeError(error, serdeContext);");
         });
         writer.write("console.log('Received an unexpected error', error);");
-        writer.write("return serializeFrameworkException(new __InternalFailureException(), " + "serdeContextBase);");
+        writer.write("return serializeFrameworkException(new __InternalFailureException(), " + "serdeContext);");
         writer.closeBlock("}");
         writer.closeBlock("}");
     }
 
-    private static void writeSerdeContextBase(TypeScriptWriter writer) {
+    private static void writeSerdeContext(TypeScriptWriter writer) {
         writer.addImport("ServerSerdeContext", "__ServerSerdeContext", TypeScriptDependency.SERVER_COMMON);
+        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
         writer.addImport("NodeHttpHandler", null, TypeScriptDependency.AWS_SDK_NODE_HTTP_HANDLER);
         writer.addImport("streamCollector", null, TypeScriptDependency.AWS_SDK_NODE_HTTP_HANDLER);
         writer.addImportSubmodule("fromBase64", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.SERDE);
@@ -344,14 +343,18 @@ final class ServerGenerator {
         writer.addImportSubmodule("fromUtf8", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.SERDE);
         writer.addImportSubmodule("toUtf8", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.SERDE);
 
-        writer.openBlock("const serdeContextBase = {", "};", () -> {
+        // A single context object is shared by all requests, so that the serde functions
+        // see one object shape and no context is allocated per request. Request-scoped
+        // values are passed to the serde functions as parameters.
+        writer.openBlock("const serdeContext: __SerdeContext = {", "};", () -> {
             writer.write("base64Encoder: toBase64,");
             writer.write("base64Decoder: fromBase64,");
             writer.write("utf8Encoder: toUtf8,");
             writer.write("utf8Decoder: fromUtf8,");
             writer.write("streamCollector: streamCollector,");
             writer.write("requestHandler: new NodeHttpHandler(),");
-            writer.write("disableHostPrefix: true");
+            writer.write("disableHostPrefix: true,");
+            writer.write("endpoint: () => Promise.resolve({ protocol: \"\", hostname: \"\", path: \"\" }),");
         });
     }
 
@@ -4,9 +4,13 @@
  */
 package software.amazon.smithy.typescript.codegen;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.logging.Logger;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
@@ -28,10 +32,17 @@ import software.amazon.smithy.waiters.Waiter;
  * for every operation in the service. Using this client means that all
  * operations of a service are considered referenced, meaning they will
  * not be removed by tree-shaking.
+ *
+ * <p>When {@link TypeScriptSettings#lazyCommands()} is enabled, the client instead
+ * refers to commands, paginators, and waiters through dynamic imports that are
+ * resolved and cached on the first call of each method, so that loading the
+ * aggregated client does not load every command module.
  */
 @SmithyInternalApi
 final class ServiceAggregatedClientGenerator implements Runnable {
 
+    private static final Logger LOGGER = Logger.getLogger(ServiceAggregatedClientGenerator.class.getName());
+
     private final TypeScriptSettings settings;
     private final Model model;
     private final ServiceShape service;
@@ -68,6 +79,7 @@ final class ServiceAggregatedClientGenerator implements Runnable {
 
         boolean hasPaginators = !closure.getPaginatedOperationShapes().isEmpty();
         boolean hasWaiters = !closure.getWaitableOperationShapes().isEmpty();
+        boolean lazyCommands = settings.lazyCommands();
 
         writer.openBlock("const commands = {");
         for (OperationShape operation : containedOperations) {
@@ -76,7 +88,11 @@ final class ServiceAggregatedClientGenerator implements Runnable {
                 .toBuilder()
                 .putProperty("typeOnly", false)
                 .build();
-            writer.write("$T,", operationSymbol);
+            if (lazyCommands) {
+                writeLoader(operationSymbol.getName(), operationSymbol.getName(), operationSymbol.getNamespace());
+            } else {
+                writer.write("$T,", operationSymbol);
+            }
             if (operation.hasTrait(PaginatedTrait.ID)) {
                 hasPaginators = true;
             }
@@ -91,17 +107,18 @@ final class ServiceAggregatedClientGenerator implements Runnable {
             for (OperationShape operation : closure.getPaginatedOperationShapes()) {
                 String paginatorFnName = "paginate" + operation.getId().getName();
                 String paginatorLocalName = "paginate" + StringUtils.capitalize(operation.getId().getName());
-                writer.addRelativeImport(
-                    paginatorFnName,
-                    paginatorLocalName,
-                    Paths.get(
-                        ".",
-                        CodegenUtils.SOURCE_FOLDER,
-                        PaginationGenerator.getOutputFileLocation(operation)
-                            .replaceFirst("(.*?)pagination(.*?)\\.ts$", "pagination$2")
-                    )
+                Path paginatorPath = Paths.get(
+                    ".",
+                    CodegenUtils.SOURCE_FOLDER,
+                    PaginationGenerator.getOutputFileLocation(operation)
+                        .replaceFirst("(.*?)pagination(.*?)\\.ts$", "pagination$2")
                 );
-                writer.write("$L,", paginatorLocalName);
+                if (lazyCommands) {
+                    writeLoader(paginatorLocalName, paginatorFnName, paginatorPath.toString());
+                } else {
+                    writer.addRelativeImport(paginatorFnName, paginatorLocalName, paginatorPath);
+                    writer.write("$L,", paginatorLocalName);
+                }
             }
             writer.closeBlock("};");
         }
@@ -116,18 +133,18 @@ final class ServiceAggregatedClientGenerator implements Runnable {
                         String waiterFnName = "waitUntil" + waiterName;
                         // note: this should never differ since smithy validation requires TitleCase waiter names.
                         String waiterLocalName = "waitUntil" + StringUtils.capitalize(waiterName);
-
-                        writer.addRelativeImport(
-                            waiterFnName,
-                            waiterLocalName,
-                            Paths.get(
-                                ".",
-                                CodegenUtils.SOURCE_FOLDER,
-                                WaiterGenerator.getOutputFileLocation(waiterName)
-                                    .replaceFirst("(.*?)waiters(.*?)\\.ts$", "waiters$2")
-                            )
+                        Path waiterPath = Paths.get(
+                            ".",
+                            CodegenUtils.SOURCE_FOLDER,
+                            WaiterGenerator.getOutputFileLocation(waiterName)
+                                .replaceFirst("(.*?)waiters(.*?)\\.ts$", "waiters$2")
                         );
-                        writer.write("$L,", waiterLocalName);
+                        if (lazyCommands) {
+                            writeLoader(waiterLocalName, waiterFnName, waiterPath.toString());
+                        } else {
+                            writer.addRelativeImport(waiterFnName, waiterLocalName, waiterPath);
+                            writer.write("$L,", waiterLocalName);
+                        }
                     });
             }
             writer.closeBlock("};");
@@ -141,7 +158,12 @@ final class ServiceAggregatedClientGenerator implements Runnable {
                 Symbol operationSymbol = symbolProvider.toSymbol(operation);
                 Symbol input = operationSymbol.expectProperty("inputType", Symbol.class);
                 Symbol output = operationSymbol.expectProperty("outputType", Symbol.class);
-                writer.addUseImports(operationSymbol);
+                if (lazyCommands) {
+                    // only referenced in documentation, so that the command module is not loaded.
+                    writer.addUseImports(operationSymbol.toBuilder().putProperty("typeOnly", true).build());
+                } else {
+                    writer.addUseImports(operationSymbol);
+                }
                 String methodName = StringUtils.uncapitalize(operationSymbol.getName().replaceAll("Command$", ""));
 
                 // Generate a multiple overloaded methods for each command.
@@ -300,21 +322,67 @@ final class ServiceAggregatedClientGenerator implements Runnable {
             aggregateClientName
         );
 
+        String createAggregatedClient = lazyCommands ? "createLazyAggregatedClient" : "createAggregatedClient";
         writer.addImportSubmodule(
-            "createAggregatedClient",
+            createAggregatedClient,
             null,
             TypeScriptDependency.SMITHY_CORE,
             SmithyCoreSubmodules.CLIENT
         );
 
-        if (hasPaginators && hasWaiters) {
-            writer.write("createAggregatedClient(commands, $L, { paginators, waiters });", aggregateClientName);
-        } else if (hasPaginators) {
-            writer.write("createAggregatedClient(commands, $L, { paginators });", aggregateClientName);
-        } else if (hasWaiters) {
-            writer.write("createAggregatedClient(commands, $L, { waiters });", aggregateClientName);
+        List<String> options = new ArrayList<>();
+        if (hasPaginators) {
+            options.add("paginators");
+        }
+        if (hasWaiters) {
+            options.add("waiters");
+        }
+        if (lazyCommands) {
+            List<String> prefetch = getPrefetchCommands(containedOperations);
+            if (!prefetch.isEmpty()) {
+                options.add("prefetch: [\"" + String.join("\", \"", prefetch) + "\"]");
+            }
+        }
+
+        if (options.isEmpty()) {
+            writer.write("$L(commands, $L);", createAggregatedClient, aggregateClientName);
         } else {
-            writer.write("createAggregatedClient(commands, $L);", aggregateClientName);
+            writer.write(
+                "$L(commands, $L, { $L });",
+                createAggregatedClient,
+                aggregateClientName,
+                String.join(", ", options)
+            );
+        }
+    }
+
+    /**
+     * Writes a lookup entry that loads an export of a generated module with a dynamic import.
+     */
+    private void writeLoader(String key, String exportName, String module) {
+        writer.write(
+            "$L: () => import($S).then((m) => m.$L),",
+            key,
+            writer.getRelativeModulePath(module),
+            exportName
+        );
+    }
+
+    /**
+     * @return command names of the operations configured to be loaded as soon as the client module is.
+     */
+    private List<String> getPrefetchCommands(Set<OperationShape> containedOperations) {
+        List<String> prefetch = new ArrayList<>();
+        for (String operationName : settings.getPrefetchCommands()) {
+            containedOperations
+                .stream()
+                .filter(operation -> operation.getId().getName(service).equals(operationName))
+                .findFirst()
+                .ifPresentOrElse(
+                    operation -> prefetch.add(symbolProvider.toSymbol(operation).getName()),
+                    () -> LOGGER.warning("Ignoring prefetch of unknown operation " + operationName + ".")
+                );
         }
+        return prefetch;
     }
 }
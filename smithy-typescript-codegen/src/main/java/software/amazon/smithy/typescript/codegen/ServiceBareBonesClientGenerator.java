@@ -67,11 +67,8 @@ public final class ServiceBareBonesClientGenerator implements Runnable {
         this.symbolProvider = symbolProvider;
         this.writer = writer;
         this.integrations = integrations;
-        this.runtimePlugins = runtimePlugins
-            .stream()
-            // Only apply plugins that target the entire client.
-            .filter(plugin -> plugin.matchesService(model, service))
-            .collect(Collectors.toList());
+        // Only plugins that target the entire client are given, see RuntimeClientPluginIndex.
+        this.runtimePlugins = runtimePlugins;
         this.applicationProtocol = applicationProtocol;
 
         symbol = symbolProvider.toSymbol(service);
@@ -399,6 +396,10 @@ public final class ServiceBareBonesClientGenerator implements Runnable {
                 generateConstructor();
                 writer.write("");
                 generateDestroyMethod();
+                if (settings.generateClientWarmup()) {
+                    writer.write("");
+                    generateWarmupMethod();
+                }
                 // Hook for adding more methods to the client.
                 writer.injectSection(
                     ClientBodyExtraCodeSection.builder()
@@ -653,4 +654,31 @@ public final class ServiceBareBonesClientGenerator implements Runnable {
             writer.write("super.destroy();");
         });
     }
+
+    private void generateWarmupMethod() {
+        writer.addImportSubmodule(
+            "warmupClient",
+            "__warmupClient",
+            TypeScriptDependency.SMITHY_CORE,
+            SmithyCoreSubmodules.CLIENT
+        );
+        writer.addTypeImportSubmodule(
+            "WarmupCommandCtor",
+            "__WarmupCommandCtor",
+            TypeScriptDependency.SMITHY_CORE,
+            SmithyCoreSubmodules.CLIENT
+        );
+        writer.writeDocs(
+            """
+            Does the work of the first request that does not depend on its input, for example
+            during the initialization phase of a function. Configuration providers are resolved,
+            and the schemas and middleware stacks of the given commands are built.
+            No request is sent.
+
+            @param commands - command classes to prepare."""
+        );
+        writer.openBlock("async warmup(commands?: __WarmupCommandCtor[]): Promise<void> {", "}", () -> {
+            writer.write("return __warmupClient(this, commands);");
+        });
+    }
 }
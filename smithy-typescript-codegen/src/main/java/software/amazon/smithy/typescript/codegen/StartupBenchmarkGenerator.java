@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.TreeSet;
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.OperationIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.utils.IoUtils;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Generates a script measuring the startup of the built client package, run by
+ * the {@code bench:startup} script of the package.
+ *
+ * <p>For each client, the script reports the median time to load the package, construct
+ * the client, and send the first command to a stub request handler, each in a fresh
+ * process. It then records the size of the build output in {@code test/startup-snapshot.json},
+ * or compares it with the recorded size when {@code SNAPSHOT_MODE} is {@code compare}.
+ */
+@SmithyInternalApi
+public final class StartupBenchmarkGenerator {
+
+    public static final String STARTUP_BENCHMARK_FILENAME = "startup-benchmark.mjs";
+
+    private final TypeScriptWriter writer;
+    private final TypeScriptSettings settings;
+    private final Model model;
+    private final SymbolProvider symbolProvider;
+
+    public StartupBenchmarkGenerator(
+        TypeScriptWriter writer,
+        TypeScriptSettings settings,
+        Model model,
+        SymbolProvider symbolProvider
+    ) {
+        this.writer = writer;
+        this.settings = settings;
+        this.model = model;
+        this.symbolProvider = symbolProvider;
+    }
+
+    /**
+     * Code written by this method is pure JavaScript (ESM).
+     */
+    public void writeStartupBenchmark() {
+        Optional<OperationShape> firstCommand = getFirstCommand();
+        if (firstCommand.isEmpty()) {
+            return;
+        }
+        writer.write(IoUtils.readUtf8Resource(StartupBenchmarkGenerator.class, "startup-benchmark-stub.mjs"));
+
+        String aggregateClientName = CodegenUtils.getServiceName(settings, model, symbolProvider);
+        writer.write(
+            """
+            runStartupBenchmark({
+              clients: [$S, $S],
+              command: $S,
+            });""",
+            aggregateClientName + "Client",
+            aggregateClientName,
+            symbolProvider.toSymbol(firstCommand.get()).getName()
+        );
+    }
+
+    /**
+     * @return the operation sent first, preferring one whose input has no required members
+     * so that it is more likely to reach the request handler.
+     */
+    private Optional<OperationShape> getFirstCommand() {
+        OperationIndex operationIndex = OperationIndex.of(model);
+        TreeSet<OperationShape> operations = new TreeSet<>(
+            TopDownIndex.of(model).getContainedOperations(settings.getService())
+        );
+        operations.removeIf(operation -> operation.hasTag("server-only"));
+        return operations
+            .stream()
+            .min(
+                Comparator.comparing(
+                    (OperationShape operation) -> operationIndex
+                        .getInput(operation)
+                        .map(input -> input.members().stream().anyMatch(MemberShape::isRequired))
+                        .orElse(false)
+                )
+            );
+    }
+}
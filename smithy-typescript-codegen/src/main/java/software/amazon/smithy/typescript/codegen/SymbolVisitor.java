@@ -47,6 +47,7 @@ import software.amazon.smithy.model.shapes.ResourceShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.SetShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.model.shapes.ShapeVisitor;
 import software.amazon.smithy.model.shapes.ShortShape;
@@ -61,6 +62,7 @@ import software.amazon.smithy.model.traits.MediaTypeTrait;
 import software.amazon.smithy.model.traits.SparseTrait;
 import software.amazon.smithy.model.traits.StreamingTrait;
 import software.amazon.smithy.model.traits.UnitTypeTrait;
+import software.amazon.smithy.typescript.codegen.knowledge.ShapeClusterIndex;
 import software.amazon.smithy.utils.SmithyInternalApi;
 import software.amazon.smithy.utils.StringUtils;
 
@@ -116,7 +118,11 @@ final class SymbolVisitor implements SymbolProvider, ShapeVisitor<Symbol> {
                 errorShapes.addAll(operationIndex.getErrors(operationShape, settings.getService()));
             });
 
-        moduleNameDelegator = new ModuleNameDelegator(shapeChunkSize);
+        if (settings.getModelChunking() == TypeScriptSettings.ModelChunking.OPERATION) {
+            moduleNameDelegator = ModuleNameDelegator.clustered(model, settings.getService(model), shapeChunkSize);
+        } else {
+            moduleNameDelegator = new ModuleNameDelegator(shapeChunkSize);
+        }
     }
 
     static TypeScriptWriter modelIndexer(Collection<Shape> shapes, SymbolProvider symbolProvider) {
@@ -478,6 +484,10 @@ final class SymbolVisitor implements SymbolProvider, ShapeVisitor<Symbol> {
     /**
      * Utility class to locate which path should the symbol be generated into.
      * It will break the models into multiple files to prevent it getting too big.
+     *
+     * <p>By default, shapes are assigned to files in the order they are visited. When
+     * clustered, the assignment is computed up front from the operations reaching each
+     * shape, so that the models of an operation are kept in as few files as possible.
      */
     static final class ModuleNameDelegator {
 
@@ -485,12 +495,68 @@ final class SymbolVisitor implements SymbolProvider, ShapeVisitor<Symbol> {
         static final String SHAPE_NAMESPACE_PREFIX = "models";
 
         private final Map<Shape, String> visitedModels = new HashMap<>();
+        private final Map<ShapeId, String> clusteredModels;
         private int bucketCount = 0;
         private int currentBucketSize = 0;
         private final int chunkSize;
 
         ModuleNameDelegator(int shapeChunkSize) {
+            this(shapeChunkSize, null);
+        }
+
+        private ModuleNameDelegator(int shapeChunkSize, Map<ShapeId, String> clusteredModels) {
             chunkSize = shapeChunkSize;
+            this.clusteredModels = clusteredModels;
+        }
+
+        /**
+         * Packs the shape clusters of the service into model files of up to the chunk size.
+         * A cluster starts a new file if it does not fit into the current one, and operation
+         * clusters never share a file with shared clusters.
+         *
+         * @param model The model.
+         * @param service The service being generated.
+         * @param shapeChunkSize The maximum number of shapes per model file, unless a single cluster is larger.
+         * @return a delegator whose assignments do not depend on the order of visits.
+         */
+        static ModuleNameDelegator clustered(Model model, ServiceShape service, int shapeChunkSize) {
+            ShapeClusterIndex index = ShapeClusterIndex.of(model, service);
+            Map<ShapeId, String> assignments = new HashMap<>();
+            int bucket = packClusters(model, index.getOperationClusters(), shapeChunkSize, 0, assignments);
+            packClusters(model, index.getSharedClusters(), shapeChunkSize, bucket, assignments);
+            return new ModuleNameDelegator(shapeChunkSize, Map.copyOf(assignments));
+        }
+
+        /**
+         * @return the next unused bucket.
+         */
+        private static int packClusters(
+            Model model,
+            List<Set<ShapeId>> clusters,
+            int shapeChunkSize,
+            int bucket,
+            Map<ShapeId, String> assignments
+        ) {
+            int bucketSize = 0;
+            for (Set<ShapeId> cluster : clusters) {
+                List<ShapeId> chunked = cluster
+                    .stream()
+                    .filter(id -> isChunked(model.expectShape(id)))
+                    .toList();
+                if (bucketSize > 0 && bucketSize + chunked.size() > shapeChunkSize) {
+                    bucket++;
+                    bucketSize = 0;
+                }
+                for (ShapeId id : chunked) {
+                    assignments.put(id, getBucketPath(bucket));
+                    bucketSize++;
+                    if (bucketSize == shapeChunkSize) {
+                        bucket++;
+                        bucketSize = 0;
+                    }
+                }
+            }
+            return bucketSize > 0 ? bucket + 1 : bucket;
         }
 
         public String formatModuleName(Shape shape, String name) {
@@ -499,29 +565,47 @@ final class SymbolVisitor implements SymbolProvider, ShapeVisitor<Symbol> {
                 return String.join("/", ".", name);
             } else if (shape.getType() == ShapeType.OPERATION) {
                 return String.join("/", ".", CommandGenerator.COMMANDS_FOLDER, name);
-            } else if (visitedModels.containsKey(shape)) {
-                return visitedModels.get(shape);
-            }
-
-            String path;
-            if (shape.isEnumShape() || shape.isIntEnumShape() || shape.hasTrait(EnumTrait.class)) {
-                path = String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "enums");
+            } else if (shape.isEnumShape() || shape.isIntEnumShape() || shape.hasTrait(EnumTrait.class)) {
+                return String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "enums");
             } else if (shape.isStructureShape() && shape.hasTrait(ErrorTrait.class)) {
-                path = String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "errors");
-            } else if (shape.getId().equals(UnitTypeTrait.UNIT) || shape.isResourceShape()) {
+                return String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "errors");
+            } else if (!isChunked(shape)) {
                 // Unit or Resource shapes should only be put in the zero bucket, since they do not
                 // generate anything. They also do not contribute to bucket size.
-                path = String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "models_0");
-            } else {
-                path = String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "models_" + bucketCount);
+                return getBucketPath(0);
+            } else if (clusteredModels != null) {
+                // Shapes outside the service closure are not generated.
+                return clusteredModels.getOrDefault(shape.getId(), getBucketPath(0));
+            }
+            return formatSequentialModuleName(shape);
+        }
+
+        private synchronized String formatSequentialModuleName(Shape shape) {
+            return visitedModels.computeIfAbsent(shape, s -> {
+                String path = getBucketPath(bucketCount);
                 currentBucketSize++;
                 if (currentBucketSize == chunkSize) {
                     bucketCount++;
                     currentBucketSize = 0;
                 }
+                return path;
+            });
+        }
+
+        /**
+         * @return whether the shape is generated into a numbered models file and counts towards its size.
+         */
+        private static boolean isChunked(Shape shape) {
+            if (shape.isUnionShape()) {
+                return true;
             }
-            visitedModels.put(shape, path);
-            return path;
+            return shape.isStructureShape() &&
+                !shape.hasTrait(ErrorTrait.class) &&
+                !shape.getId().equals(UnitTypeTrait.UNIT);
+        }
+
+        private static String getBucketPath(int bucket) {
+            return String.join("/", ".", SHAPE_NAMESPACE_PREFIX, "models_" + bucket);
         }
 
         static TypeScriptWriter modelIndexer(Collection<Shape> shapes, SymbolProvider symbolProvider) {
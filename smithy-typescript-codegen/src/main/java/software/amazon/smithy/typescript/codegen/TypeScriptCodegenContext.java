@@ -32,6 +32,7 @@ public final class TypeScriptCodegenContext
     private final List<RuntimeClientPlugin> runtimePlugins;
     private final ProtocolGenerator protocolGenerator;
     private final ApplicationProtocol applicationProtocol;
+    private RuntimeClientPluginIndex runtimePluginIndex;
 
     private TypeScriptCodegenContext(Builder builder) {
         model = SmithyBuilder.requiredState("model", builder.model);
@@ -79,6 +80,19 @@ public final class TypeScriptCodegenContext
         return runtimePlugins;
     }
 
+    /**
+     * Gets the index of the runtime plugins that apply to the service and each of
+     * its operations, which is built on first use and shared for the rest of the run.
+     *
+     * @return Returns the runtime plugin index.
+     */
+    public synchronized RuntimeClientPluginIndex runtimePluginIndex() {
+        if (runtimePluginIndex == null) {
+            runtimePluginIndex = RuntimeClientPluginIndex.of(model, settings.getService(model), runtimePlugins);
+        }
+        return runtimePluginIndex;
+    }
+
     public ProtocolGenerator protocolGenerator() {
         return protocolGenerator;
     }
@@ -15,8 +15,54 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 @SmithyUnstableApi
 public final class TypeScriptDelegator extends WriterDelegator<TypeScriptWriter> {
 
+    private final FileManifest fileManifest;
+    private final TypeScriptWriter.TypeScriptWriterFactory writerFactory;
+    private final int bulkFlushThreads;
+
     TypeScriptDelegator(FileManifest fileManifest, SymbolProvider symbolProvider) {
-        super(fileManifest, symbolProvider, new TypeScriptWriter.TypeScriptWriterFactory());
+        this(fileManifest, symbolProvider, 0);
+    }
+
+    /**
+     * @param fileManifest Manifest that writers are flushed to.
+     * @param symbolProvider Symbol provider of the writers.
+     * @param bulkFlushThreads Number of threads writing files when writers are flushed,
+     *                         or 0 to write each file through the manifest.
+     */
+    TypeScriptDelegator(FileManifest fileManifest, SymbolProvider symbolProvider, int bulkFlushThreads) {
+        this(fileManifest, symbolProvider, bulkFlushThreads, new TypeScriptWriter.TypeScriptWriterFactory());
+    }
+
+    private TypeScriptDelegator(
+        FileManifest fileManifest,
+        SymbolProvider symbolProvider,
+        int bulkFlushThreads,
+        TypeScriptWriter.TypeScriptWriterFactory writerFactory
+    ) {
+        super(fileManifest, symbolProvider, writerFactory);
+        this.fileManifest = fileManifest;
+        this.writerFactory = writerFactory;
+        this.bulkFlushThreads = bulkFlushThreads;
+    }
+
+    /**
+     * Writes each pending writer to the file manifest.
+     *
+     * <p>With bulk flush threads and a file system manifest, directories are created once, files
+     * are written in parallel, and files whose contents are unchanged on disk are not written again.
+     *
+     * <p>The flushed writers are given back to the writer factory, which reuses their imports.
+     */
+    @Override
+    public void flushWriters() {
+        List<TypeScriptWriter> flushed = new ArrayList<>(getWriters().values());
+        if (bulkFlushThreads < 1 || !BulkFileWriter.supports(fileManifest)) {
+            super.flushWriters();
+        } else {
+            new BulkFileWriter(fileManifest, bulkFlushThreads).write(getWriters());
+            getWriters().clear();
+        }
+        flushed.forEach(writerFactory::recycle);
     }
 
     /**
@@ -32,6 +32,7 @@ import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.DefaultTrait;
 import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.typescript.codegen.protocols.ProtocolPriorityConfig;
+import software.amazon.smithy.typescript.codegen.schema.SchemaGenerationAllowlist;
 import software.amazon.smithy.utils.SmithyInternalApi;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
@@ -64,6 +65,25 @@ public final class TypeScriptSettings {
     private static final String GENERATE_SCHEMAS = "generateSchemas";
     private static final String GENERATE_ENDPOINT_BDD = "generateEndpointBdd";
     private static final String VERSIONING_SCHEME = "versioningScheme";
+    private static final String REQUEST_BODY_STREAMING_THRESHOLD = "requestBodyStreamingThreshold";
+    private static final String SPLIT_PROTOCOL_SERDE = "splitProtocolSerde";
+    private static final String LAZY_COMMANDS = "lazyCommands";
+    private static final String PREFETCH_COMMANDS = "prefetchCommands";
+    private static final String MODEL_CHUNKING = "modelChunking";
+    private static final String LAZY_ERROR_LOADING = "lazyErrorLoading";
+    private static final String MEMOIZE_HTTP_AUTH_OPTIONS = "memoizeHttpAuthOptions";
+    private static final String PROTOCOL_TEST_SHARDS = "protocolTestShards";
+    private static final String GENERATE_SERDE_BENCHMARKS = "generateSerdeBenchmarks";
+    private static final String PRUNE_UNREACHABLE_SHAPES = "pruneUnreachableShapes";
+    private static final String RETAINED_OPERATIONS = "retainedOperations";
+    private static final String GENERATE_CLIENT_WARMUP = "generateClientWarmup";
+    private static final String GENERATE_STARTUP_BENCHMARK = "generateStartupBenchmark";
+    private static final String GENERATE_JIT_LINT_REPORT = "generateJitLintReport";
+    private static final String SEPARATE_COMMAND_EXAMPLES = "separateCommandExamples";
+    private static final String SCHEMA_MEMBER_INDEX_THRESHOLD = "schemaMemberIndexThreshold";
+    private static final String GENERATE_PAGINATED_ITEM_MAPPERS = "generatePaginatedItemMappers";
+    private static final String GENERATE_REQUEST_COALESCING = "generateRequestCoalescing";
+    private static final String BULK_FLUSH_THREADS = "bulkFlushThreads";
 
     private String packageName;
     private String packageDescription = "";
@@ -84,10 +104,30 @@ public final class TypeScriptSettings {
     private ProtocolPriorityConfig protocolPriorityConfig = new ProtocolPriorityConfig(null, null);
     private String bigNumberMode = "native";
     private boolean generateSchemas = true;
+    private SchemaGenerationAllowlist schemaGenerationAllowlist;
     private boolean generateEndpointBdd = true;
     private boolean generateIndexTests = false;
     private boolean generateSnapshotTests = false;
     private String versioningScheme = "";
+    private int requestBodyStreamingThreshold = -1;
+    private boolean splitProtocolSerde = false;
+    private boolean lazyCommands = false;
+    private List<String> prefetchCommands = Collections.emptyList();
+    private ModelChunking modelChunking = ModelChunking.SEQUENTIAL;
+    private boolean lazyErrorLoading = false;
+    private boolean memoizeHttpAuthOptions = false;
+    private int protocolTestShards = 1;
+    private boolean generateSerdeBenchmarks = false;
+    private boolean pruneUnreachableShapes = false;
+    private List<String> retainedOperations = Collections.emptyList();
+    private boolean generateClientWarmup = false;
+    private boolean generateStartupBenchmark = false;
+    private boolean generateJitLintReport = false;
+    private boolean separateCommandExamples = false;
+    private int schemaMemberIndexThreshold = -1;
+    private boolean generatePaginatedItemMappers = false;
+    private boolean generateRequestCoalescing = false;
+    private int bulkFlushThreads = 0;
 
     @Deprecated
     public static TypeScriptSettings from(Model model, ObjectNode config) {
@@ -137,6 +177,9 @@ public final class TypeScriptSettings {
 
         if (artifactType == ArtifactType.SSDK) {
             settings.setDisableDefaultValidation(config.getBooleanMemberOrDefault(DISABLE_DEFAULT_VALIDATION));
+            settings.setRequestBodyStreamingThreshold(
+                config.getNumberMemberOrDefault(REQUEST_BODY_STREAMING_THRESHOLD, -1).intValue()
+            );
         }
         settings.setRequiredMemberMode(
             config
@@ -160,6 +203,45 @@ public final class TypeScriptSettings {
         settings.setGenerateIndexTests(config.getBooleanMemberOrDefault(GENERATE_INDEX_TESTS, false));
         settings.setGenerateSnapshotTests(config.getBooleanMemberOrDefault(GENERATE_SNAPSHOT_TESTS, false));
         settings.setVersioningScheme(config.getStringMemberOrDefault(VERSIONING_SCHEME, ""));
+        settings.setProtocolTestShards(config.getNumberMemberOrDefault(PROTOCOL_TEST_SHARDS, 1).intValue());
+        settings.setGenerateJitLintReport(config.getBooleanMemberOrDefault(GENERATE_JIT_LINT_REPORT, false));
+        settings.setBulkFlushThreads(config.getNumberMemberOrDefault(BULK_FLUSH_THREADS, 0).intValue());
+        if (artifactType == ArtifactType.CLIENT) {
+            settings.setSplitProtocolSerde(config.getBooleanMemberOrDefault(SPLIT_PROTOCOL_SERDE, false));
+            settings.setLazyCommands(config.getBooleanMemberOrDefault(LAZY_COMMANDS, false));
+            settings.setPrefetchCommands(
+                config
+                    .getArrayMember(PREFETCH_COMMANDS)
+                    .map(array -> array.getElementsAs(e -> e.expectStringNode().getValue()))
+                    .orElse(Collections.emptyList())
+            );
+            settings.setModelChunking(
+                config
+                    .getStringMember(MODEL_CHUNKING)
+                    .map(s -> ModelChunking.fromString(s.getValue()))
+                    .orElse(ModelChunking.SEQUENTIAL)
+            );
+            settings.setLazyErrorLoading(config.getBooleanMemberOrDefault(LAZY_ERROR_LOADING, false));
+            settings.setMemoizeHttpAuthOptions(config.getBooleanMemberOrDefault(MEMOIZE_HTTP_AUTH_OPTIONS, false));
+            settings.setGenerateSerdeBenchmarks(config.getBooleanMemberOrDefault(GENERATE_SERDE_BENCHMARKS, false));
+            settings.setPruneUnreachableShapes(config.getBooleanMemberOrDefault(PRUNE_UNREACHABLE_SHAPES, false));
+            settings.setRetainedOperations(
+                config
+                    .getArrayMember(RETAINED_OPERATIONS)
+                    .map(array -> array.getElementsAs(e -> e.expectStringNode().getValue()))
+                    .orElse(Collections.emptyList())
+            );
+            settings.setGenerateClientWarmup(config.getBooleanMemberOrDefault(GENERATE_CLIENT_WARMUP, false));
+            settings.setGenerateStartupBenchmark(config.getBooleanMemberOrDefault(GENERATE_STARTUP_BENCHMARK, false));
+            settings.setSeparateCommandExamples(config.getBooleanMemberOrDefault(SEPARATE_COMMAND_EXAMPLES, false));
+            settings.setSchemaMemberIndexThreshold(
+                config.getNumberMemberOrDefault(SCHEMA_MEMBER_INDEX_THRESHOLD, -1).intValue()
+            );
+            settings.setGeneratePaginatedItemMappers(
+                config.getBooleanMemberOrDefault(GENERATE_PAGINATED_ITEM_MAPPERS, false)
+            );
+            settings.setGenerateRequestCoalescing(config.getBooleanMemberOrDefault(GENERATE_REQUEST_COALESCING, false));
+        }
 
         return settings;
     }
@@ -277,6 +359,26 @@ public final class TypeScriptSettings {
         return generateSchemas;
     }
 
+    /**
+     * Internal API, do not use.
+     *
+     * @return the schema generation allowlist of this service, which is the default
+     * allowlist unless one was set.
+     */
+    @SmithyInternalApi
+    public SchemaGenerationAllowlist getSchemaGenerationAllowlist() {
+        SchemaGenerationAllowlist allowlist = schemaGenerationAllowlist;
+        return allowlist != null ? allowlist : SchemaGenerationAllowlist.getDefault();
+    }
+
+    /**
+     * Internal API, do not use.
+     */
+    @SmithyInternalApi
+    public void setSchemaGenerationAllowlist(SchemaGenerationAllowlist schemaGenerationAllowlist) {
+        this.schemaGenerationAllowlist = Objects.requireNonNull(schemaGenerationAllowlist);
+    }
+
     @SmithyInternalApi
     public void setGenerateEndpointBdd(boolean generateEndpointBdd) {
         this.generateEndpointBdd = generateEndpointBdd;
@@ -311,6 +413,23 @@ public final class TypeScriptSettings {
         return this.versioningScheme;
     }
 
+    /**
+     * Returns the number of spec files that generated protocol tests are split into.
+     * Operations are assigned to files in order.
+     *
+     * @return the number of protocol test files. Default: 1
+     */
+    public int getProtocolTestShards() {
+        return protocolTestShards;
+    }
+
+    public void setProtocolTestShards(int protocolTestShards) {
+        if (protocolTestShards < 1) {
+            throw new CodegenException(PROTOCOL_TEST_SHARDS + " must be at least 1, got " + protocolTestShards);
+        }
+        this.protocolTestShards = protocolTestShards;
+    }
+
     /**
      * Gets a chunk of custom properties to merge into the generated
      * package.json file.
@@ -428,6 +547,289 @@ public final class TypeScriptSettings {
         this.disableDefaultValidation = disableDefaultValidation;
     }
 
+    /**
+     * Returns the request body size in bytes above which document bodies are parsed
+     * incrementally from the request stream. This setting is only relevant for the SSDK.
+     *
+     * <p>When enabled, non-streaming blob payloads are also exposed to operation
+     * handlers as streams instead of being collected into a Uint8Array.
+     *
+     * @return the threshold in bytes, or -1 if request bodies are always buffered. Default: -1
+     */
+    public int getRequestBodyStreamingThreshold() {
+        return requestBodyStreamingThreshold;
+    }
+
+    public void setRequestBodyStreamingThreshold(int requestBodyStreamingThreshold) {
+        this.requestBodyStreamingThreshold = requestBodyStreamingThreshold;
+    }
+
+    /**
+     * @return whether request bodies may be streamed rather than buffered. Only relevant for the SSDK.
+     */
+    public boolean isRequestBodyStreamingEnabled() {
+        return generateServerSdk() && requestBodyStreamingThreshold >= 0;
+    }
+
+    /**
+     * Returns whether protocol serde is written as one module per operation plus a
+     * shared module, instead of a single module for the service. Only relevant for clients.
+     *
+     * @return whether protocol serde is split by operation. Default: false
+     */
+    public boolean splitProtocolSerde() {
+        return splitProtocolSerde;
+    }
+
+    public void setSplitProtocolSerde(boolean splitProtocolSerde) {
+        this.splitProtocolSerde = splitProtocolSerde;
+    }
+
+    /**
+     * Returns whether the methods of the aggregated client load their command classes,
+     * paginators, and waiters with a dynamic import on first use, instead of the
+     * aggregated client module statically importing all of them. Only relevant for clients.
+     *
+     * @return whether aggregated client commands are loaded lazily. Default: false
+     */
+    public boolean lazyCommands() {
+        return lazyCommands;
+    }
+
+    public void setLazyCommands(boolean lazyCommands) {
+        this.lazyCommands = lazyCommands;
+    }
+
+    /**
+     * Returns the names of operations whose commands are imported as soon as the aggregated
+     * client module is loaded. Only relevant when {@link #lazyCommands()} is enabled.
+     *
+     * @return operation names to prefetch. Default: empty
+     */
+    public List<String> getPrefetchCommands() {
+        return prefetchCommands;
+    }
+
+    public void setPrefetchCommands(List<String> prefetchCommands) {
+        this.prefetchCommands = Collections.unmodifiableList(new ArrayList<>(prefetchCommands));
+    }
+
+    /**
+     * Returns how structures and unions are assigned to the numbered model files.
+     * Only relevant for clients.
+     *
+     * Defaults to {@link ModelChunking#SEQUENTIAL}
+     *
+     * @return the model chunking strategy.
+     */
+    public ModelChunking getModelChunking() {
+        return modelChunking;
+    }
+
+    public void setModelChunking(ModelChunking modelChunking) {
+        this.modelChunking = Objects.requireNonNull(modelChunking);
+    }
+
+    /**
+     * Returns whether modeled error classes are registered in the error type registries
+     * with a dynamic import, so that they are loaded when an error is first deserialized
+     * instead of when the schemas are loaded. Only relevant for clients generating schemas.
+     *
+     * @return whether error classes are loaded lazily. Default: false
+     */
+    public boolean lazyErrorLoading() {
+        return lazyErrorLoading;
+    }
+
+    public void setLazyErrorLoading(boolean lazyErrorLoading) {
+        this.lazyErrorLoading = lazyErrorLoading;
+    }
+
+    /**
+     * Returns whether the default auth scheme provider returns frozen auth options
+     * computed once per operation and auth parameters, instead of creating them on
+     * every request.
+     *
+     * @return whether auth options are memoized. Default: false
+     */
+    public boolean memoizeHttpAuthOptions() {
+        return memoizeHttpAuthOptions;
+    }
+
+    public void setMemoizeHttpAuthOptions(boolean memoizeHttpAuthOptions) {
+        this.memoizeHttpAuthOptions = memoizeHttpAuthOptions;
+    }
+
+    /**
+     * Returns whether a benchmark of the protocol's serde, and of its codec against JSON,
+     * is generated from the protocol test bodies, for protocols that support it. The benchmark is run
+     * with the {@code bench:serde} script of the generated package.
+     *
+     * @return whether serde benchmarks are generated. Default: false
+     */
+    public boolean generateSerdeBenchmarks() {
+        return generateSerdeBenchmarks;
+    }
+
+    public void setGenerateSerdeBenchmarks(boolean generateSerdeBenchmarks) {
+        this.generateSerdeBenchmarks = generateSerdeBenchmarks;
+    }
+
+    /**
+     * Returns whether shapes unreachable from the retained operations are removed from
+     * the model before generation, so that no types, serde functions, errors, paginators
+     * or waiters are generated for them. The removed shapes are logged.
+     *
+     * <p>Only reachability from the retained operations is considered. Shapes that are reachable
+     * are kept whether or not schemas are generated, because schema mode still generates a type
+     * and a schema for every shape of the service closure.
+     *
+     * @return whether unreachable shapes are pruned. Default: false
+     */
+    public boolean pruneUnreachableShapes() {
+        return pruneUnreachableShapes;
+    }
+
+    public void setPruneUnreachableShapes(boolean pruneUnreachableShapes) {
+        this.pruneUnreachableShapes = pruneUnreachableShapes;
+    }
+
+    /**
+     * Returns the names of the operations kept when pruning unreachable shapes.
+     * Other operations of the service are removed. An empty list retains all operations.
+     *
+     * @return operation names to retain. Default: empty
+     */
+    public List<String> getRetainedOperations() {
+        return retainedOperations;
+    }
+
+    public void setRetainedOperations(List<String> retainedOperations) {
+        this.retainedOperations = retainedOperations;
+    }
+
+    /**
+     * Returns whether the client has a {@code warmup(commands?)} method, which resolves
+     * configuration providers and builds the schemas and middleware stacks of the given
+     * commands ahead of the first request.
+     *
+     * @return whether the client warmup method is generated. Default: false
+     */
+    public boolean generateClientWarmup() {
+        return generateClientWarmup;
+    }
+
+    public void setGenerateClientWarmup(boolean generateClientWarmup) {
+        this.generateClientWarmup = generateClientWarmup;
+    }
+
+    /**
+     * Returns whether a script measuring the startup time and build output size of the
+     * client package is generated, run with the {@code bench:startup} script of the package.
+     * The output size is recorded in a snapshot file, so that size regressions show up as diffs.
+     *
+     * @return whether the startup benchmark is generated. Default: false
+     */
+    public boolean generateStartupBenchmark() {
+        return generateStartupBenchmark;
+    }
+
+    public void setGenerateStartupBenchmark(boolean generateStartupBenchmark) {
+        this.generateStartupBenchmark = generateStartupBenchmark;
+    }
+
+    /**
+     * Returns whether the generated files are linted for patterns that deoptimize V8 hot paths,
+     * such as deleting properties, with the occurrences written to {@code jit-lint-report.json}.
+     *
+     * @return whether the JIT-friendliness report is generated. Default: false
+     */
+    public boolean generateJitLintReport() {
+        return generateJitLintReport;
+    }
+
+    public void setGenerateJitLintReport(boolean generateJitLintReport) {
+        this.generateJitLintReport = generateJitLintReport;
+    }
+
+    /**
+     * Returns whether command examples are written to separate files in {@code docs/examples}
+     * instead of the command documentation. Those files are generated in the background
+     * while the rest of the client is generated.
+     *
+     * @return whether command examples are generated separately. Default: false
+     */
+    public boolean separateCommandExamples() {
+        return separateCommandExamples;
+    }
+
+    public void setSeparateCommandExamples(boolean separateCommandExamples) {
+        this.separateCommandExamples = separateCommandExamples;
+    }
+
+    /**
+     * Returns the number of members at which a structure schema also gets a generated
+     * table of member names to their index in the member lists of the schema, so that
+     * members are looked up at runtime without scanning the member name list.
+     *
+     * @return the member count threshold, or -1 if no tables are generated. Default: -1
+     */
+    public int getSchemaMemberIndexThreshold() {
+        return schemaMemberIndexThreshold;
+    }
+
+    public void setSchemaMemberIndexThreshold(int schemaMemberIndexThreshold) {
+        this.schemaMemberIndexThreshold = schemaMemberIndexThreshold;
+    }
+
+    /**
+     * Returns whether each paginator whose operation has a list of paginated items is
+     * generated with a function mapping those items, with a bounded number of pages
+     * requested ahead and of items mapped at once.
+     *
+     * @return whether to generate paginated item mappers. Default: false
+     */
+    public boolean generatePaginatedItemMappers() {
+        return generatePaginatedItemMappers;
+    }
+
+    public void setGeneratePaginatedItemMappers(boolean generatePaginatedItemMappers) {
+        this.generatePaginatedItemMappers = generatePaginatedItemMappers;
+    }
+
+    /**
+     * Returns whether commands of read-only operations without streaming output are
+     * generated with middleware sending one request for concurrent identical requests
+     * of the same client.
+     *
+     * @return whether to generate request coalescing. Default: false
+     */
+    public boolean generateRequestCoalescing() {
+        return generateRequestCoalescing;
+    }
+
+    public void setGenerateRequestCoalescing(boolean generateRequestCoalescing) {
+        this.generateRequestCoalescing = generateRequestCoalescing;
+    }
+
+    /**
+     * Returns the number of threads writing generated files when they are flushed.
+     * When set, the directories of the files are created once each, and files whose
+     * contents are unchanged on disk are not written again, keeping their modification time.
+     *
+     * @return the number of threads, or 0 if each file is written through the file manifest. Default: 0
+     */
+    public int getBulkFlushThreads() {
+        return bulkFlushThreads;
+    }
+
+    public void setBulkFlushThreads(int bulkFlushThreads) {
+        if (bulkFlushThreads < 0) {
+            throw new CodegenException(BULK_FLUSH_THREADS + " must not be negative, got " + bulkFlushThreads);
+        }
+        this.bulkFlushThreads = bulkFlushThreads;
+    }
+
     /**
      * Returns the code generation mode for required members.
      *
@@ -644,7 +1046,25 @@ public final class TypeScriptSettings {
                 BIG_NUMBER_MODE,
                 GENERATE_SCHEMAS,
                 GENERATE_ENDPOINT_BDD,
-                VERSIONING_SCHEME
+                VERSIONING_SCHEME,
+                PROTOCOL_TEST_SHARDS,
+                SPLIT_PROTOCOL_SERDE,
+                LAZY_COMMANDS,
+                PREFETCH_COMMANDS,
+                MODEL_CHUNKING,
+                LAZY_ERROR_LOADING,
+                MEMOIZE_HTTP_AUTH_OPTIONS,
+                GENERATE_SERDE_BENCHMARKS,
+                PRUNE_UNREACHABLE_SHAPES,
+                RETAINED_OPERATIONS,
+                GENERATE_CLIENT_WARMUP,
+                GENERATE_STARTUP_BENCHMARK,
+                GENERATE_JIT_LINT_REPORT,
+                SEPARATE_COMMAND_EXAMPLES,
+                SCHEMA_MEMBER_INDEX_THRESHOLD,
+                GENERATE_PAGINATED_ITEM_MAPPERS,
+                GENERATE_REQUEST_COALESCING,
+                BULK_FLUSH_THREADS
             )
         ),
         SSDK(
@@ -660,6 +1080,7 @@ public final class TypeScriptSettings {
                 PRIVATE,
                 REQUIRED_MEMBER_MODE,
                 DISABLE_DEFAULT_VALIDATION,
+                REQUEST_BODY_STREAMING_THRESHOLD,
                 CREATE_DEFAULT_README,
                 GENERATE_TYPEDOC,
                 GENERATE_INDEX_TESTS,
@@ -667,7 +1088,10 @@ public final class TypeScriptSettings {
                 BIG_NUMBER_MODE,
                 GENERATE_SCHEMAS,
                 GENERATE_ENDPOINT_BDD,
-                VERSIONING_SCHEME
+                VERSIONING_SCHEME,
+                PROTOCOL_TEST_SHARDS,
+                GENERATE_JIT_LINT_REPORT,
+                BULK_FLUSH_THREADS
             )
         );
 
@@ -740,6 +1164,43 @@ public final class TypeScriptSettings {
         }
     }
 
+    /**
+     * How structures and unions are assigned to the numbered model files.
+     */
+    public enum ModelChunking {
+        /**
+         * Shapes fill each model file in the order they are visited by the code generator.
+         */
+        SEQUENTIAL("sequential"),
+
+        /**
+         * Shapes used by a single operation are kept together, and shapes used by many
+         * operations are grouped by the operations using them. Importing a command then
+         * loads fewer model files, and the assignment does not depend on visit order.
+         */
+        OPERATION("operation");
+
+        private final String mode;
+
+        ModelChunking(String mode) {
+            this.mode = mode;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public static ModelChunking fromString(String s) {
+            if ("sequential".equals(s)) {
+                return SEQUENTIAL;
+            }
+            if ("operation".equals(s)) {
+                return OPERATION;
+            }
+            throw new CodegenException(String.format("Unsupported model chunking: %s", s));
+        }
+    }
+
     public enum PackageManager {
         YARN("yarn", "yarn dlx"),
         NPM("npm", "npx"),
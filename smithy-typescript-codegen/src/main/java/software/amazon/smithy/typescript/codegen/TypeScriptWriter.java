@@ -5,6 +5,8 @@
 package software.amazon.smithy.typescript.codegen;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.BiFunction;
 import java.util.function.UnaryOperator;
 import software.amazon.smithy.codegen.core.CodegenException;
@@ -51,7 +53,11 @@ public final class TypeScriptWriter extends SymbolWriter<TypeScriptWriter, Impor
     }
 
     private TypeScriptWriter(String moduleName, boolean withAttribution) {
-        super(new ImportDeclarations(moduleName));
+        this(new ImportDeclarations(moduleName), moduleName, withAttribution);
+    }
+
+    private TypeScriptWriter(ImportDeclarations importDeclarations, String moduleName, boolean withAttribution) {
+        super(importDeclarations);
         this.moduleName = moduleName;
 
         setIndentText("  ");
@@ -62,13 +68,45 @@ public final class TypeScriptWriter extends SymbolWriter<TypeScriptWriter, Impor
         this.withAttribution = withAttribution;
     }
 
+    /**
+     * Creates the writers of a {@link TypeScriptDelegator}.
+     *
+     * <p>The import declarations of writers given back to {@link #recycle(TypeScriptWriter)} once
+     * their files are written are cleared and reused by the next writers, along with their
+     * per-module import maps. At most {@link #MAX_RETAINED_IMPORT_DECLARATIONS} are kept.
+     * The code buffers of a writer cannot be reset, so writers themselves are always new.
+     */
     public static final class TypeScriptWriterFactory implements SymbolWriter.Factory<TypeScriptWriter> {
 
+        /**
+         * Largest number of import declarations kept for reuse.
+         */
+        static final int MAX_RETAINED_IMPORT_DECLARATIONS = 32;
+
+        private final Deque<ImportDeclarations> retainedImportDeclarations = new ArrayDeque<>();
+
         @Override
         public TypeScriptWriter apply(String filename, String namespace) {
             boolean withAttribution = filename.endsWith(".ts");
             String moduleName = filename.endsWith(".ts") ? filename.substring(0, filename.length() - 3) : filename;
-            return new TypeScriptWriter(moduleName, withAttribution);
+            ImportDeclarations importDeclarations = retainedImportDeclarations.poll();
+            if (importDeclarations == null) {
+                return new TypeScriptWriter(moduleName, withAttribution);
+            }
+            importDeclarations.reset(moduleName);
+            return new TypeScriptWriter(importDeclarations, moduleName, withAttribution);
+        }
+
+        /**
+         * Gives back a writer created by this factory whose file has been written.
+         * The writer must not be used afterwards.
+         *
+         * @param writer Writer to reuse the import declarations of.
+         */
+        void recycle(TypeScriptWriter writer) {
+            if (retainedImportDeclarations.size() < MAX_RETAINED_IMPORT_DECLARATIONS) {
+                retainedImportDeclarations.push(writer.getImportContainer());
+            }
         }
     }
 
@@ -81,6 +119,17 @@ public final class TypeScriptWriter extends SymbolWriter<TypeScriptWriter, Impor
         return moduleName;
     }
 
+    /**
+     * Resolves a module path against the module of the writer in the same way
+     * as imports are, for use in dynamic {@code import()} expressions.
+     *
+     * @param module Module path, relativized if it starts with ".".
+     * @return Returns the module path to write.
+     */
+    public String getRelativeModulePath(String module) {
+        return getImportContainer().relativize(module);
+    }
+
     /**
      * default import from a module, annotated with @ts-ignore.
      *
@@ -440,16 +489,23 @@ public final class TypeScriptWriter extends SymbolWriter<TypeScriptWriter, Impor
     public String toString() {
         String contents = super.toString();
         String importString = getImportContainer().toString();
-        String strippedContents = StringUtils.stripStart(contents, null);
         String strippedImportString = StringUtils.strip(importString, null);
-        String attribution = withAttribution ? CODEGEN_INDICATOR : "";
+        StringBuilder result = new StringBuilder(
+            CODEGEN_INDICATOR.length() + importString.length() + contents.length() + 1
+        );
+        if (withAttribution) {
+            result.append(CODEGEN_INDICATOR);
+        }
 
         // Don't add an additional new line between explicit imports and managed imports.
+        String strippedContents = strippedImportString.isEmpty() ? contents : StringUtils.stripStart(contents, null);
         if (!strippedImportString.isEmpty() && strippedContents.startsWith("import ")) {
-            return attribution + strippedImportString + "\n" + strippedContents;
+            result.append(strippedImportString).append('\n').append(strippedContents);
+        } else {
+            result.append(importString).append(contents);
         }
 
-        return attribution + importString + contents;
+        return result.toString();
     }
 
     /**
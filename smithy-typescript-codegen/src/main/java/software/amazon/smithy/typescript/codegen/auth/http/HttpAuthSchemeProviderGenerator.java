@@ -5,11 +5,15 @@
 package software.amazon.smithy.typescript.codegen.auth.http;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
@@ -54,6 +58,11 @@ import software.amazon.smithy.utils.StringUtils;
 @SmithyInternalApi
 public class HttpAuthSchemeProviderGenerator implements Runnable {
 
+    /**
+     * Upper bound of the number of memoized auth option lists, after which the least recently used list is evicted.
+     */
+    private static final int HTTP_AUTH_OPTIONS_CACHE_SIZE = 64;
+
     private final TypeScriptDelegator delegator;
     private final TypeScriptSettings settings;
     private final Model model;
@@ -457,56 +466,260 @@ public class HttpAuthSchemeProviderGenerator implements Runnable {
                     .symbolProvider(symbolProvider)
                     .build()
             );
-            w.openBlock("""
-                        /**
-                         * @internal
-                         */
-                        export const default$LHttpAuthSchemeProvider: $LHttpAuthSchemeProvider = \
-                        (authParameters) => {""", "};", serviceName, serviceName, () -> {
-                w.write("const options: HttpAuthOption[] = [];");
-                w.openBlock("switch (authParameters.operation) {", "}", () -> {
-                    var serviceAuthSchemes = serviceIndex.getEffectiveAuthSchemes(
-                        serviceShape,
-                        AuthSchemeMode.NO_AUTH_AWARE
-                    );
-                    for (OperationShape operationShape : topDownIndex.getContainedOperations(serviceShape)) {
-                        ShapeId operationShapeId = operationShape.getId();
-                        var operationAuthSchemes = serviceIndex.getEffectiveAuthSchemes(
-                            serviceShape,
-                            operationShapeId,
-                            AuthSchemeMode.NO_AUTH_AWARE
+            if (settings.memoizeHttpAuthOptions()) {
+                generateMemoizedHttpAuthSchemeProviderFunction(w);
+            } else {
+                w.openBlock("""
+                            /**
+                             * @internal
+                             */
+                            export const default$LHttpAuthSchemeProvider: $LHttpAuthSchemeProvider = \
+                            (authParameters) => {""", "};", serviceName, serviceName, () -> {
+                    writeHttpAuthOptions(w);
+                });
+            }
+            w.popState();
+        });
+    }
+
+    /*
+    const createWeatherHttpAuthOptions = (authParameters: WeatherHttpAuthSchemeParameters): HttpAuthOption[] => {
+        // same as the default provider above.
+    };
+
+    const freezeHttpAuthOptions = ...;
+
+    const httpAuthOptionsByOperation: Record<string, HttpAuthOption[]> = {
+        OnlyHttpApiKeyAuth: freezeHttpAuthOptions(createWeatherHttpAuthOptions({ operation: "OnlyHttpApiKeyAuth" })),
+    };
+
+    const httpAuthOptionsCache = new Map<string, HttpAuthOption[]>();
+
+    const memoizeHttpAuthOptions = (key: string, authParameters: WeatherHttpAuthSchemeParameters) => { ... };
+
+    export const defaultWeatherHttpAuthSchemeProvider: WeatherHttpAuthSchemeProvider =
+    (authParameters) => {
+        switch (authParameters.operation) {
+            case "OnlyHttpApiKeyAuth": {
+                return httpAuthOptionsByOperation["OnlyHttpApiKeyAuth"];
+            };
+            default: {
+                return memoizeHttpAuthOptions(["", authParameters.region], authParameters);
+            };
+        };
+    };
+    */
+    private void generateMemoizedHttpAuthSchemeProviderFunction(TypeScriptWriter w) {
+        var serviceAuthSchemes = serviceIndex.getEffectiveAuthSchemes(serviceShape, AuthSchemeMode.NO_AUTH_AWARE);
+        Map<String, List<String>> operationKeyParameters = new TreeMap<>();
+        for (OperationShape operationShape : topDownIndex.getContainedOperations(serviceShape)) {
+            var operationAuthSchemes = serviceIndex.getEffectiveAuthSchemes(
+                serviceShape,
+                operationShape.getId(),
+                AuthSchemeMode.NO_AUTH_AWARE
+            );
+            if (!AuthUtils.areHttpAuthSchemesEqual(serviceAuthSchemes, operationAuthSchemes)) {
+                operationKeyParameters.put(
+                    operationShape.getId().getName(),
+                    getKeyParameters(operationAuthSchemes.keySet())
+                );
+            }
+        }
+        List<String> defaultKeyParameters = getKeyParameters(serviceAuthSchemes.keySet());
+        boolean hasStaticOperations = operationKeyParameters.values().stream().anyMatch(List::isEmpty);
+        boolean hasMemoizedOptions = !defaultKeyParameters.isEmpty() ||
+            operationKeyParameters.values().stream().anyMatch(parameters -> !parameters.isEmpty());
+
+        w.addTypeImport("HttpAuthOption", null, TypeScriptDependency.SMITHY_TYPES);
+        w.openBlock("""
+                    /**
+                     * Creates the auth options of an operation. The result is frozen and shared between requests.
+                     *
+                     * @internal
+                     */
+                    const create$LHttpAuthOptions = (authParameters: $LHttpAuthSchemeParameters): \
+                    HttpAuthOption[] => {""", "};", serviceName, serviceName, () -> {
+            writeHttpAuthOptions(w);
+        });
+        w.write("""
+                /**
+                 * @internal
+                 */
+                const freezeHttpAuthOptions = (options: HttpAuthOption[]): HttpAuthOption[] =>
+                  Object.freeze(options.map((option) => Object.freeze(option))) as HttpAuthOption[];
+                """);
+
+        if (hasStaticOperations) {
+            w.writeDocs("Auth options of operations that do not depend on auth parameters.\n@internal");
+            w.openBlock("const httpAuthOptionsByOperation: Record<string, HttpAuthOption[]> = {", "};", () -> {
+                operationKeyParameters.forEach((operationName, parameters) -> {
+                    if (parameters.isEmpty()) {
+                        w.write(
+                            """
+                            $S: freezeHttpAuthOptions(
+                              create$LHttpAuthOptions({ operation: $S } as $LHttpAuthSchemeParameters)
+                            ),""",
+                            operationName,
+                            serviceName,
+                            operationName,
+                            serviceName
                         );
-                        // Skip operation generation if operation auth schemes are equivalent to the default service
-                        // auth schemes.
-                        if (AuthUtils.areHttpAuthSchemesEqual(serviceAuthSchemes, operationAuthSchemes)) {
-                            continue;
-                        }
-                        w.openBlock("case $S: {", "};", operationShapeId.getName(), () -> {
-                            operationAuthSchemes
-                                .keySet()
-                                .forEach(shapeId -> {
-                                    w.write(
-                                        "options.push(create$LHttpAuthOption(authParameters));",
-                                        normalizeAuthSchemeName(shapeId)
-                                    );
-                                });
-                            w.write("break;");
-                        });
                     }
-                    w.openBlock("default: {", "}", () -> {
-                        serviceAuthSchemes
-                            .keySet()
-                            .forEach(shapeId -> {
-                                w.write(
-                                    "options.push(create$LHttpAuthOption(authParameters));",
-                                    normalizeAuthSchemeName(shapeId)
-                                );
-                            });
+                });
+            });
+            w.write("");
+        }
+        if (defaultKeyParameters.isEmpty()) {
+            w.writeDocs("@internal");
+            w.write(
+                """
+                const defaultHttpAuthOptions = freezeHttpAuthOptions(
+                  create$LHttpAuthOptions({} as $LHttpAuthSchemeParameters)
+                );
+                """,
+                serviceName,
+                serviceName
+            );
+        }
+        if (hasMemoizedOptions) {
+            w.write(
+                """
+                /**
+                 * Auth options by operation and auth parameters, in least recently used order.
+                 *
+                 * @internal
+                 */
+                const httpAuthOptionsCache = new Map<string, HttpAuthOption[]>();
+
+                /**
+                 * Returns the auth options of the given key values, i.e. the operation name and the
+                 * auth parameters read by its auth schemes. Each value is keyed with its type, so that
+                 * for example undefined and "undefined" are different keys.
+                 *
+                 * @internal
+                 */
+                const memoizeHttpAuthOptions = (
+                  keyValues: unknown[],
+                  authParameters: $LHttpAuthSchemeParameters
+                ): HttpAuthOption[] => {
+                  const key = JSON.stringify(keyValues.map((value) => [typeof value, value]));
+                  let options = httpAuthOptionsCache.get(key);
+                  if (options === undefined) {
+                    if (httpAuthOptionsCache.size >= $L) {
+                      httpAuthOptionsCache.delete(httpAuthOptionsCache.keys().next().value!);
+                    }
+                    options = freezeHttpAuthOptions(create$LHttpAuthOptions(authParameters));
+                  } else {
+                    httpAuthOptionsCache.delete(key);
+                  }
+                  httpAuthOptionsCache.set(key, options);
+                  return options;
+                };
+                """,
+                serviceName,
+                HTTP_AUTH_OPTIONS_CACHE_SIZE,
+                serviceName
+            );
+        }
+
+        w.openBlock("""
+                    /**
+                     * @internal
+                     */
+                    export const default$LHttpAuthSchemeProvider: $LHttpAuthSchemeProvider = \
+                    (authParameters) => {""", "};", serviceName, serviceName, () -> {
+            w.openBlock("switch (authParameters.operation) {", "}", () -> {
+                operationKeyParameters.forEach((operationName, parameters) -> {
+                    w.openBlock("case $S: {", "}", operationName, () -> {
+                        if (parameters.isEmpty()) {
+                            w.write("return httpAuthOptionsByOperation[$S];", operationName);
+                        } else {
+                            w.write(
+                                "return memoizeHttpAuthOptions($L, authParameters);",
+                                getCacheKeyExpression(operationName, parameters)
+                            );
+                        }
                     });
                 });
-                w.write("return options;");
+                w.openBlock("default: {", "}", () -> {
+                    if (defaultKeyParameters.isEmpty()) {
+                        w.write("return defaultHttpAuthOptions;");
+                    } else {
+                        w.write(
+                            "return memoizeHttpAuthOptions($L, authParameters);",
+                            getCacheKeyExpression("", defaultKeyParameters)
+                        );
+                    }
+                });
+            });
+        });
+    }
+
+    /**
+     * @return names of the auth parameters used by any of the given auth schemes, which
+     * together with the operation name identify a list of auth options.
+     */
+    private List<String> getKeyParameters(Set<ShapeId> authSchemeIds) {
+        Set<String> parameters = new TreeSet<>();
+        for (ShapeId authSchemeId : authSchemeIds) {
+            HttpAuthScheme authScheme = effectiveHttpAuthSchemes.get(authSchemeId);
+            if (authScheme != null) {
+                authScheme.getHttpAuthSchemeParameters().forEach(parameter -> parameters.add(parameter.name()));
+            }
+        }
+        return new ArrayList<>(parameters);
+    }
+
+    private static String getCacheKeyExpression(String operationName, List<String> parameters) {
+        StringBuilder key = new StringBuilder("[\"" + operationName + "\"");
+        for (String parameter : parameters) {
+            key.append(", authParameters.").append(parameter);
+        }
+        return key.append("]").toString();
+    }
+
+    private void writeHttpAuthOptions(TypeScriptWriter w) {
+        w.write("const options: HttpAuthOption[] = [];");
+        w.openBlock("switch (authParameters.operation) {", "}", () -> {
+            var serviceAuthSchemes = serviceIndex.getEffectiveAuthSchemes(
+                serviceShape,
+                AuthSchemeMode.NO_AUTH_AWARE
+            );
+            for (OperationShape operationShape : topDownIndex.getContainedOperations(serviceShape)) {
+                ShapeId operationShapeId = operationShape.getId();
+                var operationAuthSchemes = serviceIndex.getEffectiveAuthSchemes(
+                    serviceShape,
+                    operationShapeId,
+                    AuthSchemeMode.NO_AUTH_AWARE
+                );
+                // Skip operation generation if operation auth schemes are equivalent to the default service
+                // auth schemes.
+                if (AuthUtils.areHttpAuthSchemesEqual(serviceAuthSchemes, operationAuthSchemes)) {
+                    continue;
+                }
+                w.openBlock("case $S: {", "};", operationShapeId.getName(), () -> {
+                    operationAuthSchemes
+                        .keySet()
+                        .forEach(shapeId -> {
+                            w.write(
+                                "options.push(create$LHttpAuthOption(authParameters));",
+                                normalizeAuthSchemeName(shapeId)
+                            );
+                        });
+                    w.write("break;");
+                });
+            }
+            w.openBlock("default: {", "}", () -> {
+                serviceAuthSchemes
+                    .keySet()
+                    .forEach(shapeId -> {
+                        w.write(
+                            "options.push(create$LHttpAuthOption(authParameters));",
+                            normalizeAuthSchemeName(shapeId)
+                        );
+                    });
             });
-            w.popState();
         });
+        w.write("return options;");
     }
 }
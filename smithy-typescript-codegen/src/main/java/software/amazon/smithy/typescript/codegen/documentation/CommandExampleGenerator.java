@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.documentation;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.traits.ExamplesTrait;
+import software.amazon.smithy.model.traits.StreamingTrait;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.util.PropertyAccessor;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Generates the examples in the documentation of a client command.
+ */
+@SmithyInternalApi
+public final class CommandExampleGenerator {
+
+    /**
+     * Folder of the package in which examples are written when they are generated separately
+     * from the command documentation.
+     */
+    public static final String EXAMPLES_FOLDER = Paths.get("docs", "examples").toString();
+
+    private final TypeScriptSettings settings;
+    private final Model model;
+    private final OperationShape operation;
+
+    public CommandExampleGenerator(TypeScriptSettings settings, Model model, OperationShape operation) {
+        this.settings = settings;
+        this.model = model;
+        this.operation = operation;
+    }
+
+    /**
+     * @param commandName Name of the command.
+     * @return path of the file in which the examples of the command are written when they are
+     * generated separately from the command documentation.
+     */
+    public static String getExamplesFilename(String commandName) {
+        return Paths.get(EXAMPLES_FOLDER, commandName + ".md").toString();
+    }
+
+    /**
+     * Generates the contents of the separate examples file of the command.
+     *
+     * @param serviceName Name of the bare-bones client.
+     * @param commandName Name of the command.
+     * @return the examples of the command as markdown.
+     */
+    public String getExamplesFile(String serviceName, String commandName) {
+        return "# " + commandName + "\n\n" +
+            getCommandExample(serviceName, commandName) +
+            getCuratedExamples(commandName);
+    }
+
+    /**
+     * Generated example of a call to the command, with structural hints of its input and output.
+     */
+    public String getCommandExample(String serviceName, String commandName) {
+        String packageName = settings.getPackageName();
+        String exampleDoc =
+            "@example\n" +
+                "Use a bare-bones client and the command you need to make an API call.\n" +
+                "```javascript\n" +
+                String.format(
+                    "import { %s, %s } from \"%s\"; // ES Modules import%n",
+                    serviceName,
+                    commandName,
+                    packageName
+                )
+                +
+                String.format(
+                    "// const { %s, %s } = require(\"%s\"); // CommonJS import%n",
+                    serviceName,
+                    commandName,
+                    packageName
+                )
+                +
+                String.format("// import type { %sConfig } from \"%s\";%n", serviceName, packageName) +
+                String.format("const config = {}; // type is %sConfig%n", serviceName) +
+                String.format("const client = new %s(config);%n", serviceName) +
+                String.format(
+                    "const input = %s%n",
+                    StructureExampleGenerator.generateStructuralHintDocumentation(
+                        model.getShape(operation.getInputShape()).get(),
+                        model,
+                        false,
+                        true
+                    )
+                )
+                +
+                String.format("const command = new %s(input);%n", commandName) +
+                "const response = await client.send(command);" +
+                getStreamingBlobOutputAddendum() +
+                "\n" +
+                String.format(
+                    "%s%n",
+                    StructureExampleGenerator.generateStructuralHintDocumentation(
+                        model.getShape(operation.getOutputShape()).get(),
+                        model,
+                        true,
+                        false
+                    )
+                )
+                +
+                "\n```\n" +
+                "\n";
+
+        return exampleDoc;
+    }
+
+    /**
+     * @return links to the input, output and config types of the command.
+     */
+    public String getCommandReferences(
+        String serviceName,
+        String configName,
+        String commandInput,
+        String commandOutput
+    ) {
+        return String.format("@param %s - {@link %s}%n", commandInput, commandInput) +
+            String.format("@returns {@link %s}%n", commandOutput) +
+            String.format("@see {@link %s} for command's `input` shape.%n", commandInput) +
+            String.format("@see {@link %s} for command's `response` shape.%n", commandOutput) +
+            String.format("@see {@link %s | config} for %s's `config` shape.%n", configName, serviceName);
+    }
+
+    /**
+     * Handwritten examples from the operation ExamplesTrait.
+     */
+    public String getCuratedExamples(String commandName) {
+        String exampleDoc = "";
+        if (operation.getTrait(ExamplesTrait.class).isPresent()) {
+            List<ExamplesTrait.Example> examples = operation.getTrait(ExamplesTrait.class).get().getExamples();
+            StringBuilder buffer = new StringBuilder();
+
+            for (ExamplesTrait.Example example : examples) {
+                ObjectNode input = example.getInput();
+                Optional<ObjectNode> output = example.getOutput();
+                buffer
+                    .append("\n")
+                    .append(String.format("@example %s%n", example.getTitle()))
+                    .append("```javascript\n")
+                    .append(String.format("// %s%n", example.getDocumentation().orElse("")))
+                    .append(
+                        """
+                        const input = %s;
+                        const command = new %s(input);
+                        const response = await client.send(command);%s
+                        /* response is
+                        %s
+                        */
+                        """.formatted(
+                            DocumentationExampleGenerator.inputToJavaScriptObject(input),
+                            commandName,
+                            getStreamingBlobOutputAddendum(),
+                            DocumentationExampleGenerator.outputToJavaScriptObject(output.orElse(null))
+                        )
+                    )
+                    .append("```")
+                    .append("\n");
+            }
+
+            exampleDoc += buffer.toString();
+        }
+        return exampleDoc;
+    }
+
+    /**
+     * @param operation - to query.
+     * @return member name of the streaming blob http payload, or empty string.
+     */
+    private String getStreamingBlobOutputMember(OperationShape operation) {
+        return (model.expectShape(operation.getOutputShape())).getAllMembers()
+            .values()
+            .stream()
+            .filter(memberShape -> {
+                Shape target = model.expectShape(memberShape.getTarget());
+                return (target.isBlobShape() &&
+                    (target.hasTrait(StreamingTrait.class) || memberShape.hasTrait(StreamingTrait.class)));
+            })
+            .map(MemberShape::getMemberName)
+            .findFirst()
+            .orElse("");
+    }
+
+    /**
+     * @return e.g. appendable "const bytes = await response.Body.transformToByteArray();".
+     */
+    private String getStreamingBlobOutputAddendum() {
+        String streamingBlobAddendum = "";
+        String streamingBlobMemberName = getStreamingBlobOutputMember(operation);
+        if (!streamingBlobMemberName.isEmpty()) {
+            String propAccess = PropertyAccessor.getFrom("response", streamingBlobMemberName);
+            streamingBlobAddendum = """
+                                    \n// consume or destroy the stream to free the socket.
+                                    const bytes = await %s.transformToByteArray();
+                                    // const str = await %s.transformToString();
+                                    // %s.destroy(); // only applicable to Node.js Readable streams.
+                                    """.formatted(propAccess, propAccess, propAccess);
+        }
+        return streamingBlobAddendum;
+    }
+}
@@ -10,8 +10,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
 import software.amazon.smithy.model.shapes.EnumShape;
 import software.amazon.smithy.model.shapes.IntEnumShape;
 import software.amazon.smithy.model.shapes.ListShape;
@@ -19,6 +21,7 @@ import software.amazon.smithy.model.shapes.MapShape;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.SetShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.shapes.UnionShape;
 import software.amazon.smithy.model.traits.RequiredTrait;
@@ -50,6 +53,15 @@ public abstract class StructureExampleGenerator {
         boolean isComment,
         boolean isInput
     ) {
+        return model
+            .getKnowledge(HintCache.class, HintCache::new)
+            .hints.computeIfAbsent(
+                new HintKey(shape.getId(), isComment, isInput),
+                key -> generateStructuralHint(shape, model, isComment, isInput)
+            );
+    }
+
+    private static String generateStructuralHint(Shape shape, Model model, boolean isComment, boolean isInput) {
         StringBuilder buffer = new StringBuilder();
         shape(shape, buffer, model, 0, new ShapeTracker(), isInput);
 
@@ -324,6 +336,20 @@ public abstract class StructureExampleGenerator {
         buffer.append(tail);
     }
 
+    /**
+     * Hints generated for a model, since the same shape may be hinted in several commands.
+     * Only whole hints are cached: the hint of a nested shape depends on where else its
+     * tree is truncated, so it is not reusable.
+     */
+    private static final class HintCache implements KnowledgeIndex {
+
+        private final Map<HintKey, String> hints = new ConcurrentHashMap<>();
+
+        HintCache(Model model) {}
+    }
+
+    private record HintKey(ShapeId shape, boolean isComment, boolean isInput) {}
+
     /**
      * Tracks the depths at which a shape appears in the tree.
      * If a shape appears at too many depths it is truncated.
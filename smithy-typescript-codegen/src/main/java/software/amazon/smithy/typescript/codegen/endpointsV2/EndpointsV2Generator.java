@@ -326,6 +326,12 @@ public final class EndpointsV2Generator implements Runnable {
                     TypeScriptDependency.SMITHY_CORE,
                     SmithyCoreSubmodules.ENDPOINTS
                 );
+                writer.addTypeImportSubmodule(
+                    "EndpointCacheStats",
+                    null,
+                    TypeScriptDependency.SMITHY_CORE,
+                    SmithyCoreSubmodules.ENDPOINTS
+                );
 
                 List<String> effectiveParams = ruleSetParameterFinder.getEffectiveParams();
                 boolean longList = effectiveParams.size() >= 8;
@@ -371,6 +377,11 @@ public final class EndpointsV2Generator implements Runnable {
                     """,
                     settings.generateEndpointBdd() ? "decideEndpoint(bdd" : "resolveEndpoint(ruleSet"
                 );
+                writer.writeDocs("""
+                    Hit and miss counts of the endpoint cache shared by clients using the default endpoint resolver.
+
+                    @public""");
+                writer.write("export const getEndpointCacheStats = (): EndpointCacheStats => cache.stats();");
             }
         );
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.integration;
+
+import static software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin.Convention.HAS_CONFIG;
+import static software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin.Convention.HAS_MIDDLEWARE;
+
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.OperationIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.traits.ReadonlyTrait;
+import software.amazon.smithy.model.traits.StreamingTrait;
+import software.amazon.smithy.typescript.codegen.TypeScriptDependency;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Adds middleware sending one request for concurrent identical requests of read-only
+ * operations, if enabled by the {@code generateRequestCoalescing} setting.
+ *
+ * <p>Operations with streaming output are excluded, since a stream can only be read
+ * by one of the waiting requests. Each command passes itself and its handler options to
+ * the plugin, which does not coalesce requests with command middleware or handler options
+ * other than an abortSignal.
+ */
+@SmithyInternalApi
+public final class AddRequestCoalescingPlugin implements TypeScriptIntegration {
+
+    @Override
+    public List<RuntimeClientPlugin> getClientPlugins() {
+        return List.of(
+            RuntimeClientPlugin.builder()
+                .withConventions(TypeScriptDependency.SMITHY_CORE.dependency, "RequestCoalescing", HAS_CONFIG)
+                .settingsPredicate((m, s, settings) -> settings.generateRequestCoalescing())
+                .servicePredicate(AddRequestCoalescingPlugin::hasCoalescedOperations)
+                .build(),
+            RuntimeClientPlugin.builder()
+                .withConventions(TypeScriptDependency.SMITHY_CORE.dependency, "RequestCoalescing", HAS_MIDDLEWARE)
+                .settingsPredicate((m, s, settings) -> settings.generateRequestCoalescing())
+                .operationPredicate((m, s, o) -> isCoalesced(m, o))
+                // the command and its handler options, which determine whether a request can be coalesced.
+                .withAdditionalOperationParams(
+                    Map.of(
+                        "command",
+                        (writer, section) -> writer.writeInline("this"),
+                        "options",
+                        (writer, section) -> writer.writeInline("o")
+                    )
+                )
+                .build()
+        );
+    }
+
+    private static boolean hasCoalescedOperations(Model model, ServiceShape service) {
+        return TopDownIndex.of(model)
+            .getContainedOperations(service)
+            .stream()
+            .anyMatch(operation -> isCoalesced(model, operation));
+    }
+
+    private static boolean isCoalesced(Model model, OperationShape operation) {
+        return operation.hasTrait(ReadonlyTrait.class) &&
+            OperationIndex.of(model)
+                .getOutputMembers(operation)
+                .values()
+                .stream()
+                .noneMatch(member -> model.expectShape(member.getTarget()).hasTrait(StreamingTrait.class));
+    }
+}
@@ -59,10 +59,16 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 public class DocumentMemberSerVisitor implements ShapeVisitor<String> {
 
     protected boolean serdeElisionEnabled;
+    protected SerdeElisionIndex serdeElisionIndex;
+    /**
+     * When true, document values are passed through by reference instead of through
+     * a generated {@code se_} function, for protocols whose document values need no
+     * conversion. The shape visitor of the protocol must be configured the same way.
+     */
+    protected boolean documentsByReference;
     private final GenerationContext context;
     private final String dataSource;
     private final Format defaultTimestampFormat;
-    private final SerdeElisionIndex serdeElisionIndex;
 
     /**
      * Constructor.
@@ -78,6 +84,7 @@ public class DocumentMemberSerVisitor implements ShapeVisitor<String> {
         this.dataSource = dataSource;
         this.defaultTimestampFormat = defaultTimestampFormat;
         this.serdeElisionEnabled = false;
+        this.documentsByReference = false;
         this.serdeElisionIndex = SerdeElisionIndex.of(context.getModel());
     }
 
@@ -234,6 +241,9 @@ public class DocumentMemberSerVisitor implements ShapeVisitor<String> {
 
     @Override
     public final String documentShape(DocumentShape shape) {
+        if (documentsByReference) {
+            return dataSource;
+        }
         return getDelegateSerializer(shape);
     }
 
@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.typescript.codegen.integration;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import software.amazon.smithy.codegen.core.CodegenException;
@@ -57,11 +58,17 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 public abstract class DocumentShapeDeserVisitor extends ShapeVisitor.Default<Void> {
 
     protected boolean serdeElisionEnabled;
+    /**
+     * When true, no {@code de_} function is generated for document shapes, whose values
+     * are passed through by reference by the member visitor of the protocol.
+     */
+    protected boolean documentsByReference;
     private final GenerationContext context;
 
     public DocumentShapeDeserVisitor(GenerationContext context) {
         this.context = context;
         this.serdeElisionEnabled = false;
+        this.documentsByReference = false;
     }
 
     /**
@@ -73,6 +80,17 @@ public abstract class DocumentShapeDeserVisitor extends ShapeVisitor.Default<Voi
         return context;
     }
 
+    /**
+     * Gets the index deciding which shapes skip their generated function when
+     * serde elision is enabled. Protocols overriding this must use the same
+     * index in their member visitors.
+     *
+     * @return The serde elision index.
+     */
+    protected SerdeElisionIndex getSerdeElisionIndex() {
+        return SerdeElisionIndex.of(context.getModel());
+    }
+
     @Override
     protected Void getDefault(Shape shape) {
         return null;
@@ -294,16 +312,20 @@ public abstract class DocumentShapeDeserVisitor extends ShapeVisitor.Default<Voi
         String methodName = ProtocolGenerator.getDeserFunctionShortName(symbol);
         String methodLongName = ProtocolGenerator.getDeserFunctionName(symbol, context.getProtocolName());
 
-        boolean mayElide = serdeElisionEnabled && SerdeElisionIndex.of(context.getModel()).mayElide(shape);
+        boolean mayElide = serdeElisionEnabled && getSerdeElisionIndex().mayElide(shape);
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
         if (mayElide) {
             writer.write("// " + methodName + " omitted.");
             writer.write("");
+        } else if (serdeModuleScope.isPresent() && serdeModuleScope.get().importsDeserializer(shape)) {
+            writer.addImport(methodName, null, serdeModuleScope.get().getSharedModulePath());
         } else {
             writer.addImport(symbol, symbol.getName());
             writer.writeDocs(methodLongName);
             writer.openBlock(
-                "const $L = (\n" + "  output: any,\n" + "  context: __SerdeContext\n" + "): $T => {",
+                "$Lconst $L = (\n" + "  output: any,\n" + "  context: __SerdeContext\n" + "): $T => {",
                 "}",
+                serdeModuleScope.map(scope -> scope.isSharedModule() ? "export " : "").orElse(""),
                 methodName,
                 symbol,
                 () -> functionBody.accept(context, shape)
@@ -352,6 +374,9 @@ public abstract class DocumentShapeDeserVisitor extends ShapeVisitor.Default<Voi
      */
     @Override
     public final Void documentShape(DocumentShape shape) {
+        if (documentsByReference) {
+            return null;
+        }
         generateDeserFunction(shape, (c, s) -> deserializeDocument(c, s.asDocumentShape().get()));
         return null;
     }
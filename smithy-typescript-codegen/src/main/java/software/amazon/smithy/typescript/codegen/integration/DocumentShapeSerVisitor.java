@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.typescript.codegen.integration;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import software.amazon.smithy.codegen.core.CodegenException;
@@ -57,11 +58,17 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 public abstract class DocumentShapeSerVisitor extends ShapeVisitor.Default<Void> {
 
     protected boolean serdeElisionEnabled;
+    /**
+     * When true, no {@code se_} function is generated for document shapes, whose values
+     * are passed through by reference by the member visitor of the protocol.
+     */
+    protected boolean documentsByReference;
     private final GenerationContext context;
 
     public DocumentShapeSerVisitor(GenerationContext context) {
         this.context = context;
         this.serdeElisionEnabled = false;
+        this.documentsByReference = false;
     }
 
     /**
@@ -73,6 +80,17 @@ public abstract class DocumentShapeSerVisitor extends ShapeVisitor.Default<Void>
         return context;
     }
 
+    /**
+     * Gets the index deciding which shapes skip their generated function when
+     * serde elision is enabled. Protocols overriding this must use the same
+     * index in their member visitors.
+     *
+     * @return The serde elision index.
+     */
+    protected SerdeElisionIndex getSerdeElisionIndex() {
+        return SerdeElisionIndex.of(context.getModel());
+    }
+
     @Override
     protected Void getDefault(Shape shape) {
         return null;
@@ -292,15 +310,19 @@ public abstract class DocumentShapeSerVisitor extends ShapeVisitor.Default<Void>
 
         writer.addImport(symbol, symbol.getName());
 
-        boolean mayElide = serdeElisionEnabled && SerdeElisionIndex.of(context.getModel()).mayElide(shape);
+        boolean mayElide = serdeElisionEnabled && getSerdeElisionIndex().mayElide(shape);
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
         if (mayElide) {
             writer.write("// " + methodName + " omitted.");
             writer.write("");
+        } else if (serdeModuleScope.isPresent() && serdeModuleScope.get().importsSerializer(shape)) {
+            writer.addImport(methodName, null, serdeModuleScope.get().getSharedModulePath());
         } else {
             writer.writeDocs(methodLongName);
             writer.openBlock(
-                "const $L = (\n" + "  input: $T,\n" + "  context: __SerdeContext\n" + "): any => {",
+                "$Lconst $L = (\n" + "  input: $T,\n" + "  context: __SerdeContext\n" + "): any => {",
                 "}",
+                serdeModuleScope.map(scope -> scope.isSharedModule() ? "export " : "").orElse(""),
                 methodName,
                 symbol,
                 () -> functionBody.accept(context, shape)
@@ -350,6 +372,9 @@ public abstract class DocumentShapeSerVisitor extends ShapeVisitor.Default<Void>
      */
     @Override
     public final Void documentShape(DocumentShape shape) {
+        if (documentsByReference) {
+            return null;
+        }
         generateSerFunction(shape, (c, s) -> serializeDocument(c, s.asDocumentShape().get()));
         return null;
     }
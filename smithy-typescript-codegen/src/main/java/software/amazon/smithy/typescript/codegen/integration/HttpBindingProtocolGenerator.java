@@ -168,17 +168,6 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         TypeScriptWriter writer = context.getWriter();
         writer.addImportSubmodule("map", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.CLIENT);
 
-        if (context.getSettings().generateClient()) {
-            writer.addImportSubmodule(
-                "withBaseException",
-                null,
-                TypeScriptDependency.SMITHY_CORE,
-                SmithyCoreSubmodules.CLIENT
-            );
-            SymbolReference exception = HttpProtocolGeneratorUtils.getClientBaseException(context);
-            writer.write("const throwDefaultError = withBaseException($T);", exception);
-        }
-
         deserializingErrorShapes.forEach(error -> generateErrorDeserializer(context, error));
         serializingErrorShapes.forEach(error -> generateErrorSerializer(context, error));
         ServiceShape service = context.getService();
@@ -207,8 +196,12 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         errorEventShapes.forEach(error -> generateErrorDeserializer(context, error));
         generateDocumentBodyShapeSerializers(context, serializingDocumentShapes);
         generateDocumentBodyShapeDeserializers(context, deserializingDocumentShapes);
-        HttpProtocolGeneratorUtils.generateMetadataDeserializer(context, getApplicationProtocol().getResponseType());
-        HttpProtocolGeneratorUtils.generateCollectBodyString(context);
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
+        if (serdeModuleScope.isPresent()) {
+            serdeModuleScope.get().writeSharedHelpers(writer, getSerdeHelperNames(), () -> writeSerdeHelpers(context));
+        } else {
+            writeSerdeHelpers(context);
+        }
 
         writer.write(context.getStringStore().flushVariableDeclarationCode());
 
@@ -226,13 +219,68 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         );
     }
 
+    /**
+     * Writes the helper functions and constants that the serde functions of every
+     * operation refer to. When protocol serde is split into modules, these are written
+     * to the shared module only.
+     *
+     * @param context The generation context.
+     */
+    protected void writeSerdeHelpers(GenerationContext context) {
+        TypeScriptWriter writer = context.getWriter();
+        if (context.getSettings().generateClient()) {
+            writer.addImportSubmodule(
+                "withBaseException",
+                null,
+                TypeScriptDependency.SMITHY_CORE,
+                SmithyCoreSubmodules.CLIENT
+            );
+            SymbolReference exception = HttpProtocolGeneratorUtils.getClientBaseException(context);
+            writer.write("const throwDefaultError = withBaseException($T);", exception);
+        }
+        HttpProtocolGeneratorUtils.generateMetadataDeserializer(context, getApplicationProtocol().getResponseType());
+        HttpProtocolGeneratorUtils.generateCollectBodyString(context);
+    }
+
+    /**
+     * @return the names of the helpers written by {@link #writeSerdeHelpers}.
+     */
+    protected List<String> getSerdeHelperNames() {
+        return List.of("throwDefaultError", "deserializeMetadata", "collectBodyString");
+    }
+
     @Override
-    public void generateRequestSerializers(GenerationContext context) {
-        TopDownIndex topDownIndex = TopDownIndex.of(context.getModel());
+    public boolean supportsSerdeModules() {
+        return true;
+    }
 
-        Set<OperationShape> containedOperations = new TreeSet<>(
-            topDownIndex.getContainedOperations(context.getService())
-        );
+    @Override
+    public void generateSharedSerdeModule(GenerationContext context) {
+        SerdeModuleScope scope = context
+            .getSerdeModuleScope()
+            .orElseThrow(() -> new CodegenException("Shared serde module requires a serde module scope."));
+        TypeScriptWriter writer = context.getWriter();
+        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
+        writer.addImportSubmodule("map", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.CLIENT);
+        deserializingDocumentShapes.clear();
+        scope.getSharedErrorDeserializers().forEach(error -> generateErrorDeserializer(context, error));
+        Set<Shape> sharedDeserializers = new TreeSet<>(scope.getSharedDeserializers());
+        sharedDeserializers.addAll(deserializingDocumentShapes);
+        generateDocumentBodyShapeSerializers(context, new TreeSet<>(scope.getSharedSerializers()));
+        generateDocumentBodyShapeDeserializers(context, sharedDeserializers);
+        scope.writeSharedHelpers(writer, getSerdeHelperNames(), () -> writeSerdeHelpers(context));
+        writer.write(context.getStringStore().flushVariableDeclarationCode());
+    }
+
+    @Override
+    public void generateRequestSerializers(GenerationContext context) {
+        if (context.getSerdeModuleScope().isPresent()) {
+            // Each split serde module writes only the shapes reachable from its own operation.
+            serializingDocumentShapes.clear();
+            deserializingDocumentShapes.clear();
+            deserializingErrorShapes.clear();
+        }
+        Set<OperationShape> containedOperations = new TreeSet<>(context.getContainedOperations());
         for (OperationShape operation : containedOperations) {
             OptionalUtils.ifPresentOrElse(
                 operation.getTrait(HttpTrait.class),
@@ -492,6 +540,14 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
 
         generateServiceMux(context);
         writer.addImport("ServiceException", "__ServiceException", TypeScriptDependency.SERVER_COMMON);
+        // Serializers are stateless, so one instance per operation is shared by all requests.
+        List<OperationShape> httpOperations = operations
+            .stream()
+            .filter(o -> o.getTrait(HttpTrait.class).isPresent())
+            .toList();
+        writer.openBlock("const serializers = {", "};", () -> {
+            httpOperations.forEach(writeOperationSerializerInstance(writer, symbolProvider));
+        });
         writer.openBlock(
             "const serFn: (op: $1T) => __OperationSerializer<$2T<Context>, $1T, __ServiceException> = "
                 + "(op) => {",
@@ -500,10 +556,7 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
             serviceSymbol,
             () -> {
                 writer.openBlock("switch (op) {", "}", () -> {
-                    operations
-                        .stream()
-                        .filter(o -> o.getTrait(HttpTrait.class).isPresent())
-                        .forEach(writeOperationCase(writer, symbolProvider));
+                    httpOperations.forEach(writeOperationCase(writer, symbolProvider));
                 });
             }
         );
@@ -636,21 +689,27 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         });
     }
 
-    private Consumer<OperationShape> writeOperationCase(TypeScriptWriter writer, SymbolProvider symbolProvider) {
+    private Consumer<OperationShape> writeOperationSerializerInstance(
+        TypeScriptWriter writer,
+        SymbolProvider symbolProvider
+    ) {
         return operation -> {
             Symbol operationSymbol = symbolProvider.toSymbol(operation);
             Symbol symbol = operationSymbol.expectProperty("serializerType", Symbol.class);
-            writer.write("case $S: return new $T();", operationSymbol.getName(), symbol);
+            writer.write("$L: new $T(),", operationSymbol.getName(), symbol);
+        };
+    }
+
+    private Consumer<OperationShape> writeOperationCase(TypeScriptWriter writer, SymbolProvider symbolProvider) {
+        return operation -> {
+            Symbol operationSymbol = symbolProvider.toSymbol(operation);
+            writer.write("case $1S: return serializers.$1L;", operationSymbol.getName());
         };
     }
 
     @Override
     public void generateResponseDeserializers(GenerationContext context) {
-        TopDownIndex topDownIndex = TopDownIndex.of(context.getModel());
-
-        Set<OperationShape> containedOperations = new TreeSet<>(
-            topDownIndex.getContainedOperations(context.getService())
-        );
+        Set<OperationShape> containedOperations = new TreeSet<>(context.getContainedOperations());
 
         for (OperationShape operation : containedOperations) {
             OptionalUtils.ifPresentOrElse(
@@ -819,14 +878,16 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
             .getWriter()
             .write(
                 """
-                const context: __SerdeContext = {
-                  ...ctx,
-                  endpoint: () => Promise.resolve({
-                    protocol: '',
-                    hostname: '',
-                    path: '',
-                  }),
-                };"""
+                const context: __SerdeContext = "endpoint" in ctx
+                  ? (ctx as __SerdeContext)
+                  : {
+                      ...ctx,
+                      endpoint: () => Promise.resolve({
+                        protocol: '',
+                        hostname: '',
+                        path: '',
+                      }),
+                    };"""
             );
     }
 
@@ -841,14 +902,16 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
             .getWriter()
             .write(
                 """
-                const context: $L = {
-                  ...ctx,
-                  endpoint: () => Promise.resolve({
-                    protocol: '',
-                    hostname: '',
-                    path: '',
-                  }),
-                };""",
+                const context: $1L = "endpoint" in ctx
+                  ? (ctx as $1L)
+                  : {
+                      ...ctx,
+                      endpoint: () => Promise.resolve({
+                        protocol: '',
+                        hostname: '',
+                        path: '',
+                      }),
+                    };""",
                 contextType
             );
     }
@@ -2522,12 +2585,19 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         String errorDeserMethodLongName =
             ProtocolGenerator.getDeserFunctionName(errorSymbol, context.getProtocolName()) + "Res";
 
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
+        if (serdeModuleScope.isPresent() && serdeModuleScope.get().importsErrorDeserializer(error)) {
+            writer.addImport(errorDeserMethodName, null, serdeModuleScope.get().getSharedModulePath());
+            return;
+        }
+
         String outputName = isErrorCodeInBody ? "parsedOutput" : "output";
 
         writer.writeDocs(errorDeserMethodLongName);
         writer.openBlock(
-            "const $L = async (\n" + "  $L: any,\n" + "  context: __SerdeContext\n" + "): Promise<$T> => {",
+            "$Lconst $L = async (\n" + "  $L: any,\n" + "  context: __SerdeContext\n" + "): Promise<$T> => {",
             "};",
+            serdeModuleScope.map(scope -> scope.isSharedModule() ? "export " : "").orElse(""),
             errorDeserMethodName,
             outputName,
             errorSymbol,
@@ -2761,7 +2831,7 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
                 TypeScriptDependency.SMITHY_CORE,
                 SmithyCoreSubmodules.SERDE
             );
-            String bodyLocation = "(__expectObject(await parseBody(output.body, context)))";
+            String bodyLocation = "(__expectObject(" + getParsedBody(context, isInput) + "))";
             // Use the protocol specific error location for retrieving contents.
             if (operationOrError instanceof StructureShape) {
                 bodyLocation = getErrorBodyLocation(context, bodyLocation);
@@ -2815,14 +2885,42 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         return ListUtils.of();
     }
 
+    /**
+     * Gets the expression parsing the body of the output into a document.
+     *
+     * <p>Request bodies above the {@code requestBodyStreamingThreshold} setting, or of unknown
+     * size, are handed to the protocol's incremental parser so the document is built as the
+     * stream arrives instead of from one buffered copy.
+     */
+    private String getParsedBody(GenerationContext context, boolean isRequest) {
+        if (!isRequest || !shouldParseRequestBodyIncrementally(context)) {
+            return "await parseBody(output.body, context)";
+        }
+        context
+            .getWriter()
+            .addImport("exceedsBodyThreshold", "__exceedsBodyThreshold", TypeScriptDependency.SERVER_COMMON);
+        return String.format(
+            "(__exceedsBodyThreshold(output, %d) " +
+                "? await parseBodyIncrementally(output.body, context) " +
+                ": await parseBody(output.body, context))",
+            context.getSettings().getRequestBodyStreamingThreshold()
+        );
+    }
+
     private HttpBinding readPayload(GenerationContext context, HttpBinding binding) {
+        return readPayload(context, binding, false);
+    }
+
+    private HttpBinding readPayload(GenerationContext context, HttpBinding binding, boolean isRequest) {
         TypeScriptWriter writer = context.getWriter();
         boolean isClientSdk = context.getSettings().generateClient();
+        // Non-streaming blob request payloads are handed to the operation as the request stream.
+        boolean streamBlob = isRequest && context.getSettings().isRequestBodyStreamingEnabled();
 
         // There can only be one payload binding.
         Shape target = context.getModel().expectShape(binding.getMember().getTarget());
 
-        boolean isStreaming = target.hasTrait(StreamingTrait.class);
+        boolean isStreaming = target.hasTrait(StreamingTrait.class) || (streamBlob && target instanceof BlobShape);
 
         // Handle streaming shapes differently.
         if (isStreaming) {
@@ -2843,12 +2941,12 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
                 SmithyCoreSubmodules.SERDE
             );
             writer.write(
-                "const data: Record<string, any> | undefined " +
-                    "= __expectObject(await parseBody(output.body, context));"
+                "const data: Record<string, any> | undefined = __expectObject($L);",
+                getParsedBody(context, isRequest)
             );
         } else if (target instanceof UnionShape) {
             // If payload is a Union, then we need to parse the string into JavaScript object.
-            writer.write("const data: Record<string, any> | undefined " + "= await parseBody(output.body, context);");
+            writer.write("const data: Record<string, any> | undefined = $L;", getParsedBody(context, isRequest));
         } else if (target instanceof StringShape || target instanceof DocumentShape) {
             // If payload is String or Document, we need to collect body and convert binary to string.
             writer.write("const data: any = await collectBodyString(output.body, context);");
@@ -2902,7 +3000,7 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
         OperationShape operation,
         HttpBinding binding
     ) {
-        return readPayload(context, binding);
+        return readPayload(context, binding, true);
     }
 
     /**
@@ -3443,6 +3541,26 @@ public abstract class HttpBindingProtocolGenerator implements ProtocolGenerator
      */
     protected abstract boolean requiresNumericEpochSecondsInPayload();
 
+    /**
+     * Implement a return true if the protocol can parse document bodies incrementally
+     * from a request stream.
+     *
+     * <p>Protocols returning true must define a {@code parseBodyIncrementally} function
+     * in their shared components. It has the same signature and result as {@code parseBody},
+     * but consumes the body stream as it arrives rather than collecting it first. It is
+     * only used by server request deserializers when the
+     * {@code requestBodyStreamingThreshold} setting is enabled.
+     *
+     * @return whether the protocol implementation supports incremental body parsing.
+     */
+    protected boolean supportsIncrementalBodyParsing() {
+        return false;
+    }
+
+    private boolean shouldParseRequestBodyIncrementally(GenerationContext context) {
+        return context.getSettings().isRequestBodyStreamingEnabled() && supportsIncrementalBodyParsing();
+    }
+
     /**
      * Implement a return true if the protocol allows elision of serde functions.
      *
@@ -4,13 +4,15 @@
  */
 package software.amazon.smithy.typescript.codegen.integration;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
+import software.amazon.smithy.codegen.core.CodegenException;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.codegen.core.SymbolReference;
-import software.amazon.smithy.model.knowledge.TopDownIndex;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
@@ -100,11 +102,12 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
                 TypeScriptWriter writer = context.getWriter();
                 serializeEventStreamBodyToBytes(writer);
             },
-            serializingDocumentShapes
+            serializingDocumentShapes,
+            getSerdeElisionIndex(context)
         );
         // Error shapes that only referred in the error event of an eventstream
         Set<StructureShape> errorEventShapes = new TreeSet<>();
-        SerdeElisionIndex serdeElisionIndex = SerdeElisionIndex.of(context.getModel());
+        SerdeElisionIndex serdeElisionIndex = getSerdeElisionIndex(context);
         eventStreamGenerator.generateEventStreamDeserializers(
             context,
             service,
@@ -118,10 +121,44 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
         errorEventShapes.forEach(error -> generateErrorDeserializer(context, error));
         generateDocumentBodyShapeSerializers(context, serializingDocumentShapes);
         generateDocumentBodyShapeDeserializers(context, deserializingDocumentShapes);
-        HttpProtocolGeneratorUtils.generateMetadataDeserializer(context, getApplicationProtocol().getResponseType());
-        HttpProtocolGeneratorUtils.generateCollectBodyString(context);
 
         TypeScriptWriter writer = context.getWriter();
+        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
+        writer.addTypeImport("HeaderBag", "__HeaderBag", TypeScriptDependency.SMITHY_TYPES);
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
+        if (serdeModuleScope.isPresent()) {
+            serdeModuleScope.get().writeSharedHelpers(writer, getSerdeHelperNames(), () -> writeSerdeHelpers(context));
+        } else {
+            writeSerdeHelpers(context);
+        }
+
+        writer.write(context.getStringStore().flushVariableDeclarationCode());
+
+        writer.addImportSubmodule(
+            "HttpRequest",
+            "__HttpRequest",
+            TypeScriptDependency.SMITHY_CORE,
+            SmithyCoreSubmodules.PROTOCOLS
+        );
+        writer.addImportSubmodule(
+            "HttpResponse",
+            "__HttpResponse",
+            TypeScriptDependency.SMITHY_CORE,
+            SmithyCoreSubmodules.PROTOCOLS
+        );
+    }
+
+    /**
+     * Writes the helper functions and constants that the serde functions of every
+     * operation refer to. When protocol serde is split into modules, these are written
+     * to the shared module only.
+     *
+     * @param context The generation context.
+     */
+    protected void writeSerdeHelpers(GenerationContext context) {
+        TypeScriptWriter writer = context.getWriter();
+        HttpProtocolGeneratorUtils.generateMetadataDeserializer(context, getApplicationProtocol().getResponseType());
+        HttpProtocolGeneratorUtils.generateCollectBodyString(context);
 
         if (context.getSettings().generateClient()) {
             writer.addImportSubmodule(
@@ -180,30 +217,52 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
         // Write common request header to be shared by all requests
         writeSharedRequestHeaders(context);
         writer.write("");
+    }
 
-        writer.write(context.getStringStore().flushVariableDeclarationCode());
-
-        writer.addImportSubmodule(
-            "HttpRequest",
-            "__HttpRequest",
-            TypeScriptDependency.SMITHY_CORE,
-            SmithyCoreSubmodules.PROTOCOLS
-        );
-        writer.addImportSubmodule(
-            "HttpResponse",
-            "__HttpResponse",
-            TypeScriptDependency.SMITHY_CORE,
-            SmithyCoreSubmodules.PROTOCOLS
+    /**
+     * @return the names of the helpers written by {@link #writeSerdeHelpers}.
+     */
+    protected List<String> getSerdeHelperNames() {
+        return List.of(
+            "deserializeMetadata",
+            "collectBodyString",
+            "throwDefaultError",
+            "buildHttpRpcRequest",
+            "SHARED_HEADERS"
         );
     }
 
     @Override
-    public void generateRequestSerializers(GenerationContext context) {
-        TopDownIndex topDownIndex = TopDownIndex.of(context.getModel());
+    public boolean supportsSerdeModules() {
+        return true;
+    }
 
-        Set<OperationShape> containedOperations = new TreeSet<>(
-            topDownIndex.getContainedOperations(context.getService())
-        );
+    @Override
+    public void generateSharedSerdeModule(GenerationContext context) {
+        SerdeModuleScope scope = context
+            .getSerdeModuleScope()
+            .orElseThrow(() -> new CodegenException("Shared serde module requires a serde module scope."));
+        TypeScriptWriter writer = context.getWriter();
+        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
+        deserializingDocumentShapes.clear();
+        scope.getSharedErrorDeserializers().forEach(error -> generateErrorDeserializer(context, error));
+        Set<Shape> sharedDeserializers = new TreeSet<>(scope.getSharedDeserializers());
+        sharedDeserializers.addAll(deserializingDocumentShapes);
+        generateDocumentBodyShapeSerializers(context, new TreeSet<>(scope.getSharedSerializers()));
+        generateDocumentBodyShapeDeserializers(context, sharedDeserializers);
+        scope.writeSharedHelpers(writer, getSerdeHelperNames(), () -> writeSerdeHelpers(context));
+        writer.write(context.getStringStore().flushVariableDeclarationCode());
+    }
+
+    @Override
+    public void generateRequestSerializers(GenerationContext context) {
+        if (context.getSerdeModuleScope().isPresent()) {
+            // Each split serde module writes only the shapes reachable from its own operation.
+            serializingDocumentShapes.clear();
+            deserializingDocumentShapes.clear();
+            deserializingErrorShapes.clear();
+        }
+        Set<OperationShape> containedOperations = new TreeSet<>(context.getContainedOperations());
         for (OperationShape operation : containedOperations) {
             generateOperationSerializer(context, operation);
         }
@@ -236,11 +295,7 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
 
     @Override
     public void generateResponseDeserializers(GenerationContext context) {
-        TopDownIndex topDownIndex = TopDownIndex.of(context.getModel());
-
-        Set<OperationShape> containedOperations = new TreeSet<>(
-            topDownIndex.getContainedOperations(context.getService())
-        );
+        Set<OperationShape> containedOperations = new TreeSet<>(context.getContainedOperations());
         for (OperationShape operation : containedOperations) {
             generateOperationDeserializer(context, operation);
         }
@@ -528,14 +583,21 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
         String errorDeserMethodLongName =
             ProtocolGenerator.getDeserFunctionName(errorSymbol, context.getProtocolName()) + "Res";
 
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
+        if (serdeModuleScope.isPresent() && serdeModuleScope.get().importsErrorDeserializer(error)) {
+            writer.addImport(errorDeserMethodName, null, serdeModuleScope.get().getSharedModulePath());
+            return;
+        }
+
         // Add the error shape to the list to generate functions for, since we'll use that.
         deserializingDocumentShapes.add(error);
         String outputReference = isErrorCodeInBody ? "parsedOutput" : "output";
 
         writer.writeDocs(errorDeserMethodLongName);
         writer.openBlock(
-            "const $L = async (\n" + "  $L: any,\n" + "  context: __SerdeContext\n" + "): Promise<$T> => {",
+            "$Lconst $L = async (\n" + "  $L: any,\n" + "  context: __SerdeContext\n" + "): Promise<$T> => {",
             "};",
+            serdeModuleScope.map(scope -> scope.isSharedModule() ? "export " : "").orElse(""),
             errorDeserMethodName,
             outputReference,
             errorSymbol,
@@ -551,7 +613,7 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
                     writer.write("const body = parseBody($L.body, context);", outputReference);
                 }
 
-                if (SerdeElisionIndex.of(context.getModel()).mayElide(error) && enableSerdeElision()) {
+                if (getSerdeElisionIndex(context).mayElide(error) && enableSerdeElision()) {
                     writer.addImportSubmodule(
                         "_json",
                         null,
@@ -703,4 +765,16 @@ public abstract class HttpRpcProtocolGenerator implements ProtocolGenerator {
     protected boolean enableSerdeElision() {
         return false;
     }
+
+    /**
+     * Protocols whose codec handles more of the data model natively may supply
+     * a protocol-specific index. The same index must be used by the protocol's
+     * document shape visitors so that elided functions are never referenced.
+     *
+     * @param context The generation context.
+     * @return the index used to decide which shapes skip generated serde.
+     */
+    protected SerdeElisionIndex getSerdeElisionIndex(GenerationContext context) {
+        return SerdeElisionIndex.of(context.getModel());
+    }
 }
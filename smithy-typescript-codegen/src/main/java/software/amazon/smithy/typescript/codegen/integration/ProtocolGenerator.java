@@ -8,12 +8,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 import software.amazon.smithy.codegen.core.CodegenException;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -185,6 +188,28 @@ public interface ProtocolGenerator {
      */
     void generateResponseDeserializers(GenerationContext context);
 
+    /**
+     * Whether client serde from this generator can be written as per-operation modules.
+     * Supporting generators read their operations from {@link GenerationContext#getContainedOperations()},
+     * start collecting shapes anew for each module, and write shape serde functions with the
+     * {@link DocumentShapeSerVisitor} and {@link DocumentShapeDeserVisitor}, which consult
+     * {@link GenerationContext#getSerdeModuleScope()}.
+     *
+     * @return whether split serde modules are supported.
+     */
+    default boolean supportsSerdeModules() {
+        return false;
+    }
+
+    /**
+     * Generates the shared module of split client serde. It is called after every
+     * operation module has been generated, and defines the serde functions that
+     * operation modules import.
+     *
+     * @param context Generation context with the shared module's {@link SerdeModuleScope}.
+     */
+    default void generateSharedSerdeModule(GenerationContext context) {}
+
     /**
      * Generates protocol tests to assert the protocol works properly.
      *
@@ -341,6 +366,7 @@ public interface ProtocolGenerator {
         private TypeScriptDelegator writerDelegator;
         private TypeScriptWriter writer;
         private String protocolName;
+        private SerdeModuleScope serdeModuleScope;
         private StringStore stringStore = new StringStore();
 
         public TypeScriptSettings getSettings() {
@@ -412,6 +438,28 @@ public interface ProtocolGenerator {
             this.protocolName = protocolName;
         }
 
+        /**
+         * @return the module being written when protocol serde is split into
+         *     per-operation modules, otherwise empty.
+         */
+        public Optional<SerdeModuleScope> getSerdeModuleScope() {
+            return Optional.ofNullable(serdeModuleScope);
+        }
+
+        public void setSerdeModuleScope(SerdeModuleScope serdeModuleScope) {
+            this.serdeModuleScope = serdeModuleScope;
+        }
+
+        /**
+         * @return the operations whose serde is written with this context. This is the
+         *     scoped operation of a split serde module, otherwise every operation of the service.
+         */
+        public Set<OperationShape> getContainedOperations() {
+            return getSerdeModuleScope()
+                .map(scope -> scope.getOperation().map(Set::of).orElse(Set.of()))
+                .orElseGet(() -> TopDownIndex.of(model).getContainedOperations(service));
+        }
+
         public GenerationContext copy() {
             GenerationContext copy = new GenerationContext();
             copy.setSettings(settings);
@@ -421,6 +469,7 @@ public interface ProtocolGenerator {
             copy.setWriterDelegator(writerDelegator);
             copy.setWriter(writer);
             copy.setProtocolName(protocolName);
+            copy.setSerdeModuleScope(serdeModuleScope);
             return copy;
         }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.integration;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.knowledge.ServiceClosure;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Removes shapes that cannot be reached from the retained operations of the service
+ * before any code is generated, when the {@code pruneUnreachableShapes} setting is enabled.
+ *
+ * <p>Operations not listed in {@code retainedOperations} are removed from the service,
+ * if the list is set. Shapes no longer connected to a service are then removed, so
+ * that no types, schemas, serde functions, errors, paginators or waiters are
+ * generated for them. What was removed is logged, comparing the service closure
+ * before and after pruning.
+ *
+ * <p>Pruning does not depend on whether schemas are generated. In schema mode, no serde
+ * functions are generated at all, but every shape of the service closure still has a type
+ * and a schema, so no reachable structure becomes unused.
+ */
+@SmithyInternalApi
+public final class PruneUnreachableShapes implements TypeScriptIntegration {
+
+    private static final Logger LOGGER = Logger.getLogger(PruneUnreachableShapes.class.getName());
+
+    @Override
+    public Model preprocessModel(Model model, TypeScriptSettings settings) {
+        if (!settings.pruneUnreachableShapes()) {
+            return model;
+        }
+        ServiceShape service = settings.getService(model);
+        ModelTransformer transformer = ModelTransformer.create();
+
+        Model pruned = model;
+        List<String> retainedOperations = settings.getRetainedOperations();
+        if (!retainedOperations.isEmpty()) {
+            Set<OperationShape> operations = TopDownIndex.of(model).getContainedOperations(service);
+            Set<String> operationNames = operations.stream()
+                .map(operation -> operation.getId().getName(service))
+                .collect(Collectors.toSet());
+            for (String operationName : retainedOperations) {
+                if (!operationNames.contains(operationName)) {
+                    LOGGER.warning(
+                        "Retained operation " + operationName + " is not an operation of " + service.getId()
+                    );
+                }
+            }
+            pruned = transformer.removeShapes(
+                pruned,
+                operations.stream()
+                    .filter(operation -> !retainedOperations.contains(operation.getId().getName(service)))
+                    .collect(Collectors.toList())
+            );
+        }
+        pruned = transformer.removeUnreferencedShapes(pruned);
+
+        report(ServiceClosure.of(model, service), ServiceClosure.of(pruned, settings.getService(pruned)));
+        return pruned;
+    }
+
+    private static void report(ServiceClosure before, ServiceClosure after) {
+        String removedOperations = getRemovedNames(before.getOperationShapes(), after.getOperationShapes());
+        String removedStructures = getRemovedNames(
+            before.getStructuralNonErrorShapes(),
+            after.getStructuralNonErrorShapes()
+        );
+        String removedErrors = getRemovedNames(before.getErrorShapes(), after.getErrorShapes());
+        String removedEnums = getRemovedNames(before.getEnums(), after.getEnums());
+        String removedPaginators = getRemovedNames(before.getPaginatorNames(), after.getPaginatorNames());
+        String removedWaiters = getRemovedNames(before.getWaiterNames(), after.getWaiterNames());
+
+        LOGGER.info(
+            """
+            Pruned shapes unreachable from the retained operations:
+              operations: [%s]
+              structures and unions: [%s]
+              errors: [%s]
+              enums: [%s]
+              paginators: [%s]
+              waiters: [%s]""".formatted(
+                removedOperations,
+                removedStructures,
+                removedErrors,
+                removedEnums,
+                removedPaginators,
+                removedWaiters
+            )
+        );
+    }
+
+    private static String getRemovedNames(Collection<?> before, Collection<?> after) {
+        Set<String> afterNames = after.stream().map(PruneUnreachableShapes::getName).collect(Collectors.toSet());
+        Set<String> removed = before.stream()
+            .map(PruneUnreachableShapes::getName)
+            .filter(name -> !afterNames.contains(name))
+            .collect(Collectors.toCollection(TreeSet::new));
+        return String.join(", ", removed);
+    }
+
+    private static String getName(Object item) {
+        return item instanceof Shape shape ? shape.getId().toString() : item.toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.integration;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.typescript.codegen.CodegenUtils;
+import software.amazon.smithy.typescript.codegen.TypeScriptWriter;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeModuleIndex;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * The module being written when protocol serde is split into per-operation modules.
+ *
+ * <p>An operation module defines the serde functions of shapes used only by its
+ * operation and imports those of shared shapes. The shared module defines and exports
+ * the shared functions that some operation module imported, which are recorded here
+ * as operation modules are generated. Error deserializers of shared errors, such as
+ * the service's errors, and the protocol's helper functions are also written once to
+ * the shared module.
+ *
+ * @see SerdeModuleIndex
+ */
+@SmithyInternalApi
+public final class SerdeModuleScope {
+
+    public static final String SHARED_MODULE_NAME = "shared";
+
+    private final SerdeModuleIndex index;
+    private final String protocolName;
+    private final OperationShape operation;
+    private final Set<Shape> sharedSerializers;
+    private final Set<Shape> sharedDeserializers;
+    private final Set<StructureShape> sharedErrorDeserializers;
+
+    /**
+     * Creates the scope of the shared module.
+     *
+     * @param index The module assignment of the service's shapes.
+     * @param protocolName The protocol's name.
+     */
+    public SerdeModuleScope(SerdeModuleIndex index, String protocolName) {
+        this(index, protocolName, null, new TreeSet<>(), new TreeSet<>(), new TreeSet<>());
+    }
+
+    private SerdeModuleScope(
+        SerdeModuleIndex index,
+        String protocolName,
+        OperationShape operation,
+        Set<Shape> sharedSerializers,
+        Set<Shape> sharedDeserializers,
+        Set<StructureShape> sharedErrorDeserializers
+    ) {
+        this.index = index;
+        this.protocolName = protocolName;
+        this.operation = operation;
+        this.sharedSerializers = sharedSerializers;
+        this.sharedDeserializers = sharedDeserializers;
+        this.sharedErrorDeserializers = sharedErrorDeserializers;
+    }
+
+    /**
+     * @param operation The operation whose module is written next.
+     * @return a scope recording into the same shared function sets as this one.
+     */
+    public SerdeModuleScope forOperation(OperationShape operation) {
+        return new SerdeModuleScope(
+            index,
+            protocolName,
+            operation,
+            sharedSerializers,
+            sharedDeserializers,
+            sharedErrorDeserializers
+        );
+    }
+
+    /**
+     * @return the operation of the module being written, or empty for the shared module.
+     */
+    public Optional<OperationShape> getOperation() {
+        return Optional.ofNullable(operation);
+    }
+
+    /**
+     * @return whether the module being written is the shared module.
+     */
+    public boolean isSharedModule() {
+        return operation == null;
+    }
+
+    /**
+     * Called instead of writing a serializer function. Records the shape if
+     * its serializer is to be imported from the shared module.
+     *
+     * @param shape The shape being serialized.
+     * @return whether the serializer should be imported rather than defined.
+     */
+    public boolean importsSerializer(Shape shape) {
+        if (operation != null && index.isShared(shape)) {
+            sharedSerializers.add(shape);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called instead of writing a deserializer function. Records the shape if
+     * its deserializer is to be imported from the shared module.
+     *
+     * @param shape The shape being deserialized.
+     * @return whether the deserializer should be imported rather than defined.
+     */
+    public boolean importsDeserializer(Shape shape) {
+        if (operation != null && index.isShared(shape)) {
+            sharedDeserializers.add(shape);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called instead of writing an error deserializer function. Records the error if
+     * its error deserializer is to be imported from the shared module.
+     *
+     * @param error The error shape being deserialized.
+     * @return whether the error deserializer should be imported rather than defined.
+     */
+    public boolean importsErrorDeserializer(StructureShape error) {
+        if (operation != null && index.isShared(error)) {
+            sharedErrorDeserializers.add(error);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes helper functions and constants that serde functions of every operation refer to.
+     * The shared module defines and exports them, and operation modules import them.
+     *
+     * @param writer The writer of the module being written.
+     * @param names The names of the helpers.
+     * @param writeHelpers Writes the helper definitions.
+     */
+    public void writeSharedHelpers(TypeScriptWriter writer, List<String> names, Runnable writeHelpers) {
+        if (isSharedModule()) {
+            writeHelpers.run();
+            writer.write("export { $L };", String.join(", ", names));
+            writer.write("");
+        } else {
+            names.forEach(name -> writer.addImport(name, null, getSharedModulePath()));
+        }
+    }
+
+    /**
+     * @return shared shapes whose serializer was imported by an operation module.
+     */
+    public Set<Shape> getSharedSerializers() {
+        return sharedSerializers;
+    }
+
+    /**
+     * @return shared shapes whose deserializer was imported by an operation module.
+     */
+    public Set<Shape> getSharedDeserializers() {
+        return sharedDeserializers;
+    }
+
+    /**
+     * @return shared errors whose error deserializer was imported by an operation module.
+     */
+    public Set<StructureShape> getSharedErrorDeserializers() {
+        return sharedErrorDeserializers;
+    }
+
+    /**
+     * @return the package-relative import path of the shared module.
+     */
+    public String getSharedModulePath() {
+        return getModulePath(protocolName, SHARED_MODULE_NAME);
+    }
+
+    /**
+     * @param symbolProvider The symbol provider.
+     * @return the package-relative path of the module being written, without extension.
+     */
+    public String getModulePath(SymbolProvider symbolProvider) {
+        return getModulePath(
+            protocolName,
+            operation == null ? SHARED_MODULE_NAME : symbolProvider.toSymbol(operation).getName()
+        );
+    }
+
+    /**
+     * @param protocolName The protocol's name.
+     * @param moduleName An operation symbol name, or {@link #SHARED_MODULE_NAME}.
+     * @return the package-relative path of a split protocol serde module, without extension.
+     */
+    public static String getModulePath(String protocolName, String moduleName) {
+        return Paths.get(
+            ".",
+            CodegenUtils.SOURCE_FOLDER,
+            ProtocolGenerator.PROTOCOLS_FOLDER,
+            ProtocolGenerator.getSanitizedName(protocolName),
+            moduleName
+        ).toString();
+    }
+}
@@ -28,8 +28,10 @@ import software.amazon.smithy.utils.MapUtils;
  */
 public class SerdeElisionIndex implements KnowledgeIndex {
 
-    private final Map<ShapeId, Boolean> elisionBinding = new HashMap<>();
-    private final Map<String, ShapeId> mutatingTraits = MapUtils.of(
+    /**
+     * Traits that alter the wire representation of a shape under the JSON-based protocols.
+     */
+    protected static final Map<String, ShapeId> DEFAULT_MUTATING_TRAITS = MapUtils.of(
         "jsonName",
         JsonNameTrait.ID,
         "streaming",
@@ -42,7 +44,22 @@ public class SerdeElisionIndex implements KnowledgeIndex {
         IdempotencyTokenTrait.ID
     );
 
+    private final Map<ShapeId, Boolean> elisionBinding = new HashMap<>();
+    private final Map<String, ShapeId> mutatingTraits;
+
     public SerdeElisionIndex(Model model) {
+        this(model, DEFAULT_MUTATING_TRAITS);
+    }
+
+    /**
+     * For protocol-specific indices that treat a different set of traits or
+     * simple types as requiring generated serde.
+     *
+     * @param model - the model.
+     * @param mutatingTraits - selector trait names to trait ids that prevent elision wherever they occur.
+     */
+    protected SerdeElisionIndex(Model model, Map<String, ShapeId> mutatingTraits) {
+        this.mutatingTraits = mutatingTraits;
         for (Shape shape : model.toSet()) {
             elisionBinding.put(shape.toShapeId(), canBeElided(shape, model));
         }
@@ -118,6 +135,20 @@ public class SerdeElisionIndex implements KnowledgeIndex {
                     model,
                     depth + 1
                 );
+            default:
+                return requiresSerde(target);
+        }
+    }
+
+    /**
+     * Called for every non-aggregate shape reachable from the shape being indexed.
+     * This is invoked during construction, so overrides must not depend on instance state.
+     *
+     * @param target - a simple shape, or a non-applicable shape type.
+     * @return whether the shape's wire value must be converted by a generated serde function.
+     */
+    protected boolean requiresSerde(Shape target) {
+        switch (target.getType()) {
             case BIG_DECIMAL:
             case BIG_INTEGER:
             case BLOB:
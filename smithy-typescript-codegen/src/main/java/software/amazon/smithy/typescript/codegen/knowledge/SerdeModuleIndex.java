@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.knowledge;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Assigns the shapes of a service's protocol serde to per-operation modules
+ * or to a shared module, based on the shape dependency graph.
+ *
+ * A shape reachable from the input, output, or errors of exactly one operation
+ * (including service errors) belongs to that operation's module. A shape reachable
+ * from more than one operation belongs to the shared module. Every shape reachable
+ * from a shared shape is itself shared, so the shared module never imports from
+ * an operation module.
+ *
+ * A model can contain several services, so the index is computed and cached
+ * separately for each service of the model.
+ */
+@SmithyInternalApi
+public final class SerdeModuleIndex implements KnowledgeIndex {
+
+    private final Map<ShapeId, Set<ShapeId>> shapesByOperation = new TreeMap<>();
+    private final Map<ShapeId, Integer> operationCount = new TreeMap<>();
+    private final Set<ShapeId> sharedShapes = new TreeSet<>();
+
+    private SerdeModuleIndex(Model model, ServiceShape service) {
+        Walker walker = new Walker(NeighborProviderIndex.of(model).getProvider());
+        Set<Shape> serviceErrors = new TreeSet<>();
+        service.getErrors().forEach(error -> serviceErrors.addAll(walker.walkShapes(model.expectShape(error))));
+        serviceErrors.removeIf(Shape::isMemberShape);
+
+        for (OperationShape operation : new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service))) {
+            Set<ShapeId> closure = new TreeSet<>();
+            for (Shape shape : walker.walkShapes(operation)) {
+                if (!shape.isOperationShape() && !shape.isMemberShape()) {
+                    closure.add(shape.getId());
+                }
+            }
+            serviceErrors.forEach(shape -> closure.add(shape.getId()));
+            shapesByOperation.put(operation.getId(), closure);
+            closure.forEach(id -> operationCount.merge(id, 1, Integer::sum));
+        }
+
+        operationCount.forEach((id, count) -> {
+            if (count > 1) {
+                sharedShapes.add(id);
+            }
+        });
+    }
+
+    public static SerdeModuleIndex of(Model model, ServiceShape service) {
+        return model
+            .getKnowledge(ServiceIndices.class, ServiceIndices::new)
+            .indices.computeIfAbsent(service.getId(), id -> new SerdeModuleIndex(model, service));
+    }
+
+    /**
+     * @param shape - any shape in the service closure.
+     * @return whether the shape's serde functions belong to the shared module.
+     */
+    public boolean isShared(ToShapeId shape) {
+        return sharedShapes.contains(shape.toShapeId());
+    }
+
+    /**
+     * @return shapes whose serde functions belong to the shared module.
+     */
+    public Set<ShapeId> getSharedShapes() {
+        return Collections.unmodifiableSet(sharedShapes);
+    }
+
+    /**
+     * @param operation - an operation of the service.
+     * @return shapes whose serde functions belong only to the operation's module.
+     */
+    public Set<ShapeId> getOperationShapes(ToShapeId operation) {
+        Set<ShapeId> own = new TreeSet<>(shapesByOperation.getOrDefault(operation.toShapeId(), Collections.emptySet()));
+        own.removeAll(sharedShapes);
+        return own;
+    }
+
+    /**
+     * Model knowledge holding the index of each service of the model.
+     */
+    private static final class ServiceIndices implements KnowledgeIndex {
+
+        private final Map<ShapeId, SerdeModuleIndex> indices = new ConcurrentHashMap<>();
+
+        ServiceIndices(Model model) {}
+    }
+}
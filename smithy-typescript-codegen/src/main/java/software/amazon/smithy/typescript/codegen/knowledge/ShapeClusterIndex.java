@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.knowledge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Groups the shapes of a service into clusters by the operations that reach them.
+ *
+ * Each operation has a cluster of the shapes reachable only from that operation.
+ * Shapes reachable from more than one operation, or from the service's errors, are
+ * grouped into shared clusters by the exact set of operations that reach them, so
+ * that shapes used together are kept together.
+ *
+ * Clusters and their contents are sorted by shape id, independently of the order
+ * in which shapes are visited by the code generator. The index is computed and
+ * cached separately for each service of the model.
+ */
+@SmithyInternalApi
+public final class ShapeClusterIndex implements KnowledgeIndex {
+
+    private final List<Set<ShapeId>> operationClusters = new ArrayList<>();
+    private final List<Set<ShapeId>> sharedClusters = new ArrayList<>();
+
+    private ShapeClusterIndex(Model model, ServiceShape service) {
+        Walker walker = new Walker(NeighborProviderIndex.of(model).getProvider());
+        Map<ShapeId, Set<ShapeId>> usersByShape = new TreeMap<>();
+
+        for (OperationShape operation : new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service))) {
+            for (Shape shape : walker.walkShapes(operation)) {
+                if (!shape.isOperationShape() && !shape.isMemberShape()) {
+                    usersByShape.computeIfAbsent(shape.getId(), id -> new TreeSet<>()).add(operation.getId());
+                }
+            }
+        }
+        for (ShapeId error : service.getErrors()) {
+            for (Shape shape : walker.walkShapes(model.expectShape(error))) {
+                if (!shape.isMemberShape()) {
+                    usersByShape.computeIfAbsent(shape.getId(), id -> new TreeSet<>()).add(service.getId());
+                }
+            }
+        }
+
+        Map<ShapeId, Set<ShapeId>> byOperation = new TreeMap<>();
+        Map<String, Set<ShapeId>> byUsers = new TreeMap<>();
+        usersByShape.forEach((shape, users) -> {
+            ShapeId first = users.iterator().next();
+            if (users.size() == 1 && !first.equals(service.getId())) {
+                byOperation.computeIfAbsent(first, id -> new TreeSet<>()).add(shape);
+            } else {
+                byUsers.computeIfAbsent(users.toString(), key -> new TreeSet<>()).add(shape);
+            }
+        });
+
+        byOperation.values().forEach(cluster -> operationClusters.add(Collections.unmodifiableSet(cluster)));
+        byUsers.values().forEach(cluster -> sharedClusters.add(Collections.unmodifiableSet(cluster)));
+    }
+
+    public static ShapeClusterIndex of(Model model, ServiceShape service) {
+        return model
+            .getKnowledge(ServiceIndices.class, ServiceIndices::new)
+            .indices.computeIfAbsent(service.getId(), id -> new ShapeClusterIndex(model, service));
+    }
+
+    /**
+     * @return for each operation reaching at least one shape of its own, the shapes reachable
+     * only from that operation, ordered by operation id.
+     */
+    public List<Set<ShapeId>> getOperationClusters() {
+        return Collections.unmodifiableList(operationClusters);
+    }
+
+    /**
+     * @return shapes reachable from more than one operation or from the service's errors,
+     * grouped by the operations reaching them.
+     */
+    public List<Set<ShapeId>> getSharedClusters() {
+        return Collections.unmodifiableList(sharedClusters);
+    }
+
+    /**
+     * Model knowledge holding the index of each service of the model.
+     */
+    private static final class ServiceIndices implements KnowledgeIndex {
+
+        private final Map<ShapeId, ShapeClusterIndex> indices = new ConcurrentHashMap<>();
+
+        ServiceIndices(Model model) {}
+    }
+}
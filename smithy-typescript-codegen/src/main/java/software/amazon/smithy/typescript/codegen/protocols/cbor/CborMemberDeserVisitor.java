@@ -34,6 +34,8 @@ public class CborMemberDeserVisitor extends DocumentMemberDeserVisitor {
         context.getWriter()
             .addImportSubmodule("_json", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.CLIENT);
         this.serdeElisionEnabled = !context.getSettings().generateServerSdk();
+        this.documentsByReference = true;
+        this.serdeElisionIndex = CborSerdeElisionIndex.of(context.getModel());
         this.dataSource = dataSource;
     }
 
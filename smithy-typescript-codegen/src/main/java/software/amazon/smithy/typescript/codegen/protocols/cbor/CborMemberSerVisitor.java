@@ -32,6 +32,8 @@ public class CborMemberSerVisitor extends DocumentMemberSerVisitor {
         super(context, dataSource, TimestampFormatTrait.Format.EPOCH_SECONDS);
         this.context = context;
         this.serdeElisionEnabled = true;
+        this.documentsByReference = true;
+        this.serdeElisionIndex = CborSerdeElisionIndex.of(context.getModel());
         this.dataSource = dataSource;
     }
 
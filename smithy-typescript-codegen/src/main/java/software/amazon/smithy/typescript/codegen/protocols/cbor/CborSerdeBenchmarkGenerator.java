@@ -0,0 +1,204 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.protocols.cbor;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import software.amazon.smithy.codegen.core.Symbol;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.protocoltests.traits.AppliesTo;
+import software.amazon.smithy.protocoltests.traits.HttpMessageTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestsTrait;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestsTrait;
+import software.amazon.smithy.typescript.codegen.CodegenUtils;
+import software.amazon.smithy.typescript.codegen.TypeScriptDependency;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.TypeScriptWriter;
+import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator.GenerationContext;
+import software.amazon.smithy.typescript.codegen.integration.SerdeModuleScope;
+import software.amazon.smithy.typescript.codegen.knowledge.ServiceClosure;
+import software.amazon.smithy.typescript.codegen.schema.SchemaGenerationAllowlist;
+import software.amazon.smithy.utils.IoUtils;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Generates a Vitest benchmark of the generated RPCv2 CBOR serde, and of the CBOR codec
+ * against JSON, on the bodies of the service's protocol tests.
+ *
+ * <p>Each CBOR request body is decoded into an operation input, which is serialized
+ * with the client's serializer. Each CBOR response body is deserialized with the
+ * client's deserializer. The same documents are also encoded or decoded with the CBOR
+ * codec and with {@code JSON.stringify} or {@code JSON.parse}. The benchmark reports
+ * throughput per payload, followed by the size of both encodings and the heap growth
+ * per call.
+ *
+ * <p>Only the codec results compare CBOR with JSON. The client serde also converts
+ * shapes and builds requests or reads responses, which no JSON protocol of this
+ * repository is measured doing.
+ */
+@SmithyInternalApi
+public final class CborSerdeBenchmarkGenerator implements Runnable {
+
+    private static final String BENCHMARK_FILE_TEMPLATE = "test/benchmark/%s.serde.bench.ts";
+
+    private final GenerationContext context;
+    private final ProtocolGenerator protocolGenerator;
+    private final TypeScriptSettings settings;
+    private final Model model;
+    private final ServiceShape service;
+    private final boolean usesSchemas;
+
+    public CborSerdeBenchmarkGenerator(GenerationContext context, ProtocolGenerator protocolGenerator) {
+        this.context = context;
+        this.protocolGenerator = protocolGenerator;
+        this.settings = context.getSettings();
+        this.model = context.getModel();
+        this.service = context.getService();
+        this.usesSchemas = SchemaGenerationAllowlist.allows(service.getId(), settings);
+    }
+
+    @Override
+    public void run() {
+        List<Consumer<TypeScriptWriter>> benchmarks = new ArrayList<>();
+        for (OperationShape operation : new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service))) {
+            if (operation.hasTag("server-only")) {
+                continue;
+            }
+            operation.getTrait(HttpRequestTestsTrait.class).ifPresent(trait -> {
+                trait.getTestCasesFor(AppliesTo.CLIENT).stream().filter(this::hasCborBody).forEach(testCase -> {
+                    benchmarks.add(writer -> writeRequestBenchmark(writer, operation, testCase));
+                });
+            });
+            operation.getTrait(HttpResponseTestsTrait.class).ifPresent(trait -> {
+                trait.getTestCasesFor(AppliesTo.CLIENT).stream().filter(this::hasCborBody).forEach(testCase -> {
+                    benchmarks.add(writer -> writeResponseBenchmark(writer, operation, testCase));
+                });
+            });
+        }
+        if (benchmarks.isEmpty()) {
+            return;
+        }
+
+        String baseName = protocolGenerator.getProtocol()
+            .getName()
+            .toLowerCase(Locale.US)
+            .replace("-", "_")
+            .replace(".", "_");
+        context.getWriterDelegator().useFileWriter(BENCHMARK_FILE_TEMPLATE.formatted(baseName), writer -> {
+            writer.addDependency(TypeScriptDependency.SMITHY_CORE);
+            writer.addDependency(TypeScriptDependency.VITEST);
+            writer.write(IoUtils.readUtf8Resource(CborSerdeBenchmarkGenerator.class, "serde-benchmark-stub.ts"));
+
+            Symbol serviceSymbol = context.getSymbolProvider()
+                .toSymbol(service)
+                .toBuilder()
+                .putProperty("typeOnly", false)
+                .build();
+            writer.write("const client = new $T({ endpoint: \"https://localhost/\" });", serviceSymbol);
+            writer.write("const context = client.config as any;");
+            if (usesSchemas) {
+                writer.write("const protocol = context.protocol;");
+                writer.write("protocol.setSerdeContext(context);");
+            }
+            writer.write("");
+
+            benchmarks.forEach(benchmark -> benchmark.accept(writer));
+        });
+    }
+
+    private boolean hasCborBody(HttpMessageTestCase testCase) {
+        return testCase.getProtocol().equals(protocolGenerator.getProtocol()) &&
+            testCase.getBody().filter(body -> !body.isEmpty()).isPresent() &&
+            testCase.getBodyMediaType().filter(mediaType -> mediaType.equals("application/cbor")).isPresent();
+    }
+
+    private void writeRequestBenchmark(
+        TypeScriptWriter writer,
+        OperationShape operation,
+        HttpMessageTestCase testCase
+    ) {
+        if (usesSchemas) {
+            writer.write(
+                "benchRequest($S, $S, (input) => protocol.serializeRequest($L, input, context));",
+                testCase.getId() + ":Request",
+                testCase.getBody().get(),
+                importOperationSchema(writer, operation)
+            );
+        } else {
+            writer.write(
+                "benchRequest($S, $S, (input) => $L(input, context));",
+                testCase.getId() + ":Request",
+                testCase.getBody().get(),
+                importSerdeFunction(writer, operation, true)
+            );
+        }
+    }
+
+    private void writeResponseBenchmark(
+        TypeScriptWriter writer,
+        OperationShape operation,
+        HttpMessageTestCase testCase
+    ) {
+        if (usesSchemas) {
+            writer.write(
+                "benchResponse($S, $S, (response) => protocol.deserializeResponse($L, context, response));",
+                testCase.getId() + ":Response",
+                testCase.getBody().get(),
+                importOperationSchema(writer, operation)
+            );
+        } else {
+            writer.write(
+                "benchResponse($S, $S, (response) => $L(response, context));",
+                testCase.getId() + ":Response",
+                testCase.getBody().get(),
+                importSerdeFunction(writer, operation, false)
+            );
+        }
+    }
+
+    private String importOperationSchema(TypeScriptWriter writer, OperationShape operation) {
+        String operationSchema = ServiceClosure.of(model, service).getShapeSchemaVariableName(operation, null);
+        writer.addRelativeImport(
+            operationSchema,
+            null,
+            Paths.get(".", CodegenUtils.SOURCE_FOLDER, "schemas", "schemas_0")
+        );
+        return operationSchema;
+    }
+
+    private String importSerdeFunction(TypeScriptWriter writer, OperationShape operation, boolean isInput) {
+        Symbol symbol = context.getSymbolProvider().toSymbol(operation);
+        String serdeFunctionName = isInput
+            ? ProtocolGenerator.getSerFunctionShortName(symbol)
+            : ProtocolGenerator.getDeserFunctionShortName(symbol);
+        if (settings.splitProtocolSerde() && protocolGenerator.supportsSerdeModules()) {
+            writer.addImport(
+                serdeFunctionName,
+                null,
+                SerdeModuleScope.getModulePath(protocolGenerator.getName(), symbol.getName())
+            );
+        } else {
+            writer.addRelativeImport(
+                serdeFunctionName,
+                null,
+                Paths.get(
+                    ".",
+                    CodegenUtils.SOURCE_FOLDER,
+                    ProtocolGenerator.PROTOCOLS_FOLDER,
+                    ProtocolGenerator.getSanitizedName(protocolGenerator.getName())
+                )
+            );
+        }
+        return serdeFunctionName;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.protocols.cbor;
+
+import java.util.Map;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.IdempotencyTokenTrait;
+import software.amazon.smithy.model.traits.MediaTypeTrait;
+import software.amazon.smithy.model.traits.SparseTrait;
+import software.amazon.smithy.model.traits.StreamingTrait;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeElisionIndex;
+import software.amazon.smithy.utils.MapUtils;
+
+/**
+ * Serde elision compatibility for Smithy RPCv2 CBOR.
+ *
+ * The CBOR codec round-trips more of the data model natively than JSON does, so
+ * more shapes can be passed through `_json` instead of a generated serde function.
+ * Blobs are CBOR byte strings that decode to Uint8Array, floats and doubles
+ * (including NaN and +/- Infinity) are native major type 7 values, and jsonName
+ * is ignored by this protocol.
+ *
+ * Timestamps remain incompatible because they are written as tag 1 and must be
+ * converted to and from Date. Big numbers and documents also keep their generated serde.
+ */
+public final class CborSerdeElisionIndex extends SerdeElisionIndex {
+
+    private static final Map<String, ShapeId> CBOR_MUTATING_TRAITS = MapUtils.of(
+        "streaming",
+        StreamingTrait.ID,
+        "mediaType",
+        MediaTypeTrait.ID,
+        "sparse",
+        SparseTrait.ID,
+        "idempotencyToken",
+        IdempotencyTokenTrait.ID
+    );
+
+    public CborSerdeElisionIndex(Model model) {
+        super(model, CBOR_MUTATING_TRAITS);
+    }
+
+    public static CborSerdeElisionIndex of(Model model) {
+        return model.getKnowledge(CborSerdeElisionIndex.class, CborSerdeElisionIndex::new);
+    }
+
+    @Override
+    protected boolean requiresSerde(Shape target) {
+        switch (target.getType()) {
+            case BLOB: // native byte string.
+            case DOUBLE: // native float, including non-finite values.
+            case FLOAT: // native float, including non-finite values.
+                return false;
+            case TIMESTAMP: // tag 1, converted by dateToTag and the timestamp parsers.
+            case BIG_DECIMAL: // tag 4, converted to and from NumericValue.
+            case BIG_INTEGER: // converted under bigNumberMode=big.js.
+            case DOCUMENT: // may contain meaningful null values.
+                return true;
+            default:
+                return super.requiresSerde(target);
+        }
+    }
+}
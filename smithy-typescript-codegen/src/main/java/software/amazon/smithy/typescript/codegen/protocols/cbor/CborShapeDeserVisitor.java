@@ -22,6 +22,7 @@ import software.amazon.smithy.typescript.codegen.TypeScriptDependency;
 import software.amazon.smithy.typescript.codegen.TypeScriptWriter;
 import software.amazon.smithy.typescript.codegen.integration.DocumentShapeDeserVisitor;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeElisionIndex;
 import software.amazon.smithy.typescript.codegen.util.PropertyAccessor;
 import software.amazon.smithy.typescript.codegen.validation.UnaryFunctionCall;
 
@@ -30,6 +31,12 @@ public class CborShapeDeserVisitor extends DocumentShapeDeserVisitor {
     public CborShapeDeserVisitor(ProtocolGenerator.GenerationContext context) {
         super(context);
         this.serdeElisionEnabled = true;
+        this.documentsByReference = true;
+    }
+
+    @Override
+    protected SerdeElisionIndex getSerdeElisionIndex() {
+        return CborSerdeElisionIndex.of(getContext().getModel());
     }
 
     @Override
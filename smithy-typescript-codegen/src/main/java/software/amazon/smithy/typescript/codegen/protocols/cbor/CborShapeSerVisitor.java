@@ -27,6 +27,7 @@ import software.amazon.smithy.typescript.codegen.integration.DocumentMemberSerVi
 import software.amazon.smithy.typescript.codegen.integration.DocumentShapeSerVisitor;
 import software.amazon.smithy.typescript.codegen.integration.HttpProtocolGeneratorUtils;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeElisionIndex;
 import software.amazon.smithy.typescript.codegen.validation.UnaryFunctionCall;
 
 public class CborShapeSerVisitor extends DocumentShapeSerVisitor {
@@ -39,6 +40,12 @@ public class CborShapeSerVisitor extends DocumentShapeSerVisitor {
     public CborShapeSerVisitor(ProtocolGenerator.GenerationContext context) {
         super(context);
         this.serdeElisionEnabled = true;
+        this.documentsByReference = true;
+    }
+
+    @Override
+    protected SerdeElisionIndex getSerdeElisionIndex() {
+        return CborSerdeElisionIndex.of(getContext().getModel());
     }
 
     @Override
@@ -4,6 +4,8 @@
  */
 package software.amazon.smithy.typescript.codegen.protocols.cbor;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import software.amazon.smithy.codegen.core.Symbol;
@@ -25,6 +27,7 @@ import software.amazon.smithy.typescript.codegen.integration.EventStreamGenerato
 import software.amazon.smithy.typescript.codegen.integration.HttpProtocolGeneratorUtils;
 import software.amazon.smithy.typescript.codegen.integration.HttpRpcProtocolGenerator;
 import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.integration.SerdeModuleScope;
 import software.amazon.smithy.typescript.codegen.knowledge.SerdeElisionIndex;
 import software.amazon.smithy.typescript.codegen.protocols.SmithyProtocolUtils;
 import software.amazon.smithy.utils.SmithyInternalApi;
@@ -84,10 +87,11 @@ public class SmithyRpcV2Cbor extends HttpRpcProtocolGenerator {
                 );
                 writer.write("body = cbor.serialize(body);");
             },
-            serializingDocumentShapes
+            serializingDocumentShapes,
+            getSerdeElisionIndex(context)
         );
         Set<StructureShape> errorEventShapes = new TreeSet<>();
-        SerdeElisionIndex serdeElisionIndex = SerdeElisionIndex.of(context.getModel());
+        SerdeElisionIndex serdeElisionIndex = getSerdeElisionIndex(context);
         eventStreamGenerator.generateEventStreamDeserializers(
             context,
             service,
@@ -102,12 +106,34 @@ public class SmithyRpcV2Cbor extends HttpRpcProtocolGenerator {
         generateDocumentBodyShapeSerializers(context, serializingDocumentShapes);
         generateDocumentBodyShapeDeserializers(context, deserializingDocumentShapes);
 
-        SymbolReference requestType = getApplicationProtocol().getRequestType();
+        writer
+            .addImportSubmodule("collectBody", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.PROTOCOLS);
+        writer.addUseImports(getApplicationProtocol().getRequestType());
+        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
+        writer.addTypeImport("HeaderBag", "__HeaderBag", TypeScriptDependency.SMITHY_TYPES);
+        writer.addImportSubmodule(
+            "buildHttpRpcRequest",
+            null,
+            TypeScriptDependency.SMITHY_CORE,
+            SmithyCoreSubmodules.CBOR
+        );
+
+        Optional<SerdeModuleScope> serdeModuleScope = context.getSerdeModuleScope();
+        if (serdeModuleScope.isPresent()) {
+            serdeModuleScope.get().writeSharedHelpers(writer, getSerdeHelperNames(), () -> writeSerdeHelpers(context));
+        } else {
+            writeSerdeHelpers(context);
+        }
+
+        writer.write(context.getStringStore().flushVariableDeclarationCode());
+    }
+
+    @Override
+    protected void writeSerdeHelpers(GenerationContext context) {
+        TypeScriptWriter writer = context.getWriter();
         SymbolReference responseType = getApplicationProtocol().getResponseType();
 
         HttpProtocolGeneratorUtils.generateMetadataDeserializer(context, responseType);
-        writer
-            .addImportSubmodule("collectBody", null, TypeScriptDependency.SMITHY_CORE, SmithyCoreSubmodules.PROTOCOLS);
 
         if (context.getSettings().generateClient()) {
             writer.addImportSubmodule(
@@ -120,19 +146,13 @@ public class SmithyRpcV2Cbor extends HttpRpcProtocolGenerator {
             writer.write("const throwDefaultError = withBaseException($T);", exception);
         }
 
-        writer.addUseImports(requestType);
-        writer.addTypeImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
-        writer.addTypeImport("HeaderBag", "__HeaderBag", TypeScriptDependency.SMITHY_TYPES);
-        writer.addImportSubmodule(
-            "buildHttpRpcRequest",
-            null,
-            TypeScriptDependency.SMITHY_CORE,
-            SmithyCoreSubmodules.CBOR
-        );
         writeSharedRequestHeaders(context);
         writer.write("");
+    }
 
-        writer.write(context.getStringStore().flushVariableDeclarationCode());
+    @Override
+    protected List<String> getSerdeHelperNames() {
+        return List.of("deserializeMetadata", "throwDefaultError", "SHARED_HEADERS");
     }
 
     @Override
@@ -143,6 +163,9 @@ public class SmithyRpcV2Cbor extends HttpRpcProtocolGenerator {
     @Override
     public void generateProtocolTests(GenerationContext generationContext) {
         SmithyProtocolUtils.generateProtocolTests(this, generationContext);
+        if (generationContext.getSettings().generateSerdeBenchmarks()) {
+            new CborSerdeBenchmarkGenerator(generationContext, this).run();
+        }
     }
 
     @Override
@@ -300,6 +323,11 @@ public class SmithyRpcV2Cbor extends HttpRpcProtocolGenerator {
         return true;
     }
 
+    @Override
+    protected SerdeElisionIndex getSerdeElisionIndex(GenerationContext context) {
+        return CborSerdeElisionIndex.of(context.getModel());
+    }
+
     @Override
     protected void writeRequestHeaders(GenerationContext context, OperationShape operation) {
         TypeScriptWriter writer = context.getWriter();
@@ -4,48 +4,127 @@
  */
 package software.amazon.smithy.typescript.codegen.schema;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.protocol.traits.Rpcv2CborTrait;
 import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.utils.SetUtils;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 /**
  *
  * Controls rollout of schema generation.
  *
+ * <p>An allowlist is immutable. Each {@link TypeScriptSettings} holds the allowlist of its
+ * service, which is resolved from the default allowlist when the codegen context is created,
+ * unless one was set explicitly. Changes to the default allowlist after that point do not
+ * affect services already being generated.
+ *
  */
 @SmithyInternalApi
-public abstract class SchemaGenerationAllowlist {
+public final class SchemaGenerationAllowlist {
+
+    private static volatile SchemaGenerationAllowlist defaultAllowlist = new SchemaGenerationAllowlist(
+        SetUtils.of(
+            ShapeId.from("smithy.protocoltests.rpcv2Cbor#RpcV2Protocol"),
+            ShapeId.from("org.xyz.v1#XYZService")
+        ),
+        SetUtils.of(Rpcv2CborTrait.ID)
+    );
+
+    private final Set<ShapeId> services;
+    private final Set<ShapeId> protocols;
 
-    private static final Set<ShapeId> ALLOWED = Collections.synchronizedSet(new HashSet<>());
-    private static final Set<ShapeId> PROTOCOLS = Collections.synchronizedSet(new HashSet<>());
+    private SchemaGenerationAllowlist(Set<ShapeId> services, Set<ShapeId> protocols) {
+        this.services = services;
+        this.protocols = protocols;
+    }
+
+    /**
+     * @param services - services allowed to generate schemas.
+     * @param protocols - protocols whose services are allowed to generate schemas.
+     * @return an allowlist of the given services and protocols.
+     */
+    public static SchemaGenerationAllowlist of(Set<ShapeId> services, Set<ShapeId> protocols) {
+        return new SchemaGenerationAllowlist(SetUtils.copyOf(services), SetUtils.copyOf(protocols));
+    }
 
-    static {
-        ALLOWED.add(ShapeId.from("smithy.protocoltests.rpcv2Cbor#RpcV2Protocol"));
-        ALLOWED.add(ShapeId.from("org.xyz.v1#XYZService"));
-        PROTOCOLS.add(Rpcv2CborTrait.ID);
+    /**
+     * @return the allowlist used by settings that were not given one.
+     */
+    public static SchemaGenerationAllowlist getDefault() {
+        return defaultAllowlist;
     }
 
+    /**
+     * @param serviceShapeId - the service being generated.
+     * @param settings - the settings of the service.
+     * @return whether schemas are generated for the service.
+     */
     public static boolean allows(ShapeId serviceShapeId, TypeScriptSettings settings) {
-        boolean generateClient = settings.generateClient();
-        boolean allowedByProtocol = PROTOCOLS.contains(settings.getProtocol());
-        boolean allowedByName = ALLOWED.contains(serviceShapeId);
-        return settings.generateSchemas() && generateClient && (allowedByProtocol || allowedByName);
+        return settings.generateSchemas() &&
+            settings.generateClient() &&
+            settings.getSchemaGenerationAllowlist().includes(serviceShapeId, settings.getProtocol());
     }
 
+    /**
+     * Adds a service to the default allowlist.
+     *
+     * @deprecated use {@link #allow(ShapeId)}.
+     */
     @Deprecated
     public static void allow(String serviceShapeId) {
-        ALLOWED.add(ShapeId.from(serviceShapeId));
+        allow(ShapeId.from(serviceShapeId));
+    }
+
+    /**
+     * Adds a service to the default allowlist.
+     */
+    public static synchronized void allow(ShapeId serviceShapeId) {
+        defaultAllowlist = defaultAllowlist.withService(serviceShapeId);
+    }
+
+    /**
+     * Adds a protocol to the default allowlist.
+     */
+    public static synchronized void allowProtocol(ShapeId protocolShapeId) {
+        defaultAllowlist = defaultAllowlist.withProtocol(protocolShapeId);
+    }
+
+    /**
+     * @param serviceShapeId - service to add.
+     * @return a copy of this allowlist that also allows the service.
+     */
+    public SchemaGenerationAllowlist withService(ShapeId serviceShapeId) {
+        if (services.contains(serviceShapeId)) {
+            return this;
+        }
+        Set<ShapeId> copy = new HashSet<>(services);
+        copy.add(serviceShapeId);
+        return new SchemaGenerationAllowlist(SetUtils.copyOf(copy), protocols);
     }
 
-    public static void allow(ShapeId serviceShapeId) {
-        ALLOWED.add(serviceShapeId);
+    /**
+     * @param protocolShapeId - protocol to add.
+     * @return a copy of this allowlist that also allows services using the protocol.
+     */
+    public SchemaGenerationAllowlist withProtocol(ShapeId protocolShapeId) {
+        if (protocols.contains(protocolShapeId)) {
+            return this;
+        }
+        Set<ShapeId> copy = new HashSet<>(protocols);
+        copy.add(protocolShapeId);
+        return new SchemaGenerationAllowlist(services, SetUtils.copyOf(copy));
     }
 
-    public static void allowProtocol(ShapeId protocolShapeId) {
-        PROTOCOLS.add(protocolShapeId);
+    /**
+     * @param serviceShapeId - the service.
+     * @param protocolShapeId - the protocol of the service, may be null if not yet resolved.
+     * @return whether the service or its protocol is in this allowlist.
+     */
+    public boolean includes(ShapeId serviceShapeId, ShapeId protocolShapeId) {
+        return (protocolShapeId != null && protocols.contains(protocolShapeId)) ||
+            (serviceShapeId != null && services.contains(serviceShapeId));
     }
 }
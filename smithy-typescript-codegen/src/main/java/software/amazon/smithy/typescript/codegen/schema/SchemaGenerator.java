@@ -171,7 +171,9 @@ public class SchemaGenerator implements Runnable {
                 String exceptionCtorSymbolName = ServiceClosure.RESERVED_WORDS.escape(shape.getId().getName());
 
                 writer.addTypeImport("StaticErrorSchema", null, TypeScriptDependency.SMITHY_TYPES);
-                writer.addRelativeImport(exceptionCtorSymbolName, null, Paths.get("..", "models", "errors"));
+                if (!settings.lazyErrorLoading()) {
+                    writer.addRelativeImport(exceptionCtorSymbolName, null, Paths.get("..", "models", "errors"));
+                }
                 writer.openBlock(
                     """
                     export var $L: StaticErrorSchema = [-3, $L, $L,""",
@@ -184,13 +186,25 @@ public class SchemaGenerator implements Runnable {
 
                 StructureShape errorShape = errorShapeOpt.get();
                 errorShape.expectTrait(ErrorTrait.class);
-                writer.write(
-                    """
-                    $L.registerError($L, $L);""",
-                    errorRegistryVarName,
-                    getShapeVariableName(shape),
-                    exceptionCtorSymbolName
-                );
+                if (settings.lazyErrorLoading()) {
+                    // the errors module is only loaded when an error is deserialized.
+                    writer.write(
+                        """
+                        $L.registerErrorLoader($L, () => import($S).then((m) => m.$L));""",
+                        errorRegistryVarName,
+                        getShapeVariableName(shape),
+                        "../models/errors",
+                        exceptionCtorSymbolName
+                    );
+                } else {
+                    writer.write(
+                        """
+                        $L.registerError($L, $L);""",
+                        errorRegistryVarName,
+                        getShapeVariableName(shape),
+                        exceptionCtorSymbolName
+                    );
+                }
             }
         }
 
@@ -315,13 +329,30 @@ public class SchemaGenerator implements Runnable {
                 }
             });
         writer.unwrite(", ");
-        if (requiredMemberCount > 0 && shape.isStructureShape()) {
+        if (shape.isStructureShape() && hasMemberIndexTable(shape)) {
+            writer.write("], $L,", Objects.toString(requiredMemberCount));
+            // member name to index table.
+            writer.writeInline("{ ");
+            for (int i = 0; i < orderedNames.size(); ++i) {
+                writer.writeInline("[$L]: $L, ", store.var(orderedNames.get(i)), i);
+            }
+            writer.unwrite(", ");
+            writer.write(" }");
+        } else if (requiredMemberCount > 0 && shape.isStructureShape()) {
             writer.write("], $L", Objects.toString(requiredMemberCount));
         } else {
             writer.write("]");
         }
     }
 
+    /**
+     * @return whether the structure is wide enough to get a generated member name to index table.
+     */
+    private boolean hasMemberIndexTable(Shape shape) {
+        int threshold = settings.getSchemaMemberIndexThreshold();
+        return threshold >= 0 && shape.getAllMembers().size() >= threshold;
+    }
+
     private void writeListSchema(CollectionShape shape) {
         checkedWriteSchema(shape, () -> {
             writer.addTypeImport("StaticListSchema", null, TypeScriptDependency.SMITHY_TYPES);
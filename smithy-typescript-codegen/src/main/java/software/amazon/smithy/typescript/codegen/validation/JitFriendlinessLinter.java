@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.validation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Counts the occurrences of patterns in generated TypeScript that are known to
+ * deoptimize hot paths in V8, such as serde and waiter code, so that generators
+ * can be changed to emit them less.
+ *
+ * <p>Comment lines are not linted.
+ */
+@SmithyInternalApi
+public final class JitFriendlinessLinter {
+
+    public static final String REPORT_FILENAME = "jit-lint-report.json";
+
+    private final Map<Rule, Map<String, Integer>> occurrences = new EnumMap<>(Rule.class);
+
+    /**
+     * Patterns flagged by the linter.
+     */
+    public enum Rule {
+        UNKNOWN_UNION_ENTRIES(
+            "unknown-union-entries",
+            "Object.entries(...)[0] materializes every entry of an object to read its first one.",
+            "Object\\.entries\\([^)]*\\)\\[0\\]"
+        ),
+        DELETE_PROPERTY(
+            "delete-property",
+            "Deleting a property moves the object to dictionary mode.",
+            "(?<![\\w$.])delete\\s+[\\w$]+(\\.|\\[)"
+        ),
+        SPREAD_CONCAT(
+            "spread-concat",
+            "[].concat(...values) spreads every element as a call argument.",
+            "\\[\\]\\.concat\\(\\.\\.\\."
+        ),
+        TAKE(
+            "take",
+            "take() only sets the keys present in its source, giving objects of one type varying shapes.",
+            "(?<![\\w$.])take\\("
+        );
+
+        private final String id;
+        private final String description;
+        private final Pattern pattern;
+
+        Rule(String id, String description, String pattern) {
+            this.id = id;
+            this.description = description;
+            this.pattern = Pattern.compile(pattern);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Counts the occurrences of each rule in a generated file.
+     *
+     * @param filename Name of the file, as written to the file manifest.
+     * @param contents Contents of the file.
+     */
+    public void lint(String filename, String contents) {
+        contents
+            .lines()
+            .filter(line -> !isComment(line))
+            .forEach(line -> {
+                for (Rule rule : Rule.values()) {
+                    Matcher matcher = rule.pattern.matcher(line);
+                    while (matcher.find()) {
+                        occurrences.computeIfAbsent(rule, r -> new TreeMap<>()).merge(filename, 1, Integer::sum);
+                    }
+                }
+            });
+    }
+
+    /**
+     * @param rule Rule to count.
+     * @return the number of occurrences of the rule in all linted files.
+     */
+    public int getOccurrences(Rule rule) {
+        return occurrences
+            .getOrDefault(rule, Map.of())
+            .values()
+            .stream()
+            .mapToInt(Integer::intValue)
+            .sum();
+    }
+
+    /**
+     * @return the number of occurrences of all rules in all linted files.
+     */
+    public int getTotalOccurrences() {
+        int total = 0;
+        for (Rule rule : Rule.values()) {
+            total += getOccurrences(rule);
+        }
+        return total;
+    }
+
+    /**
+     * @param service Service of the linted files.
+     * @return a report of the occurrences of each rule, by file.
+     */
+    public ObjectNode toReport(ShapeId service) {
+        ObjectNode.Builder rules = Node.objectNodeBuilder();
+        for (Rule rule : Rule.values()) {
+            ObjectNode.Builder files = Node.objectNodeBuilder();
+            occurrences.getOrDefault(rule, Map.of()).forEach(files::withMember);
+            rules.withMember(
+                rule.getId(),
+                Node.objectNodeBuilder()
+                    .withMember("description", rule.getDescription())
+                    .withMember("occurrences", getOccurrences(rule))
+                    .withMember("files", files.build())
+                    .build()
+            );
+        }
+        return Node.objectNodeBuilder()
+            .withMember("service", service.toString())
+            .withMember("occurrences", getTotalOccurrences())
+            .withMember("rules", rules.build())
+            .build();
+    }
+
+    private static boolean isComment(String line) {
+        String trimmed = line.trim();
+        return trimmed.startsWith("//") || trimmed.startsWith("*") || trimmed.startsWith("/*");
+    }
+}
@@ -0,0 +1,189 @@
+import { cbor } from "@smithy/core/cbor";
+import { HttpResponse } from "@smithy/core/protocols";
+import { NumericValue, fromBase64, toBase64 } from "@smithy/core/serde";
+import { afterAll, bench, describe } from "vitest";
+
+/**
+ * Number of calls over which heap growth is sampled for each payload.
+ */
+const ALLOCATION_SAMPLE_ITERATIONS = 1_000;
+
+const textEncoder = new TextEncoder();
+const textDecoder = new TextDecoder();
+
+/**
+ * A protocol test body, its decoded CBOR document, and the equivalent JSON document.
+ */
+interface SerdePayload {
+  value: any;
+  cborDocument: unknown;
+  cborBody: Uint8Array;
+  jsonValue: unknown;
+  jsonBody: Uint8Array;
+}
+
+/**
+ * The calls benchmarked for a payload.
+ *
+ * The codec calls encode or decode equivalent documents, and are the like-for-like
+ * comparison of CBOR and JSON. The serde call is the generated client serde, which also
+ * converts shapes and builds the request or reads the response, and has no JSON
+ * counterpart in this package.
+ */
+interface SerdeCalls {
+  serde: () => unknown;
+  cborCodec: () => unknown;
+  jsonCodec: () => unknown;
+}
+
+/**
+ * Payload name to bytes on the wire and heap growth per call.
+ */
+const payloadReport = {} as Record<
+  string,
+  {
+    cborBytes: number;
+    jsonBytes: number;
+    serdeHeapBytesPerCall?: number;
+    cborCodecHeapBytesPerCall?: number;
+    jsonCodecHeapBytesPerCall?: number;
+  }
+>;
+
+const allocationSamples = [] as ({ name: string } & SerdeCalls)[];
+
+/**
+ * Converts a decoded CBOR value to the value passed to the generated serializers.
+ */
+const toInputValue = (value: any): any => {
+  if (value === null || typeof value !== "object" || value instanceof Uint8Array || value instanceof NumericValue) {
+    return value;
+  }
+  if (Array.isArray(value)) {
+    return value.map(toInputValue);
+  }
+  if ("tag" in value && "value" in value && Number(value.tag) === 1) {
+    return new Date(Number(value.value) * 1000);
+  }
+  const input = {} as Record<string, any>;
+  for (const key of Object.keys(value)) {
+    input[key] = toInputValue(value[key]);
+  }
+  return input;
+};
+
+/**
+ * Converts an input value to the document a JSON protocol sends:
+ * blobs as base64, timestamps as epoch seconds, and big numbers as strings.
+ */
+const toJsonValue = (value: any): unknown => {
+  if (value instanceof Uint8Array) {
+    return toBase64(value);
+  }
+  if (value instanceof Date) {
+    return value.getTime() / 1000;
+  }
+  if (value instanceof NumericValue) {
+    return value.string;
+  }
+  if (typeof value === "bigint") {
+    return value.toString();
+  }
+  if (Array.isArray(value)) {
+    return value.map(toJsonValue);
+  }
+  if (value !== null && typeof value === "object") {
+    const document = {} as Record<string, unknown>;
+    for (const key of Object.keys(value)) {
+      document[key] = toJsonValue(value[key]);
+    }
+    return document;
+  }
+  return value;
+};
+
+const createPayload = (name: string, base64Body: string): SerdePayload => {
+  const cborBody = fromBase64(base64Body);
+  const cborDocument = cbor.deserialize(cborBody);
+  const value = toInputValue(cborDocument);
+  const jsonValue = toJsonValue(value);
+  const jsonBody = textEncoder.encode(JSON.stringify(jsonValue));
+  payloadReport[name] = {
+    cborBytes: cborBody.byteLength,
+    jsonBytes: jsonBody.byteLength,
+  };
+  return { value, cborDocument, cborBody, jsonValue, jsonBody };
+};
+
+const benchPayload = (name: string, calls: SerdeCalls) => {
+  allocationSamples.push({ name, ...calls });
+  bench("cbor serde", async () => {
+    await calls.serde();
+  });
+  bench("cbor codec", () => {
+    calls.cborCodec();
+  });
+  bench("json codec", () => {
+    calls.jsonCodec();
+  });
+};
+
+/**
+ * Benchmarks the generated request serializer, and the CBOR and JSON encoding of the same input.
+ */
+const benchRequest = (name: string, base64Body: string, serialize: (input: any) => Promise<unknown>) => {
+  describe(name, () => {
+    const payload = createPayload(name, base64Body);
+    benchPayload(name, {
+      serde: () => serialize(payload.value),
+      cborCodec: () => cbor.serialize(payload.cborDocument),
+      jsonCodec: () => textEncoder.encode(JSON.stringify(payload.jsonValue)),
+    });
+  });
+};
+
+/**
+ * Benchmarks the generated response deserializer, and the CBOR and JSON decoding of the same output.
+ */
+const benchResponse = (name: string, base64Body: string, deserialize: (response: HttpResponse) => Promise<unknown>) => {
+  describe(name, () => {
+    const payload = createPayload(name, base64Body);
+    benchPayload(name, {
+      serde: () =>
+        deserialize(
+          new HttpResponse({
+            statusCode: 200,
+            headers: {
+              "content-type": "application/cbor",
+              "smithy-protocol": "rpc-v2-cbor",
+            },
+            body: payload.cborBody,
+          })
+        ),
+      cborCodec: () => cbor.deserialize(payload.cborBody),
+      jsonCodec: () => JSON.parse(textDecoder.decode(payload.jsonBody)),
+    });
+  });
+};
+
+/**
+ * Heap growth per call. Collections during sampling make this a lower bound of the
+ * allocated bytes, unless node runs with --expose-gc and no collection occurs.
+ */
+const measureHeapBytesPerCall = async (call: () => unknown): Promise<number> => {
+  (globalThis as any).gc?.();
+  const heapUsed = process.memoryUsage().heapUsed;
+  for (let i = 0; i < ALLOCATION_SAMPLE_ITERATIONS; ++i) {
+    await call();
+  }
+  return Math.max(0, (process.memoryUsage().heapUsed - heapUsed) / ALLOCATION_SAMPLE_ITERATIONS) | 0;
+};
+
+afterAll(async () => {
+  for (const { name, serde, cborCodec, jsonCodec } of allocationSamples) {
+    payloadReport[name].serdeHeapBytesPerCall = await measureHeapBytesPerCall(serde);
+    payloadReport[name].cborCodecHeapBytesPerCall = await measureHeapBytesPerCall(cborCodec);
+    payloadReport[name].jsonCodecHeapBytesPerCall = await measureHeapBytesPerCall(jsonCodec);
+  }
+  console.table(payloadReport);
+});
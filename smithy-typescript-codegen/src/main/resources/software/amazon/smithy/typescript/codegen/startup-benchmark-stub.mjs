@@ -0,0 +1,107 @@
+import { execFileSync } from "node:child_process";
+import { existsSync, readdirSync, readFileSync, statSync, writeFileSync } from "node:fs";
+import { dirname, join } from "node:path";
+import { fileURLToPath } from "node:url";
+import { gzipSync } from "node:zlib";
+
+/**
+ * Number of fresh processes over which startup times are sampled.
+ * The median of each measurement is reported.
+ */
+const STARTUP_SAMPLES = 7;
+
+const packageRoot = join(dirname(fileURLToPath(import.meta.url)), "..");
+const snapshotPath = join(packageRoot, "test", "startup-snapshot.json");
+const mode = process.env.SNAPSHOT_MODE ?? "write";
+
+/**
+ * Loads the package in a fresh process, then constructs the client and sends its first
+ * command to a stub request handler. Errors of the first send are ignored, since the
+ * stub response does not match the operation's output.
+ */
+const measureStartup = (clientName, commandName) => {
+  const script = [
+    "const { performance } = require('node:perf_hooks');",
+    "(async () => {",
+    "  let start = performance.now();",
+    "  const pkg = require(" + JSON.stringify(join(packageRoot, "dist-cjs", "index.js")) + ");",
+    "  const importMs = performance.now() - start;",
+    "  let reachedHandler = false;",
+    "  const requestHandler = {",
+    "    handle: async () => {",
+    "      reachedHandler = true;",
+    "      return { response: { statusCode: 200, headers: {}, body: new Uint8Array(0) } };",
+    "    },",
+    "  };",
+    "  start = performance.now();",
+    "  const Client = pkg[" + JSON.stringify(clientName) + "];",
+    "  const Command = pkg[" + JSON.stringify(commandName) + "];",
+    "  const client = new Client({ endpoint: 'https://localhost', requestHandler });",
+    "  const constructMs = performance.now() - start;",
+    "  start = performance.now();",
+    "  await client.send(new Command({})).catch(() => {});",
+    "  const firstSendMs = performance.now() - start;",
+    "  process.stdout.write(JSON.stringify({ importMs, constructMs, firstSendMs, reachedHandler }));",
+    "})();",
+  ].join("\n");
+  return JSON.parse(execFileSync(process.execPath, ["-e", script], { cwd: packageRoot, encoding: "utf-8" }));
+};
+
+const median = (values) => {
+  const sorted = [...values].sort((a, b) => a - b);
+  return Math.round(sorted[sorted.length >> 1] * 100) / 100;
+};
+
+/**
+ * Total size of the JavaScript files of a build output folder, and their gzip size.
+ */
+const measureOutputSize = (folder) => {
+  const size = { files: 0, bytes: 0, gzipBytes: 0 };
+  const visit = (path) => {
+    for (const entry of readdirSync(path).sort()) {
+      const entryPath = join(path, entry);
+      if (statSync(entryPath).isDirectory()) {
+        visit(entryPath);
+      } else if (entry.endsWith(".js")) {
+        const contents = readFileSync(entryPath);
+        size.files += 1;
+        size.bytes += contents.byteLength;
+        size.gzipBytes += gzipSync(contents).byteLength;
+      }
+    }
+  };
+  visit(join(packageRoot, folder));
+  return size;
+};
+
+const runStartupBenchmark = ({ clients, command }) => {
+  const startup = {};
+  for (const clientName of clients) {
+    const samples = Array.from({ length: STARTUP_SAMPLES }, () => measureStartup(clientName, command));
+    startup[clientName] = {
+      importMs: median(samples.map((sample) => sample.importMs)),
+      constructMs: median(samples.map((sample) => sample.constructMs)),
+      firstSendMs: median(samples.map((sample) => sample.firstSendMs)),
+      reachedHandler: samples.every((sample) => sample.reachedHandler),
+    };
+  }
+  console.table(startup);
+
+  // Only sizes are snapshotted, since times vary between machines and runs.
+  const snapshot = {
+    "dist-cjs": measureOutputSize("dist-cjs"),
+    "dist-es": measureOutputSize("dist-es"),
+  };
+  console.table(snapshot);
+
+  const serialized = JSON.stringify(snapshot, null, 2) + "\n";
+  if (mode === "compare") {
+    const expected = existsSync(snapshotPath) ? readFileSync(snapshotPath, "utf-8") : "";
+    if (expected !== serialized) {
+      console.error("Output size differs from " + snapshotPath + ":\n" + serialized);
+      process.exit(1);
+    }
+  } else {
+    writeFileSync(snapshotPath, serialized);
+  }
+};
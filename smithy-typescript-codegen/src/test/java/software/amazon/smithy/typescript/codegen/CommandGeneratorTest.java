@@ -6,6 +6,7 @@ package software.amazon.smithy.typescript.codegen;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -52,6 +53,38 @@ public class CommandGeneratorTest {
         );
     }
 
+    @Test
+    public void writesCommandExamplesSeparately() {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("output-structure.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                Node.objectNodeBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .withMember("separateCommandExamples", Node.from(true))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptCodegenPlugin().execute(context);
+        String command = manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "//commands/GetFooCommand.ts").get();
+        String examples = manifest.getFileString("docs/examples/GetFooCommand.md").get();
+
+        assertThat(command, containsString("@see `docs/examples/GetFooCommand.md` in the package for examples."));
+        assertThat(command, not(containsString("const command = new GetFooCommand(input);")));
+        assertThat(examples, containsString("const command = new GetFooCommand(input);"));
+    }
+
     private void testCommandCodegen(String filename, String[] expectedTypeArray) {
         MockManifest manifest = new MockManifest();
         PluginContext context = PluginContext.builder()
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+
+public class HttpProtocolTestGeneratorTest {
+
+    @Test
+    public void writesProtocolTestsToOneFileByDefault() {
+        MockManifest manifest = generate(1);
+
+        String tests = manifest.getFileString("test/functional/rpcv2cbor.spec.ts").get();
+        assertThat(tests, containsString("\"GetBarResponse:Response\""));
+        assertThat(tests, containsString("\"GetBazResponse:Response\""));
+        assertThat(tests, containsString("\"GetFooResponse:Response\""));
+        assertFalse(manifest.hasFile("test/functional/rpcv2cbor.1.spec.ts"));
+    }
+
+    @Test
+    public void splitsProtocolTestsIntoFilesByOperationOrder() {
+        MockManifest manifest = generate(2);
+
+        assertFalse(manifest.hasFile("test/functional/rpcv2cbor.spec.ts"));
+        assertFalse(manifest.hasFile("test/functional/rpcv2cbor.3.spec.ts"));
+
+        String first = manifest.getFileString("test/functional/rpcv2cbor.1.spec.ts").get();
+        assertThat(first, containsString("\"GetBarResponse:Response\""));
+        assertThat(first, containsString("\"GetBazResponse:Response\""));
+        assertThat(first, not(containsString("\"GetFooResponse:Response\"")));
+
+        String second = manifest.getFileString("test/functional/rpcv2cbor.2.spec.ts").get();
+        assertThat(second, containsString("\"GetFooResponse:Response\""));
+        assertThat(second, not(containsString("\"GetBarResponse:Response\"")));
+
+        // each file is a standalone spec with the test stub and its own imports.
+        for (String tests : new String[] {first, second}) {
+            assertThat(tests, containsString("test as it"));
+            assertThat(tests, containsString("class RequestSerializationTestHandler"));
+        }
+    }
+
+    @Test
+    public void generatesTheSameFilesOnEveryRun() {
+        MockManifest manifest = generate(2);
+        MockManifest other = generate(2);
+
+        for (String file : new String[] {"test/functional/rpcv2cbor.1.spec.ts",
+            "test/functional/rpcv2cbor.2.spec.ts"}) {
+            assertEquals(manifest.getFileString(file).get(), other.getFileString(file).get());
+        }
+    }
+
+    private MockManifest generate(int protocolTestShards) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("sharded-protocol-tests.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                Node.objectNodeBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .withMember("protocolTestShards", Node.from(protocolTestShards))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptClientCodegenPlugin().execute(context);
+
+        return manifest;
+    }
+}
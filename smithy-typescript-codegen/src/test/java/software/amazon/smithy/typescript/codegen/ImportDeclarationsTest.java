@@ -211,4 +211,18 @@ public class ImportDeclarationsTest {
             result
         );
     }
+
+    @Test
+    public void resetsImportsForAnotherFile() {
+        ImportDeclarations declarations = new ImportDeclarations("foo/bar");
+        declarations.addDefaultImport("big", "big.js");
+        declarations.addImport("Baz", "Baz", "./foo/baz");
+        declarations.addTypeImport("Qux", "Qux", "@smithy/types");
+
+        declarations.reset("foo/nested/bar");
+        assertEquals("", declarations.toString());
+
+        declarations.addImport("Baz", "Baz", "./foo/baz");
+        assertEquals("import { Baz } from \"../baz\";\n\n", declarations.toString());
+    }
 }
@@ -37,5 +37,6 @@ public class IndexGeneratorTest {
         assertThat(contents, containsString("export * from \"./Example\";"));
         assertThat(contents, containsString("export * from \"./ExampleClient\";"));
         assertThat(contents, containsString("export * from \"./commands\";"));
+        assertThat(contents, containsString("export { getEndpointCacheStats } from \"./endpoint/endpointResolver\";"));
     }
 }
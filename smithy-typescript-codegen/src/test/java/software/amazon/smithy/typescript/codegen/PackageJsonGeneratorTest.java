@@ -209,6 +209,32 @@ class PackageJsonGeneratorTest {
         assertThat(packageJson, containsString("\"typedoc\": \"0.23.23\""));
     }
 
+    @Test
+    void expectStartupBenchmarkScriptToBeAddedWithGenerateStartupBenchmark() {
+        Model model = Model.assembler().addImport(getClass().getResource("simple-service.smithy")).assemble().unwrap();
+
+        MockManifest manifest = new MockManifest();
+
+        ObjectNode settings = Node.objectNodeBuilder()
+            .withMember("service", Node.from("smithy.example#Example"))
+            .withMember("package", Node.from("example"))
+            .withMember("packageVersion", Node.from("1.0.0"))
+            .withMember("generateStartupBenchmark", true)
+            .build();
+
+        final TypeScriptSettings typeScriptSettings = TypeScriptSettings.from(
+            model,
+            settings,
+            TypeScriptSettings.ArtifactType.CLIENT
+        );
+
+        PackageJsonGenerator.writePackageJson(typeScriptSettings, manifest, new HashMap<>());
+
+        String packageJson = manifest.getFileString(PackageJsonGenerator.PACKAGE_JSON_FILENAME).get();
+
+        assertThat(packageJson, containsString("\"bench:startup\": \"node ./test/startup-benchmark.mjs\""));
+    }
+
     private static Stream<Arguments> providePackageDescriptionTestCases() {
         return Stream.of(
             Arguments.of(TypeScriptSettings.ArtifactType.SSDK, "example server"),
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+
+public class PaginationGeneratorTest {
+
+    @Test
+    public void writesPaginatedItemMappers() {
+        MockManifest manifest = generate(true);
+        String listFoos = manifest
+            .getFileString(CodegenUtils.SOURCE_FOLDER + "/pagination/ListFoosPaginator.ts")
+            .get();
+        String listBars = manifest
+            .getFileString(CodegenUtils.SOURCE_FOLDER + "/pagination/ListBarsPaginator.ts")
+            .get();
+
+        assertThat(listFoos, containsString("export const paginateListFoos"));
+        assertThat(listFoos, containsString("export const mapListFoosItems = <T>("));
+        assertThat(
+            listFoos,
+            containsString("mapper: (item: NonNullable<NonNullable<ListFoosCommandOutput>[\"foos\"]>[number])")
+        );
+        assertThat(
+            listFoos,
+            containsString("mapPaginatedItems(paginateListFoos(config, input), \"foos\", mapper, options);")
+        );
+        assertThat(listBars, not(containsString("mapListBarsItems")));
+    }
+
+    @Test
+    public void omitsPaginatedItemMappersByDefault() {
+        String listFoos = generate(false)
+            .getFileString(CodegenUtils.SOURCE_FOLDER + "/pagination/ListFoosPaginator.ts")
+            .get();
+
+        assertThat(listFoos, containsString("export const paginateListFoos"));
+        assertThat(listFoos, not(containsString("mapListFoosItems")));
+    }
+
+    private MockManifest generate(boolean generatePaginatedItemMappers) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("paginated-service.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                Node.objectNodeBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .withMember("generatePaginatedItemMappers", Node.from(generatePaginatedItemMappers))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptCodegenPlugin().execute(context);
+        return manifest;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.typescript.codegen.integration.RuntimeClientPlugin;
+
+public class RuntimeClientPluginIndexTest {
+
+    private static final Model MODEL = Model.assembler()
+        .addImport(
+            RuntimeClientPluginIndexTest.class.getResource(
+                "/software/amazon/smithy/typescript/codegen/knowledge/serde-modules.smithy"
+            )
+        )
+        .assemble()
+        .unwrap();
+    private static final ServiceShape SERVICE = MODEL.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class);
+
+    @Test
+    public void indexesApplicablePluginsInOrder() {
+        RuntimeClientPlugin servicePlugin = RuntimeClientPlugin.builder()
+            .servicePredicate((m, s) -> true)
+            .build();
+        RuntimeClientPlugin getPlugin = RuntimeClientPlugin.builder()
+            .operationPredicate((m, s, o) -> o.getId().getName().startsWith("Get"))
+            .build();
+        RuntimeClientPlugin allOperationsPlugin = RuntimeClientPlugin.builder()
+            .operationPredicate((m, s, o) -> true)
+            .build();
+
+        RuntimeClientPluginIndex index = RuntimeClientPluginIndex.of(
+            MODEL,
+            SERVICE,
+            List.of(servicePlugin, getPlugin, allOperationsPlugin)
+        );
+
+        assertThat(index.getServicePlugins(), contains(servicePlugin));
+        assertThat(index.getOperationPlugins(ShapeId.from("foo.bar#GetFoo")), contains(getPlugin, allOperationsPlugin));
+        assertThat(index.getOperationPlugins(ShapeId.from("foo.bar#PutFoo")), contains(allOperationsPlugin));
+    }
+
+    @Test
+    public void returnsNoPluginsForUnknownOperations() {
+        RuntimeClientPlugin plugin = RuntimeClientPlugin.builder()
+            .operationPredicate((m, s, o) -> true)
+            .build();
+
+        RuntimeClientPluginIndex index = RuntimeClientPluginIndex.of(MODEL, SERVICE, List.of(plugin));
+
+        assertThat(index.getOperationPlugins(ShapeId.from("foo.bar#Unknown")), empty());
+    }
+}
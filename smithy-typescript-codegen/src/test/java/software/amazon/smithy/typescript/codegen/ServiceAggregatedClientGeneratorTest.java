@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+public class ServiceAggregatedClientGeneratorTest {
+
+    @Test
+    public void importsCommandsStatically() {
+        String contents = generate(Node.objectNode());
+
+        assertThat(contents, containsString("import { GetFooCommand"));
+        assertThat(contents, containsString("const commands = {\n  GetFooCommand,\n};"));
+        assertThat(contents, containsString("createAggregatedClient(commands, Example);"));
+    }
+
+    @Test
+    public void loadsCommandsLazily() {
+        String contents = generate(
+            Node.objectNodeBuilder()
+                .withMember("lazyCommands", true)
+                .withMember("prefetchCommands", Node.fromStrings("GetFoo", "Unknown"))
+                .build()
+        );
+
+        assertThat(contents, not(containsString("import { GetFooCommand")));
+        assertThat(
+            contents,
+            containsString("GetFooCommand: () => import(\"./commands/GetFooCommand\").then((m) => m.GetFooCommand),")
+        );
+        assertThat(
+            contents,
+            containsString("createLazyAggregatedClient(commands, Example, { prefetch: [\"GetFooCommand\"] });")
+        );
+    }
+
+    private String generate(ObjectNode config) {
+        Model model = Model.assembler()
+            .addImport(getClass().getResource("simple-service-with-operation.smithy"))
+            .assemble()
+            .unwrap();
+        TypeScriptSettings settings = TypeScriptSettings.from(
+            model,
+            Node.objectNodeBuilder()
+                .withMember("service", Node.from("smithy.example#Example"))
+                .withMember("package", Node.from("example"))
+                .withMember("packageVersion", Node.from("1.0.0"))
+                .build()
+                .merge(config),
+            TypeScriptSettings.ArtifactType.CLIENT
+        );
+        TypeScriptWriter writer = new TypeScriptWriter("./src/Example");
+
+        new ServiceAggregatedClientGenerator(
+            settings,
+            model,
+            new SymbolVisitor(model, settings),
+            "Example",
+            writer,
+            ApplicationProtocol.createDefaultHttpApplicationProtocol()
+        ).run();
+
+        return writer.toString();
+    }
+}
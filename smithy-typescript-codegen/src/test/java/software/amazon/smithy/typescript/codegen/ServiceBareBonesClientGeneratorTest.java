@@ -66,4 +66,39 @@ public class ServiceBareBonesClientGeneratorTest {
 
         assertThat(writer.toString(), containsString("  /**\n" + "   * Hello!\n" + "   */\n" + "  syn?: string;"));
     }
+
+    @Test
+    public void generatesWarmupMethod() {
+        Model model = Model.assembler().addImport(getClass().getResource("simple-service.smithy")).assemble().unwrap();
+        TypeScriptSettings settings = TypeScriptSettings.from(
+            model,
+            Node.objectNodeBuilder()
+                .withMember("service", Node.from("smithy.example#Example"))
+                .withMember("package", Node.from("example"))
+                .withMember("packageVersion", Node.from("1.0.0"))
+                .withMember("generateClientWarmup", Node.from(true))
+                .build()
+        );
+        TypeScriptWriter writer = new TypeScriptWriter("./foo");
+
+        new ServiceBareBonesClientGenerator(
+            settings,
+            model,
+            new SymbolVisitor(model, settings),
+            writer,
+            Collections.emptyList(),
+            Collections.emptyList(),
+            ApplicationProtocol.createDefaultHttpApplicationProtocol()
+        ).run();
+
+        assertThat(
+            writer.toString(),
+            containsString(
+                """
+                  async warmup(commands?: __WarmupCommandCtor[]): Promise<void> {
+                    return __warmupClient(this, commands);
+                  }"""
+            )
+        );
+    }
 }
@@ -288,4 +288,38 @@ public class SymbolProviderTest {
         assertThat(symbol2.getNamespace(), equalTo("./" + CodegenUtils.SOURCE_FOLDER + "/models/models_0"));
         assertThat(symbol2.getDefinitionFile(), equalTo("./" + CodegenUtils.SOURCE_FOLDER + "/models/models_0.ts"));
     }
+
+    @Test
+    public void clustersModelsByOperation() {
+        Model model = Model.assembler()
+            .addImport(getClass().getResource("knowledge/serde-modules.smithy"))
+            .assemble()
+            .unwrap();
+        TypeScriptSettings settings = TypeScriptSettings.from(
+            model,
+            Node.objectNodeBuilder()
+                .withMember("package", Node.from("example"))
+                .withMember("packageVersion", Node.from("1.0.0"))
+                .withMember("modelChunking", Node.from("operation"))
+                .build(),
+            TypeScriptSettings.ArtifactType.CLIENT
+        );
+        SymbolProvider provider = new SymbolVisitor(model, settings, 2);
+        String prefix = "./" + CodegenUtils.SOURCE_FOLDER + "/models/";
+
+        // visited in reverse order of assignment.
+        assertThat(namespaceOf(provider, model, "foo.bar#Tag"), equalTo(prefix + "models_4"));
+        assertThat(namespaceOf(provider, model, "foo.bar#Foo"), equalTo(prefix + "models_4"));
+        assertThat(namespaceOf(provider, model, "foo.bar#ErrorDetail"), equalTo(prefix + "models_3"));
+        assertThat(namespaceOf(provider, model, "foo.bar#PutFooInput"), equalTo(prefix + "models_2"));
+        assertThat(namespaceOf(provider, model, "foo.bar#GetOnly"), equalTo(prefix + "models_2"));
+        assertThat(namespaceOf(provider, model, "foo.bar#GetFooOutput"), equalTo(prefix + "models_1"));
+        assertThat(namespaceOf(provider, model, "foo.bar#GetFooInput"), equalTo(prefix + "models_1"));
+        assertThat(namespaceOf(provider, model, "foo.bar#DeleteFooInput"), equalTo(prefix + "models_0"));
+        assertThat(namespaceOf(provider, model, "foo.bar#NotFound"), equalTo(prefix + "errors"));
+    }
+
+    private static String namespaceOf(SymbolProvider provider, Model model, String shapeId) {
+        return provider.toSymbol(model.expectShape(ShapeId.from(shapeId))).getNamespace();
+    }
 }
@@ -5,9 +5,20 @@
 package software.amazon.smithy.typescript.codegen;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.build.MockManifest;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 
@@ -21,4 +32,83 @@ public class TypeScriptDelegatorTest {
 
         assertThat(delegator.getDependencies(), equalTo(TypeScriptDependency.getUnconditionalDependencies()));
     }
+
+    @Test
+    public void bulkFlushWritesFilesInNewDirectories(@TempDir Path dir) throws IOException {
+        FileManifest manifest = FileManifest.create(dir);
+        TypeScriptDelegator delegator = new TypeScriptDelegator(manifest, shape -> null, 2);
+
+        delegator.useFileWriter("src/commands/GetFooCommand.ts", writer -> writer.write("export const foo = 1;"));
+        delegator.useFileWriter("src/index.ts", writer -> writer.write("export * from \"./commands\";"));
+        delegator.flushWriters();
+
+        assertThat(
+            Files.readString(dir.resolve("src/commands/GetFooCommand.ts")),
+            endsWith("export const foo = 1;\n")
+        );
+        assertThat(Files.readString(dir.resolve("src/index.ts")), endsWith("export * from \"./commands\";\n"));
+        assertThat(manifest.hasFile(dir.resolve("src/index.ts")), is(true));
+        assertThat(delegator.getWriters().isEmpty(), is(true));
+    }
+
+    @Test
+    public void bulkFlushSkipsUnchangedFiles(@TempDir Path dir) throws IOException {
+        Path unchanged = dir.resolve("src/unchanged.ts");
+        Path changed = dir.resolve("src/changed.ts");
+        flush(dir, "export const a = 1;", "export const b = 1;");
+        FileTime past = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchanged, past);
+        Files.setLastModifiedTime(changed, past);
+
+        flush(dir, "export const a = 1;", "export const b = 2;");
+
+        assertThat(Files.getLastModifiedTime(unchanged), equalTo(past));
+        assertThat(Files.getLastModifiedTime(changed), not(equalTo(past)));
+        assertThat(Files.readString(changed), endsWith("export const b = 2;\n"));
+    }
+
+    @Test
+    public void bulkFlushWritesOtherManifestsThroughTheManifest() {
+        MockManifest manifest = new MockManifest();
+        TypeScriptDelegator delegator = new TypeScriptDelegator(manifest, shape -> null, 2);
+
+        delegator.useFileWriter("src/index.ts", writer -> writer.write("export const foo = 1;"));
+        delegator.flushWriters();
+
+        assertThat(manifest.getFileString("src/index.ts").get(), endsWith("export const foo = 1;\n"));
+        assertThat(Files.exists(manifest.getBaseDir().resolve("src/index.ts")), is(false));
+        assertThat(delegator.getWriters().isEmpty(), is(true));
+    }
+
+    @Test
+    public void reusesImportDeclarationsOfFlushedWriters() {
+        MockManifest manifest = new MockManifest();
+        TypeScriptDelegator delegator = new TypeScriptDelegator(manifest, shape -> null);
+        ImportDeclarations[] imports = new ImportDeclarations[2];
+
+        delegator.useFileWriter("src/a.ts", writer -> {
+            writer.addImport("Foo", null, "./src/foo");
+            imports[0] = writer.getImportContainer();
+        });
+        delegator.flushWriters();
+        delegator.useFileWriter("src/nested/b.ts", writer -> {
+            writer.addImport("Bar", null, "./src/bar");
+            writer.write("export const b = Bar;");
+            imports[1] = writer.getImportContainer();
+        });
+        delegator.flushWriters();
+
+        assertThat(imports[1], sameInstance(imports[0]));
+        assertThat(manifest.getFileString("src/a.ts").get(), containsString("import { Foo } from \"./foo\";"));
+        String b = manifest.getFileString("src/nested/b.ts").get();
+        assertThat(b, containsString("import { Bar } from \"../bar\";"));
+        assertThat(b, not(containsString("Foo")));
+    }
+
+    private static void flush(Path dir, String unchangedContents, String changedContents) {
+        TypeScriptDelegator delegator = new TypeScriptDelegator(FileManifest.create(dir), shape -> null, 2);
+        delegator.useFileWriter("src/unchanged.ts", writer -> writer.write(unchangedContents));
+        delegator.useFileWriter("src/changed.ts", writer -> writer.write(changedContents));
+        delegator.flushWriters();
+    }
 }
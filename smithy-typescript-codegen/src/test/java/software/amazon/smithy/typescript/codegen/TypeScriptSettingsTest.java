@@ -7,6 +7,7 @@ package software.amazon.smithy.typescript.codegen;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +21,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.smithy.codegen.core.CodegenException;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.ServiceIndex;
 import software.amazon.smithy.model.node.Node;
@@ -106,6 +108,28 @@ public class TypeScriptSettingsTest {
         assertEquals(typeScriptSettings.getPackageDescription(), expectedDescription);
     }
 
+    @Test
+    public void readsRequestBodyStreamingThresholdForSsdk() {
+        Model model = Model.assembler().addImport(getClass().getResource("simple-service.smithy")).assemble().unwrap();
+        ObjectNode config = Node.objectNodeBuilder()
+            .withMember("package", Node.from("example"))
+            .withMember("packageVersion", Node.from("1.0.0"))
+            .withMember("requestBodyStreamingThreshold", Node.from(65536))
+            .build();
+
+        TypeScriptSettings ssdkSettings = TypeScriptSettings.from(model, config, TypeScriptSettings.ArtifactType.SSDK);
+        assertEquals(65536, ssdkSettings.getRequestBodyStreamingThreshold());
+        assertEquals(true, ssdkSettings.isRequestBodyStreamingEnabled());
+
+        TypeScriptSettings clientSettings = TypeScriptSettings.from(
+            model,
+            config,
+            TypeScriptSettings.ArtifactType.CLIENT
+        );
+        assertEquals(-1, clientSettings.getRequestBodyStreamingThreshold());
+        assertEquals(false, clientSettings.isRequestBodyStreamingEnabled());
+    }
+
     private static Stream<Arguments> providePackageDescriptionTestCases() {
         return Stream.of(
             Arguments.of(TypeScriptSettings.ArtifactType.SSDK, "example server"),
@@ -325,6 +349,26 @@ public class TypeScriptSettingsTest {
         );
     }
 
+    @Test
+    public void parsesProtocolTestShards() {
+        Model model = Model.assembler().addImport(getClass().getResource("simple-service.smithy")).assemble().unwrap();
+        ObjectNode.Builder settings = Node.objectNodeBuilder()
+            .withMember("service", Node.from("smithy.example#Example"))
+            .withMember("package", Node.from("example"))
+            .withMember("packageVersion", Node.from("1.0.0"));
+
+        assertEquals(1, TypeScriptSettings.from(model, settings.build()).getProtocolTestShards());
+        TypeScriptSettings sharded = TypeScriptSettings.from(
+            model,
+            settings.withMember("protocolTestShards", Node.from(4)).build()
+        );
+        assertEquals(4, sharded.getProtocolTestShards());
+        assertThrows(
+            CodegenException.class,
+            () -> TypeScriptSettings.from(model, settings.withMember("protocolTestShards", Node.from(0)).build())
+        );
+    }
+
     @Test
     public void resolvesSupportProtocols() {
         // TODO
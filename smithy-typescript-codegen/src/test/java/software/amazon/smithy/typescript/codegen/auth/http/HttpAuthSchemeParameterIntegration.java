@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.auth.http;
+
+import java.util.List;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.traits.HttpApiKeyAuthTrait;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.auth.http.integration.HttpAuthTypeScriptIntegration;
+import software.amazon.smithy.typescript.codegen.auth.http.integration.SupportHttpApiKeyAuth;
+
+/**
+ * This integration is used to test auth schemes that read auth parameters. It adds
+ * a "region" auth parameter to @httpApiKeyAuth when "__httpAuthSchemeParameter" is
+ * set in the provided settings object.
+ */
+public final class HttpAuthSchemeParameterIntegration implements HttpAuthTypeScriptIntegration {
+
+    @Override
+    public List<String> runAfter() {
+        return List.of(new SupportHttpApiKeyAuth().name());
+    }
+
+    @Override
+    public void customizeSupportedHttpAuthSchemes(
+        SupportedHttpAuthSchemesIndex supportedHttpAuthSchemesIndex,
+        Model model,
+        TypeScriptSettings settings
+    ) {
+        HttpAuthScheme authScheme = supportedHttpAuthSchemesIndex.getHttpAuthScheme(HttpApiKeyAuthTrait.ID);
+        if (authScheme == null
+            || !settings.getPluginSettings().getBooleanMemberOrDefault("__httpAuthSchemeParameter", false)) {
+            return;
+        }
+        supportedHttpAuthSchemesIndex.putHttpAuthScheme(
+            HttpApiKeyAuthTrait.ID,
+            authScheme.toBuilder()
+                .addHttpAuthSchemeParameter(
+                    HttpAuthSchemeParameter.builder()
+                        .name("region")
+                        .type(w -> w.write("string"))
+                        .source(w -> w.write("config.region"))
+                        .build()
+                )
+                .build()
+        );
+    }
+}
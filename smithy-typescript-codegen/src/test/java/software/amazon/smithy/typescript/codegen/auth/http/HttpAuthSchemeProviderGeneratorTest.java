@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.auth.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.typescript.codegen.TypeScriptClientCodegenPlugin;
+import software.amazon.smithy.typescript.codegen.auth.AuthUtils;
+
+public class HttpAuthSchemeProviderGeneratorTest {
+
+    @Test
+    public void createsAuthOptionsOnEveryRequestByDefault() {
+        String provider = generate(Node.objectNode());
+
+        assertThat(provider, containsString("const options: HttpAuthOption[] = [];"));
+        assertThat(provider, not(containsString("freezeHttpAuthOptions")));
+        assertThat(provider, not(containsString("httpAuthOptionsCache")));
+    }
+
+    @Test
+    public void sharesAuthOptionsThatDoNotDependOnAuthParameters() {
+        String provider = generate(Node.objectNode().withMember("memoizeHttpAuthOptions", Node.from(true)));
+
+        assertThat(provider, containsString("""
+                                            const httpAuthOptionsByOperation: Record<string, HttpAuthOption[]> = {
+                                              "GetBar": freezeHttpAuthOptions("""));
+        assertThat(provider, containsString("const defaultHttpAuthOptions = freezeHttpAuthOptions("));
+        assertThat(provider, containsString("return httpAuthOptionsByOperation[\"GetBar\"];"));
+        assertThat(provider, containsString("return defaultHttpAuthOptions;"));
+        assertThat(provider, not(containsString("httpAuthOptionsCache")));
+    }
+
+    @Test
+    public void memoizesAuthOptionsByOperationAndAuthParameters() {
+        String provider = generate(
+            Node.objectNode()
+                .withMember("memoizeHttpAuthOptions", Node.from(true))
+                .withMember("__httpAuthSchemeParameter", Node.from(true))
+        );
+
+        assertThat(provider, containsString("return httpAuthOptionsByOperation[\"GetBar\"];"));
+        assertThat(
+            provider,
+            containsString("return memoizeHttpAuthOptions([\"\", authParameters.region], authParameters);")
+        );
+        assertThat(provider, not(containsString("defaultHttpAuthOptions")));
+        // keys distinguish the types of parameter values, e.g. undefined and "undefined".
+        assertThat(provider, containsString("JSON.stringify(keyValues.map((value) => [typeof value, value]))"));
+        // the least recently used options are evicted.
+        assertThat(
+            provider,
+            containsString(
+                "  } else {\n    httpAuthOptionsCache.delete(key);\n  }\n  httpAuthOptionsCache.set(key, options);"
+            )
+        );
+        assertThat(
+            provider,
+            containsString("httpAuthOptionsCache.delete(httpAuthOptionsCache.keys().next().value!);")
+        );
+    }
+
+    private String generate(ObjectNode settings) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("memoized-auth-options.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                settings.toBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptClientCodegenPlugin().execute(context);
+
+        return manifest.getFileString(AuthUtils.HTTP_AUTH_SCHEME_PROVIDER_PATH).get();
+    }
+}
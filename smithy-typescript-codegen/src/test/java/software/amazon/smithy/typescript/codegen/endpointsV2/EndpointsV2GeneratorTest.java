@@ -188,6 +188,24 @@ public class EndpointsV2GeneratorTest {
         );
     }
 
+    @Test
+    public void exposesEndpointCacheStats() {
+        MockManifest manifest = testEndpoints("endpoints.smithy");
+
+        String resolver = manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/endpoint/endpointResolver.ts").get();
+
+        assertThat(resolver, containsString("const cache = new EndpointCache({"));
+        assertThat(
+            resolver,
+            containsString("export const getEndpointCacheStats = (): EndpointCacheStats => cache.stats();")
+        );
+        // users of the generated client read the stats through the package index.
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/index.ts").get(),
+            containsString("export { getEndpointCacheStats } from \"./endpoint/endpointResolver\";")
+        );
+    }
+
     private MockManifest testEndpoints(String filename) {
         MockManifest manifest = new MockManifest();
         PluginContext context = PluginContext.builder()
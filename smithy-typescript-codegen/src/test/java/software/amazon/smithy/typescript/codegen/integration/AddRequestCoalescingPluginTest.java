@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.integration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.typescript.codegen.CodegenUtils;
+import software.amazon.smithy.typescript.codegen.TypeScriptClientCodegenPlugin;
+
+public class AddRequestCoalescingPluginTest {
+
+    @Test
+    public void addsRequestCoalescingToReadonlyOperations() {
+        MockManifest manifest = generate(true);
+
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/ExampleClient.ts").get(),
+            containsString("= resolveRequestCoalescingConfig(")
+        );
+        String getFooCommand = manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/commands/GetFooCommand.ts").get();
+        assertThat(getFooCommand, containsString("getRequestCoalescingPlugin(config, {"));
+        // the plugin decides per request whether it can be coalesced.
+        assertThat(getFooCommand, containsString("command: this,"));
+        assertThat(getFooCommand, containsString("options: o,"));
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/commands/GetFooStreamCommand.ts").get(),
+            not(containsString("getRequestCoalescingPlugin"))
+        );
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/commands/PutFooCommand.ts").get(),
+            not(containsString("getRequestCoalescingPlugin"))
+        );
+    }
+
+    @Test
+    public void omitsRequestCoalescingByDefault() {
+        MockManifest manifest = generate(false);
+
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/ExampleClient.ts").get(),
+            not(containsString("resolveRequestCoalescingConfig"))
+        );
+        assertThat(
+            manifest.getFileString(CodegenUtils.SOURCE_FOLDER + "/commands/GetFooCommand.ts").get(),
+            not(containsString("getRequestCoalescingPlugin"))
+        );
+    }
+
+    private MockManifest generate(boolean generateRequestCoalescing) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("request-coalescing.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                Node.objectNodeBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .withMember("generateRequestCoalescing", Node.from(generateRequestCoalescing))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptClientCodegenPlugin().execute(context);
+
+        return manifest;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.schema.SchemaGenerationAllowlist;
+
+public class PruneUnreachableShapesTest {
+
+    private static final Model MODEL = Model.assembler()
+        .addImport(
+            PruneUnreachableShapesTest.class.getResource(
+                "/software/amazon/smithy/typescript/codegen/knowledge/serde-modules.smithy"
+            )
+        )
+        .assemble()
+        .unwrap();
+
+    @Test
+    public void doesNothingUnlessEnabled() {
+        TypeScriptSettings settings = createSettings();
+        settings.setRetainedOperations(List.of("GetFoo"));
+
+        assertSame(MODEL, new PruneUnreachableShapes().preprocessModel(MODEL, settings));
+    }
+
+    @Test
+    public void removesShapesUnreachableFromRetainedOperations() {
+        TypeScriptSettings settings = createSettings();
+        settings.setPruneUnreachableShapes(true);
+        settings.setRetainedOperations(List.of("GetFoo"));
+
+        Model pruned = new PruneUnreachableShapes().preprocessModel(MODEL, settings);
+
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#GetFoo")).isPresent());
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#Foo")).isPresent());
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#GetOnly")).isPresent());
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#ServiceError")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#PutFoo")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#DeleteFoo")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#NotFound")).isPresent());
+    }
+
+    @Test
+    public void removesStructuresOnlyUsedByRemovedOperations() {
+        TypeScriptSettings settings = createSettings();
+        settings.setPruneUnreachableShapes(true);
+        settings.setRetainedOperations(List.of("DeleteFoo"));
+
+        Model pruned = new PruneUnreachableShapes().preprocessModel(MODEL, settings);
+
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#Foo")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#TagList")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#Tag")).isPresent());
+        assertFalse(pruned.getShape(ShapeId.from("foo.bar#GetOnly")).isPresent());
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#NotFound")).isPresent());
+        // service errors are reachable from every operation.
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#ErrorDetail")).isPresent());
+    }
+
+    @Test
+    public void retainsAllOperationsByDefault() {
+        TypeScriptSettings settings = createSettings();
+        settings.setPruneUnreachableShapes(true);
+
+        Model pruned = new PruneUnreachableShapes().preprocessModel(MODEL, settings);
+
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#PutFoo")).isPresent());
+        assertTrue(pruned.getShape(ShapeId.from("foo.bar#NotFound")).isPresent());
+    }
+
+    @Test
+    public void keepsReachableStructuresInSchemaMode() {
+        TypeScriptSettings settings = createSettings();
+        settings.setPruneUnreachableShapes(true);
+        settings.setRetainedOperations(List.of("GetFoo"));
+        settings.setGenerateSchemas(false);
+        Model prunedWithoutSchemas = new PruneUnreachableShapes().preprocessModel(MODEL, settings);
+
+        settings.setGenerateSchemas(true);
+        settings.setSchemaGenerationAllowlist(
+            SchemaGenerationAllowlist.of(Set.of(ShapeId.from("foo.bar#Example")), Set.of())
+        );
+        assertTrue(SchemaGenerationAllowlist.allows(ShapeId.from("foo.bar#Example"), settings));
+        Model prunedWithSchemas = new PruneUnreachableShapes().preprocessModel(MODEL, settings);
+
+        // every reachable structure still has a type and a schema.
+        assertTrue(prunedWithSchemas.getShape(ShapeId.from("foo.bar#Tag")).isPresent());
+        assertTrue(prunedWithSchemas.getShape(ShapeId.from("foo.bar#ErrorDetail")).isPresent());
+        assertFalse(prunedWithSchemas.getShape(ShapeId.from("foo.bar#NotFound")).isPresent());
+        assertEquals(getShapeIds(prunedWithoutSchemas), getShapeIds(prunedWithSchemas));
+    }
+
+    private static Set<ShapeId> getShapeIds(Model model) {
+        return model.shapes().map(Shape::getId).collect(Collectors.toSet());
+    }
+
+    private static TypeScriptSettings createSettings() {
+        TypeScriptSettings settings = new TypeScriptSettings();
+        settings.setService(ShapeId.from("foo.bar#Example"));
+        return settings;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class SerdeModuleIndexTest {
+
+    private static Model model;
+    private static SerdeModuleIndex index;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+            .addImport(SerdeModuleIndexTest.class.getResource("serde-modules.smithy"))
+            .assemble()
+            .unwrap();
+        index = SerdeModuleIndex.of(
+            model,
+            model.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class)
+        );
+    }
+
+    @AfterAll
+    public static void after() {
+        model = null;
+        index = null;
+    }
+
+    @Test
+    public void sharesShapesReachableFromSeveralOperations() {
+        assertTrue(index.isShared(ShapeId.from("foo.bar#Foo")));
+        assertTrue(index.isShared(ShapeId.from("foo.bar#TagList")));
+        assertTrue(index.isShared(ShapeId.from("foo.bar#Tag")));
+    }
+
+    @Test
+    public void sharesServiceErrors() {
+        assertTrue(index.isShared(ShapeId.from("foo.bar#ServiceError")));
+        assertTrue(index.isShared(ShapeId.from("foo.bar#ErrorDetail")));
+    }
+
+    @Test
+    public void keepsSingleOperationShapesInOperationModule() {
+        assertFalse(index.isShared(ShapeId.from("foo.bar#GetOnly")));
+        assertFalse(index.isShared(ShapeId.from("foo.bar#NotFound")));
+
+        assertThat(
+            index.getOperationShapes(ShapeId.from("foo.bar#GetFoo")),
+            containsInAnyOrder(
+                ShapeId.from("foo.bar#GetFooInput"),
+                ShapeId.from("foo.bar#GetFooOutput"),
+                ShapeId.from("foo.bar#GetOnly")
+            )
+        );
+        assertThat(
+            index.getOperationShapes(ShapeId.from("foo.bar#DeleteFoo")),
+            hasItem(ShapeId.from("foo.bar#NotFound"))
+        );
+        assertThat(
+            index.getOperationShapes(ShapeId.from("foo.bar#PutFoo")),
+            not(hasItem(ShapeId.from("foo.bar#Foo")))
+        );
+    }
+
+    @Test
+    public void indexesEachServiceOfTheModelSeparately() {
+        ServiceShape other = ServiceShape.builder()
+            .id("foo.bar#Other")
+            .addOperation(ShapeId.from("foo.bar#PutFoo"))
+            .addOperation(ShapeId.from("foo.bar#DeleteFoo"))
+            .build();
+        Model withOther = model.toBuilder().addShape(other).build();
+        ServiceShape example = withOther.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class);
+
+        SerdeModuleIndex exampleIndex = SerdeModuleIndex.of(withOther, example);
+        SerdeModuleIndex otherIndex = SerdeModuleIndex.of(withOther, other);
+
+        assertNotSame(exampleIndex, otherIndex);
+        assertTrue(exampleIndex.isShared(ShapeId.from("foo.bar#Foo")));
+        assertFalse(otherIndex.isShared(ShapeId.from("foo.bar#Foo")));
+        assertThat(otherIndex.getOperationShapes(ShapeId.from("foo.bar#PutFoo")), hasItem(ShapeId.from("foo.bar#Foo")));
+        assertTrue(otherIndex.getOperationShapes(ShapeId.from("foo.bar#GetFoo")).isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SetUtils;
+
+public class ShapeClusterIndexTest {
+
+    private static Model model;
+    private static ShapeClusterIndex index;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+            .addImport(ShapeClusterIndexTest.class.getResource("serde-modules.smithy"))
+            .assemble()
+            .unwrap();
+        index = ShapeClusterIndex.of(
+            model,
+            model.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class)
+        );
+    }
+
+    @AfterAll
+    public static void after() {
+        model = null;
+        index = null;
+    }
+
+    @Test
+    public void clustersShapesOfSingleOperationsInOperationOrder() {
+        assertThat(
+            index.getOperationClusters(),
+            contains(
+                SetUtils.of(ShapeId.from("foo.bar#DeleteFooInput"), ShapeId.from("foo.bar#NotFound")),
+                SetUtils.of(
+                    ShapeId.from("foo.bar#GetFooInput"),
+                    ShapeId.from("foo.bar#GetFooOutput"),
+                    ShapeId.from("foo.bar#GetOnly")
+                ),
+                SetUtils.of(ShapeId.from("foo.bar#PutFooInput"))
+            )
+        );
+    }
+
+    @Test
+    public void groupsSharedShapesByTheirOperations() {
+        assertThat(
+            index.getSharedClusters(),
+            hasItem(
+                SetUtils.of(ShapeId.from("foo.bar#Foo"), ShapeId.from("foo.bar#TagList"), ShapeId.from("foo.bar#Tag"))
+            )
+        );
+    }
+
+    @Test
+    public void sharesServiceErrorClosure() {
+        assertThat(
+            index.getSharedClusters(),
+            hasItem(SetUtils.of(ShapeId.from("foo.bar#ServiceError"), ShapeId.from("foo.bar#ErrorDetail")))
+        );
+    }
+
+    @Test
+    public void clustersEachServiceOfTheModelSeparately() {
+        ServiceShape other = ServiceShape.builder()
+            .id("foo.bar#Other")
+            .addOperation(ShapeId.from("foo.bar#PutFoo"))
+            .addOperation(ShapeId.from("foo.bar#DeleteFoo"))
+            .build();
+        Model withOther = model.toBuilder().addShape(other).build();
+        ServiceShape example = withOther.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class);
+
+        ShapeClusterIndex exampleIndex = ShapeClusterIndex.of(withOther, example);
+        ShapeClusterIndex otherIndex = ShapeClusterIndex.of(withOther, other);
+
+        assertThat(
+            exampleIndex.getSharedClusters(),
+            hasItem(
+                SetUtils.of(ShapeId.from("foo.bar#Foo"), ShapeId.from("foo.bar#TagList"), ShapeId.from("foo.bar#Tag"))
+            )
+        );
+        assertThat(
+            otherIndex.getOperationClusters(),
+            hasItem(
+                SetUtils.of(
+                    ShapeId.from("foo.bar#PutFooInput"),
+                    ShapeId.from("foo.bar#Foo"),
+                    ShapeId.from("foo.bar#TagList"),
+                    ShapeId.from("foo.bar#Tag")
+                )
+            )
+        );
+    }
+}
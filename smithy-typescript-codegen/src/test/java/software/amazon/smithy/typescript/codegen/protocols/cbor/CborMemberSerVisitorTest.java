@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.BlobShape;
+import software.amazon.smithy.model.shapes.DocumentShape;
 import software.amazon.smithy.model.shapes.DoubleShape;
 import software.amazon.smithy.model.shapes.FloatShape;
 import software.amazon.smithy.model.shapes.TimestampShape;
@@ -56,6 +57,12 @@ class CborMemberSerVisitorTest {
         assertEquals("data", subject.doubleShape(doubleShape));
     }
 
+    @Test
+    void documentShape(@Mock DocumentShape documentShape) {
+        // documents are passed through by reference in cbor.
+        assertEquals("data", subject.documentShape(documentShape));
+    }
+
     @Test
     void timestampShape(@Mock TimestampShape timestampShape) {
         assertEquals("__dateToTag(data)", subject.timestampShape(timestampShape));
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.protocols.cbor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.typescript.codegen.PackageJsonGenerator;
+import software.amazon.smithy.typescript.codegen.TypeScriptClientCodegenPlugin;
+
+public class CborSerdeBenchmarkGeneratorTest {
+
+    private static final String BENCHMARK_FILE = "test/benchmark/rpcv2cbor.serde.bench.ts";
+
+    @Test
+    public void doesNotGenerateBenchmarksByDefault() {
+        MockManifest manifest = generate(Node.objectNode());
+
+        assertFalse(manifest.hasFile(BENCHMARK_FILE));
+        assertThat(
+            manifest.getFileString(PackageJsonGenerator.PACKAGE_JSON_FILENAME).get(),
+            not(containsString("bench:serde"))
+        );
+    }
+
+    @Test
+    public void benchmarksTheProtocolTestBodiesWithSchemas() {
+        MockManifest manifest = generate(Node.objectNode().withMember("generateSerdeBenchmarks", Node.from(true)));
+        String benchmark = manifest.getFileString(BENCHMARK_FILE).get();
+
+        assertThat(benchmark, containsString("benchRequest(\"GetFooRequest:Request\", \"oWJpZGNmb28=\", (input) =>"));
+        assertThat(benchmark, containsString("protocol.serializeRequest("));
+        assertThat(
+            benchmark,
+            containsString("benchResponse(\"GetFooResponse:Response\", \"oWNmb29jYmFy\", (response) =>")
+        );
+        assertThat(benchmark, containsString("protocol.deserializeResponse("));
+        // test cases without a CBOR body have nothing to benchmark.
+        assertThat(benchmark, not(containsString("GetFooEmptyRequest")));
+        assertThat(
+            manifest.getFileString(PackageJsonGenerator.PACKAGE_JSON_FILENAME).get(),
+            containsString("\"bench:serde\"")
+        );
+    }
+
+    @Test
+    public void benchmarksTheProtocolTestBodiesWithSerdeFunctions() {
+        MockManifest manifest = generate(
+            Node.objectNode()
+                .withMember("generateSerdeBenchmarks", Node.from(true))
+                .withMember("generateSchemas", Node.from(false))
+        );
+        String benchmark = manifest.getFileString(BENCHMARK_FILE).get();
+
+        assertThat(
+            benchmark,
+            containsString(
+                "benchRequest(\"GetFooRequest:Request\", \"oWJpZGNmb28=\", (input) => "
+                    + "se_GetFooCommand(input, context));"
+            )
+        );
+        assertThat(
+            benchmark,
+            containsString(
+                "benchResponse(\"GetFooResponse:Response\", \"oWNmb29jYmFy\", (response) => "
+                    + "de_GetFooCommand(response, context));"
+            )
+        );
+        assertThat(benchmark, not(containsString("protocol.serializeRequest(")));
+    }
+
+    @Test
+    public void comparesCborWithJsonAtTheCodecLevel() {
+        MockManifest manifest = generate(Node.objectNode().withMember("generateSerdeBenchmarks", Node.from(true)));
+        String benchmark = manifest.getFileString(BENCHMARK_FILE).get();
+
+        assertThat(benchmark, containsString("bench(\"cbor serde\""));
+        assertThat(benchmark, containsString("bench(\"cbor codec\""));
+        assertThat(benchmark, containsString("bench(\"json codec\""));
+        assertThat(benchmark, containsString("cborCodec: () => cbor.serialize(payload.cborDocument),"));
+        assertThat(benchmark, containsString("cborCodec: () => cbor.deserialize(payload.cborBody),"));
+    }
+
+    private MockManifest generate(ObjectNode settings) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("serde-benchmarks.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                settings.toBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptClientCodegenPlugin().execute(context);
+
+        return manifest;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.protocols.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeElisionIndex;
+
+public class CborSerdeElisionIndexTest {
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+            .addImport(
+                CborSerdeElisionIndexTest.class.getResource(
+                    "/software/amazon/smithy/typescript/codegen/knowledge/serde-elision.smithy"
+                )
+            )
+            .assemble()
+            .unwrap();
+    }
+
+    @AfterAll
+    public static void after() {
+        model = null;
+    }
+
+    @Test
+    public void mayElideNativeCborTypes() {
+        CborSerdeElisionIndex index = CborSerdeElisionIndex.of(model);
+
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#SimpleStruct")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#Blob")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#Double")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#Float")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#BlobList")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#BlobStructure")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#BlobUnion")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#BlobMap")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#DoubleStructure")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#FloatMap")).get()));
+    }
+
+    @Test
+    public void cannotElideTaggedOrConvertedTypes() {
+        CborSerdeElisionIndex index = CborSerdeElisionIndex.of(model);
+
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#Timestamp")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#TimestampList")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#TimestampStructure")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#BigDecimal")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#BigDecimalMap")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#BigInteger")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#Document")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#DocumentUnion")).get()));
+    }
+
+    @Test
+    public void ignoresJsonNameButKeepsOtherMutatingTraits() {
+        CborSerdeElisionIndex index = CborSerdeElisionIndex.of(model);
+
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#NestedJsonName")).get()));
+        assertTrue(index.mayElide(model.getShape(ShapeId.from("foo.bar#JsonNameStructure")).get()));
+
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#EventStreamUnion")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#NestedMediaType")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#SparseList")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#SparseMap")).get()));
+        assertFalse(index.mayElide(model.getShape(ShapeId.from("foo.bar#IdempotencyTokenStructure")).get()));
+    }
+
+    @Test
+    public void isIndependentOfDefaultIndex() {
+        assertFalse(SerdeElisionIndex.of(model).mayElide(model.getShape(ShapeId.from("foo.bar#Blob")).get()));
+        assertTrue(CborSerdeElisionIndex.of(model).mayElide(model.getShape(ShapeId.from("foo.bar#Blob")).get()));
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -79,6 +80,13 @@ class CborShapeSerVisitorTest {
         );
     }
 
+    @Test
+    void documentShape(@Mock DocumentShape documentShape) {
+        // documents are passed through by reference by the member visitor.
+        subject.documentShape(documentShape);
+        verifyNoInteractions(writer);
+    }
+
     @Test
     void serializeMap(@Mock MapShape mapShape, @Mock MemberShape valueShape, @Mock ShapeId shapeId) {
         when(mapShape.getValue()).thenReturn(valueShape);
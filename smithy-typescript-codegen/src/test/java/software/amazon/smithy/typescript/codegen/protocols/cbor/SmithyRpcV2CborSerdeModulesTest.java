@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.protocols.cbor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.typescript.codegen.SymbolVisitor;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.typescript.codegen.TypeScriptWriter;
+import software.amazon.smithy.typescript.codegen.integration.ProtocolGenerator;
+import software.amazon.smithy.typescript.codegen.integration.SerdeModuleScope;
+import software.amazon.smithy.typescript.codegen.knowledge.SerdeModuleIndex;
+
+public class SmithyRpcV2CborSerdeModulesTest {
+
+    private static final String MODEL = """
+        $version: "2.0"
+
+        namespace foo.bar
+
+        use smithy.protocols#rpcv2Cbor
+
+        @rpcv2Cbor
+        service Example {
+            version: "2024-01-01"
+            operations: [GetFoo, PutFoo]
+            errors: [ServiceError]
+        }
+
+        operation GetFoo {
+            input := {
+                id: String
+            }
+            output := {
+                foo: Foo
+                getOnly: GetOnly
+            }
+        }
+
+        operation PutFoo {
+            input := {
+                foo: Foo
+            }
+        }
+
+        structure Foo {
+            tags: TagList
+        }
+
+        list TagList {
+            member: Tag
+        }
+
+        structure Tag {
+            created: Timestamp
+        }
+
+        structure GetOnly {
+            updated: Timestamp
+        }
+
+        @error("server")
+        structure ServiceError {
+            detail: ErrorDetail
+        }
+
+        structure ErrorDetail {
+            time: Timestamp
+        }
+        """;
+
+    private static final Map<String, String> modules = new TreeMap<>();
+
+    @BeforeAll
+    public static void before() {
+        Model assembled = Model.assembler()
+            .addUnparsedModel("serde-modules.smithy", MODEL)
+            .discoverModels()
+            .assemble()
+            .unwrap();
+        // Service errors are dispatched by each operation's error deserializer once they are
+        // copied to the operations, as protocol code generators downstream do.
+        Model model = ModelTransformer.create()
+            .copyServiceErrorsToOperations(
+                assembled,
+                assembled.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class)
+            );
+        ServiceShape service = model.expectShape(ShapeId.from("foo.bar#Example"), ServiceShape.class);
+        TypeScriptSettings settings = TypeScriptSettings.from(
+            model,
+            Node.objectNodeBuilder()
+                .withMember("service", Node.from("foo.bar#Example"))
+                .withMember("package", Node.from("example"))
+                .withMember("packageVersion", Node.from("1.0.0"))
+                .withMember("splitProtocolSerde", Node.from(true))
+                .build(),
+            TypeScriptSettings.ArtifactType.CLIENT
+        );
+        SymbolProvider symbolProvider = new SymbolVisitor(model, settings);
+        SmithyRpcV2Cbor protocolGenerator = new SmithyRpcV2Cbor();
+        SerdeModuleScope sharedScope = new SerdeModuleScope(
+            SerdeModuleIndex.of(model, service),
+            protocolGenerator.getName()
+        );
+
+        // Mirrors the module order of DirectedTypeScriptCodegen: operation modules first,
+        // then the shared module with the functions they imported.
+        for (OperationShape operation : new TreeSet<>(TopDownIndex.of(model).getContainedOperations(service))) {
+            SerdeModuleScope scope = sharedScope.forOperation(operation);
+            ProtocolGenerator.GenerationContext context = createContext(model, service, settings, symbolProvider);
+            context.setWriter(new TypeScriptWriter(scope.getModulePath(symbolProvider) + ".ts"));
+            context.setSerdeModuleScope(scope);
+            protocolGenerator.generateRequestSerializers(context);
+            protocolGenerator.generateResponseDeserializers(context);
+            protocolGenerator.generateSharedComponents(context);
+            modules.put(operation.getId().getName(), context.getWriter().toString());
+        }
+        ProtocolGenerator.GenerationContext context = createContext(model, service, settings, symbolProvider);
+        context.setWriter(new TypeScriptWriter(sharedScope.getModulePath(symbolProvider) + ".ts"));
+        context.setSerdeModuleScope(sharedScope);
+        protocolGenerator.generateSharedSerdeModule(context);
+        modules.put(SerdeModuleScope.SHARED_MODULE_NAME, context.getWriter().toString());
+    }
+
+    private static ProtocolGenerator.GenerationContext createContext(
+        Model model,
+        ServiceShape service,
+        TypeScriptSettings settings,
+        SymbolProvider symbolProvider
+    ) {
+        ProtocolGenerator.GenerationContext context = new ProtocolGenerator.GenerationContext();
+        context.setProtocolName(new SmithyRpcV2Cbor().getName());
+        context.setModel(model);
+        context.setService(service);
+        context.setSettings(settings);
+        context.setSymbolProvider(symbolProvider);
+        return context;
+    }
+
+    @Test
+    public void definesSingleOperationSerdeInTheOperationModule() {
+        String getFoo = modules.get("GetFoo");
+
+        assertThat(getFoo, containsString("export const se_GetFooCommand = async ("));
+        assertThat(getFoo, containsString("export const de_GetFooCommand = async ("));
+        assertThat(getFoo, containsString("const de_GetOnly = ("));
+        assertThat(modules.get("PutFoo"), not(containsString("de_GetOnly")));
+        assertThat(modules.get(SerdeModuleScope.SHARED_MODULE_NAME), not(containsString("de_GetOnly")));
+    }
+
+    @Test
+    public void importsSharedShapeSerdeFromTheSharedModule() {
+        assertThat(modules.get("GetFoo"), not(containsString("const de_Foo = (")));
+        assertThat(modules.get("PutFoo"), not(containsString("const se_Foo = (")));
+        assertThat(modules.get("GetFoo"), containsString("from \"./shared\";"));
+        assertThat(modules.get("PutFoo"), containsString("from \"./shared\";"));
+
+        String shared = modules.get(SerdeModuleScope.SHARED_MODULE_NAME);
+        assertThat(shared, containsString("export const de_Foo = ("));
+        assertThat(shared, containsString("export const se_Foo = ("));
+        assertThat(shared, containsString("export const de_Tag = ("));
+    }
+
+    @Test
+    public void writesServiceErrorDeserializersOnceInTheSharedModule() {
+        for (String operation : new String[] {"GetFoo", "PutFoo"}) {
+            String module = modules.get(operation);
+            assertThat(module, containsString("de_ServiceErrorRes(parsedOutput, context)"));
+            assertThat(module, not(containsString("const de_ServiceErrorRes = async (")));
+            assertThat(module, not(containsString("const de_ErrorDetail = (")));
+        }
+
+        String shared = modules.get(SerdeModuleScope.SHARED_MODULE_NAME);
+        assertThat(shared, containsString("export const de_ServiceErrorRes = async ("));
+        assertThat(shared, containsString("export const de_ErrorDetail = ("));
+    }
+
+    @Test
+    public void writesProtocolHelpersOnceInTheSharedModule() {
+        for (String operation : new String[] {"GetFoo", "PutFoo"}) {
+            String module = modules.get(operation);
+            assertThat(module, not(containsString("const deserializeMetadata = ")));
+            assertThat(module, not(containsString("const throwDefaultError = ")));
+            assertThat(module, not(containsString("const SHARED_HEADERS: __HeaderBag = {")));
+            assertThat(module, containsString("SHARED_HEADERS"));
+        }
+
+        String shared = modules.get(SerdeModuleScope.SHARED_MODULE_NAME);
+        assertThat(shared, containsString("const deserializeMetadata = "));
+        assertThat(shared, containsString("const throwDefaultError = "));
+        assertThat(shared, containsString("const SHARED_HEADERS: __HeaderBag = {"));
+        assertThat(shared, containsString("export { deserializeMetadata, throwDefaultError, SHARED_HEADERS };"));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.protocol.traits.Rpcv2CborTrait;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.utils.SetUtils;
+
+class SchemaGenerationAllowlistTest {
+
+    private static final ShapeId SERVICE = ShapeId.from("com.example#Service");
+    private static final ShapeId OTHER_SERVICE = ShapeId.from("com.example#OtherService");
+    private static final ShapeId PROTOCOL = ShapeId.from("com.example#protocol");
+
+    @Test
+    void includesServicesAndProtocols() {
+        SchemaGenerationAllowlist allowlist = SchemaGenerationAllowlist.of(SetUtils.of(SERVICE), SetUtils.of());
+
+        assertTrue(allowlist.includes(SERVICE, null));
+        assertFalse(allowlist.includes(OTHER_SERVICE, null));
+        assertFalse(allowlist.includes(OTHER_SERVICE, PROTOCOL));
+        assertTrue(allowlist.withProtocol(PROTOCOL).includes(OTHER_SERVICE, PROTOCOL));
+        assertTrue(allowlist.withService(OTHER_SERVICE).includes(OTHER_SERVICE, null));
+    }
+
+    @Test
+    void isImmutable() {
+        SchemaGenerationAllowlist allowlist = SchemaGenerationAllowlist.of(SetUtils.of(), SetUtils.of());
+
+        allowlist.withService(SERVICE);
+        allowlist.withProtocol(PROTOCOL);
+
+        assertFalse(allowlist.includes(SERVICE, PROTOCOL));
+    }
+
+    @Test
+    void defaultAllowlistIncludesRpcV2Cbor() {
+        assertTrue(SchemaGenerationAllowlist.getDefault().includes(SERVICE, Rpcv2CborTrait.ID));
+    }
+
+    @Test
+    void settingsAreScopedToTheirAllowlist() {
+        TypeScriptSettings schemaSettings = new TypeScriptSettings();
+        schemaSettings.setService(SERVICE);
+        schemaSettings.setSchemaGenerationAllowlist(
+            SchemaGenerationAllowlist.of(SetUtils.of(SERVICE), SetUtils.of())
+        );
+        TypeScriptSettings otherSettings = new TypeScriptSettings();
+        otherSettings.setService(SERVICE);
+        otherSettings.setSchemaGenerationAllowlist(SchemaGenerationAllowlist.of(SetUtils.of(), SetUtils.of()));
+
+        assertTrue(SchemaGenerationAllowlist.allows(SERVICE, schemaSettings));
+        assertFalse(SchemaGenerationAllowlist.allows(SERVICE, otherSettings));
+    }
+}
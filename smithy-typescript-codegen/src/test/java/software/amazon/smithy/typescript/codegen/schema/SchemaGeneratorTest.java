@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.schema;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.typescript.codegen.CodegenUtils;
+import software.amazon.smithy.typescript.codegen.SymbolVisitor;
+import software.amazon.smithy.typescript.codegen.TypeScriptSettings;
+import software.amazon.smithy.utils.SetUtils;
+
+public class SchemaGeneratorTest {
+
+    private static final Model MODEL = Model.assembler()
+        .addUnparsedModel(
+            "test.smithy",
+            """
+            $version: "2"
+            namespace smithy.example
+
+            service Example {
+                version: "1.0.0"
+                operations: [GetFoo]
+            }
+
+            operation GetFoo {
+                input := {
+                    @required
+                    alpha: String
+                    bravo: Integer
+                    charlie: String
+                }
+            }
+            """
+        )
+        .assemble()
+        .unwrap();
+
+    @Test
+    public void writesMemberIndexTableForWideStructures() {
+        String schemas = generateSchemas(3);
+
+        assertThat(schemas, matchesPattern("(?s).*],\\s*\\{ \\[_\\w+]: 0, \\[_\\w+]: 1, \\[_\\w+]: 2 }.*"));
+    }
+
+    @Test
+    public void omitsMemberIndexTableBelowThreshold() {
+        assertThat(generateSchemas(4), not(containsString("]: 0, [")));
+        assertThat(generateSchemas(-1), not(containsString("]: 0, [")));
+    }
+
+    private static String generateSchemas(int memberIndexThreshold) {
+        TypeScriptSettings settings = TypeScriptSettings.from(
+            MODEL,
+            Node.objectNodeBuilder()
+                .withMember("service", Node.from("smithy.example#Example"))
+                .withMember("package", Node.from("example"))
+                .withMember("packageVersion", Node.from("1.0.0"))
+                .withMember("schemaMemberIndexThreshold", Node.from(memberIndexThreshold))
+                .build()
+        );
+        settings.setSchemaGenerationAllowlist(
+            SchemaGenerationAllowlist.of(SetUtils.of(ShapeId.from("smithy.example#Example")), SetUtils.of())
+        );
+        MockManifest manifest = new MockManifest();
+
+        new SchemaGenerator(MODEL, manifest, settings, new SymbolVisitor(MODEL, settings)).run();
+
+        return manifest
+            .getFileString(Paths.get(CodegenUtils.SOURCE_FOLDER, SchemaGenerator.SCHEMAS_FOLDER, "schemas_0.ts"))
+            .get();
+    }
+}
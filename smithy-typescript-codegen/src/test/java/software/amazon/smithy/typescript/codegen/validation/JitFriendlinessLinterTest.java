@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.typescript.codegen.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.typescript.codegen.validation.JitFriendlinessLinter.Rule;
+
+class JitFriendlinessLinterTest {
+
+    @Test
+    void countsOccurrencesOfEachRule() {
+        JitFriendlinessLinter linter = new JitFriendlinessLinter();
+        linter.lint(
+            "src/protocols/Aws_json1_1.ts",
+            """
+            const de_Union = (output: any, context: __SerdeContext): Union => {
+              return { $unknown: Object.entries(output)[0] };
+            };
+            const se_Event = (input: any): any => {
+              delete input["payload"];
+              headers.delete("x");
+              return take(input, { a: [], b: [] });
+            };"""
+        );
+        linter.lint("src/waiters/waitForReady.ts", "let flat: any[] = [].concat(...result);");
+
+        assertEquals(1, linter.getOccurrences(Rule.UNKNOWN_UNION_ENTRIES));
+        assertEquals(1, linter.getOccurrences(Rule.DELETE_PROPERTY));
+        assertEquals(1, linter.getOccurrences(Rule.TAKE));
+        assertEquals(1, linter.getOccurrences(Rule.SPREAD_CONCAT));
+        assertEquals(4, linter.getTotalOccurrences());
+    }
+
+    @Test
+    void ignoresComments() {
+        JitFriendlinessLinter linter = new JitFriendlinessLinter();
+        linter.lint(
+            "src/models/models_0.ts",
+            """
+            /**
+             * Avoid delete input["x"], see take(input, ...).
+             */
+            // return Object.entries(output)[0];
+            export {};"""
+        );
+
+        assertEquals(0, linter.getTotalOccurrences());
+    }
+
+    @Test
+    void reportsOccurrencesByFile() {
+        JitFriendlinessLinter linter = new JitFriendlinessLinter();
+        linter.lint("src/a.ts", "delete a.b;\ndelete a.c;");
+
+        ObjectNode report = linter.toReport(ShapeId.from("smithy.example#Example"));
+
+        assertEquals("smithy.example#Example", report.expectStringMember("service").getValue());
+        assertEquals(2, report.expectNumberMember("occurrences").getValue().intValue());
+        assertEquals(
+            2,
+            report
+                .expectObjectMember("rules")
+                .expectObjectMember("delete-property")
+                .expectObjectMember("files")
+                .expectNumberMember("src/a.ts")
+                .getValue()
+                .intValue()
+        );
+    }
+}
@@ -53,6 +53,11 @@ class TestProtocolGenerator extends HttpBindingProtocolGenerator {
         return true;
     }
 
+    @Override
+    protected boolean supportsIncrementalBodyParsing() {
+        return true;
+    }
+
     @Override
     public void deserializeErrorDocumentBody(
         GenerationContext context,
@@ -137,6 +142,27 @@ class TestProtocolGenerator extends HttpBindingProtocolGenerator {
         );
         writer.write("");
 
+        // Include a JSON body parser that decodes large request bodies as their chunks arrive.
+        writer.openBlock(
+            "const parseBodyIncrementally = async (streamBody: any, context: __SerdeContext): Promise<any> => {",
+            "};",
+            () -> {
+                writer.write("const decoder = new TextDecoder();");
+                writer.write("let encoded = \"\";");
+                writer.openBlock("for await (const chunk of streamBody) {", "}", () -> {
+                    writer.write(
+                        "encoded += typeof chunk === \"string\" ? chunk : decoder.decode(chunk, { stream: true });"
+                    );
+                });
+                writer.write("encoded += decoder.decode();");
+                writer.openBlock("if (encoded.length) {", "}", () -> {
+                    writer.write("return JSON.parse(encoded);");
+                });
+                writer.write("return {};");
+            }
+        );
+        writer.write("");
+
         // Include a JSON body parser.
         writer.addImport("SerdeContext", "__SerdeContext", TypeScriptDependency.SMITHY_TYPES);
         writer.openBlock("const parseErrorBody = async (errorBody: any, context: __SerdeContext) => {", "}", () -> {
@@ -0,0 +1,100 @@
+package software.amazon.smithy.typescript.ssdk.codegen.test.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.typescript.codegen.TypeScriptServerCodegenPlugin;
+
+public class TestProtocolGeneratorTest {
+
+    private static final String PROTOCOL_FILE = "src/protocols/FakeProtocol.ts";
+
+    @Test
+    public void buffersRequestBodiesByDefault() {
+        MockManifest manifest = generate(Node.objectNode());
+        String protocol = manifest.getFileString(PROTOCOL_FILE).get();
+
+        assertThat(protocol, not(containsString("__exceedsBodyThreshold")));
+        assertThat(protocol, containsString("const data: any = await collectBody(output.body, context);"));
+        assertThat(
+            manifest.getFileString("src/server/operations/PutImage.ts").get(),
+            not(containsString("__StreamingBlobTypes"))
+        );
+    }
+
+    @Test
+    public void parsesRequestBodiesAboveTheThresholdIncrementally() {
+        String protocol = generate(Node.objectNode().withMember("requestBodyStreamingThreshold", Node.from(65536)))
+            .getFileString(PROTOCOL_FILE)
+            .get();
+
+        assertThat(protocol, containsString("const parseBodyIncrementally = async (streamBody: any"));
+        // document bodies
+        assertThat(
+            protocol,
+            containsString(
+                "const data: Record<string, any> = __expectNonNull((__expectObject("
+                    + "(__exceedsBodyThreshold(output, 65536) "
+                    + "? await parseBodyIncrementally(output.body, context) "
+                    + ": await parseBody(output.body, context)))), \"body\");"
+            )
+        );
+        // structure payloads
+        assertThat(
+            protocol,
+            containsString(
+                "const data: Record<string, any> | undefined = __expectObject("
+                    + "(__exceedsBodyThreshold(output, 65536) "
+                    + "? await parseBodyIncrementally(output.body, context) "
+                    + ": await parseBody(output.body, context)));"
+            )
+        );
+    }
+
+    @Test
+    public void exposesBlobRequestPayloadsAsStreams() {
+        MockManifest manifest = generate(Node.objectNode().withMember("requestBodyStreamingThreshold", Node.from(0)));
+
+        assertThat(
+            manifest.getFileString(PROTOCOL_FILE).get(),
+            not(containsString("const data: any = await collectBody(output.body, context);"))
+        );
+        assertThat(
+            manifest.getFileString("src/server/operations/PutImage.ts").get(),
+            containsString("image: __StreamingBlobTypes | undefined;")
+        );
+    }
+
+    private MockManifest generate(ObjectNode settings) {
+        MockManifest manifest = new MockManifest();
+        PluginContext context = PluginContext.builder()
+            .pluginClassLoader(getClass().getClassLoader())
+            .model(
+                Model.assembler()
+                    .addImport(getClass().getResource("request-body-streaming.smithy"))
+                    .discoverModels()
+                    .assemble()
+                    .unwrap()
+            )
+            .fileManifest(manifest)
+            .settings(
+                settings.toBuilder()
+                    .withMember("service", Node.from("smithy.example#Example"))
+                    .withMember("package", Node.from("example"))
+                    .withMember("packageVersion", Node.from("1.0.0"))
+                    .build()
+            )
+            .build();
+
+        new TypeScriptServerCodegenPlugin().execute(context);
+
+        return manifest;
+    }
+}
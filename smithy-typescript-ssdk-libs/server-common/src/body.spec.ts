@@ -0,0 +1,35 @@
+/*
+ *  Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *   http://aws.amazon.com/apache2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+import { HttpRequest } from "@smithy/protocol-http";
+
+import { exceedsBodyThreshold } from "./body";
+
+describe("exceedsBodyThreshold", () => {
+  const request = (headers: Record<string, string>) => new HttpRequest({ headers });
+
+  it("compares the content-length header to the threshold", () => {
+    expect(exceedsBodyThreshold(request({ "content-length": "1024" }), 1024)).toBe(false);
+    expect(exceedsBodyThreshold(request({ "content-length": "1025" }), 1024)).toBe(true);
+    expect(exceedsBodyThreshold(request({ "content-length": "0" }), 0)).toBe(false);
+  });
+  it("matches the content-length header case-insensitively", () => {
+    expect(exceedsBodyThreshold(request({ "Content-Length": "10" }), 1024)).toBe(false);
+  });
+  it("treats bodies of unknown size as large", () => {
+    expect(exceedsBodyThreshold(request({ "transfer-encoding": "chunked" }), 1024)).toBe(true);
+    expect(exceedsBodyThreshold(request({ "content-length": "abc" }), 1024)).toBe(true);
+  });
+});
@@ -0,0 +1,35 @@
+/*
+ *  Copyright 2021 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License").
+ *  You may not use this file except in compliance with the License.
+ *  A copy of the License is located at
+ *
+ *   http://aws.amazon.com/apache2.0
+ *
+ *  or in the "license" file accompanying this file. This file is distributed
+ *  on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *  express or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+import type { HttpRequest } from "@smithy/protocol-http";
+
+/**
+ * Determines whether a request body should be parsed incrementally from its stream rather than
+ * collected into memory first. Bodies without a valid content-length, such as chunked uploads,
+ * have an unknown size and are always treated as exceeding the threshold.
+ *
+ * @param request the incoming {@link HttpRequest}
+ * @param threshold the body size in bytes above which the body is considered large
+ * @return true if the body is larger than the threshold or of unknown size
+ */
+export const exceedsBodyThreshold = (request: HttpRequest, threshold: number): boolean => {
+  for (const name in request.headers) {
+    if (name.toLowerCase() === "content-length") {
+      const contentLength = Number(request.headers[name]);
+      return !Number.isInteger(contentLength) || contentLength < 0 || contentLength > threshold;
+    }
+  }
+  return true;
+};
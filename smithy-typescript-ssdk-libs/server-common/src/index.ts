@@ -20,6 +20,7 @@ import type { ServiceException } from "./errors";
 
 export * as httpbinding from "./httpbinding";
 export * from "./accept";
+export * from "./body";
 export * from "./errors";
 export * from "./validation";
 export * from "./unique";